@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Run benchmarks and compare scores against checked in baseline.
+ * <p>
+ * Usage: <code>java -cp benchmarks.jar com.b3dgs.lionheart.BenchmarkBaseline [include regex]</code>, from the module
+ * folder. Each score (average time, lower is better) slower than baseline by more than tolerance is reported, and exit
+ * code is 1. Missing entries are reported as new. Use <code>-Dbaseline.update=true</code> on the reference machine to
+ * record current scores.
+ * </p>
+ * <p>
+ * Baseline first line is a comment noting the JVM and hardware scores were recorded on. A warning is logged when
+ * current machine differs, as scores are then not comparable.
+ * </p>
+ */
+public final class BenchmarkBaseline
+{
+    /** Baseline file. */
+    private static final Path BASELINE = Paths.get("baselines", "baseline.csv");
+    /** CSV header. */
+    private static final String HEADER = "benchmark,params,score,unit";
+    /** CSV separator. */
+    private static final String SEPARATOR = ",";
+    /** Machine comment prefix. */
+    private static final String COMMENT = "# ";
+    /** Default tolerance. */
+    private static final String TOLERANCE = "0.10";
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BenchmarkBaseline.class);
+
+    /**
+     * Main function.
+     * 
+     * @param args The arguments (optional include regex).
+     * @throws RunnerException If benchmark error.
+     * @throws IOException If baseline error.
+     */
+    public static void main(String[] args) throws RunnerException, IOException
+    {
+        final String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        final Collection<RunResult> results = new Runner(new OptionsBuilder().include(include).build()).run();
+
+        final List<String> machine = new ArrayList<>();
+        final Map<String, String[]> baseline = read(machine);
+        final String current = getMachine();
+        if (!machine.isEmpty() && !machine.get(0).equals(current))
+        {
+            LOGGER.warn("Baseline recorded on another machine: {} (current: {})", machine.get(0), current);
+        }
+        final double tolerance = Double.parseDouble(System.getProperty("baseline.tolerance", TOLERANCE));
+        int regressions = 0;
+        for (final RunResult result : results)
+        {
+            final String key = getKey(result.getParams());
+            final double score = result.getPrimaryResult().getScore();
+            final String unit = result.getPrimaryResult().getScoreUnit();
+            final String[] previous = baseline.get(key);
+            if (previous == null)
+            {
+                LOGGER.info("NEW {} {} {}", key, format(score), unit);
+            }
+            else
+            {
+                final double reference = Double.parseDouble(previous[0]);
+                final double ratio = score / reference;
+                final boolean regression = ratio > 1.0 + tolerance;
+                if (regression)
+                {
+                    regressions++;
+                }
+                LOGGER.info("{} {} {} / {} {} ({})",
+                            regression ? "SLOWER" : "OK",
+                            key,
+                            format(score),
+                            previous[0],
+                            unit,
+                            String.format(Locale.ENGLISH, "%+.1f%%", Double.valueOf((ratio - 1.0) * 100)));
+            }
+            baseline.put(key, new String[]
+            {
+                format(score), unit
+            });
+        }
+
+        if (Boolean.getBoolean("baseline.update"))
+        {
+            write(current, baseline);
+        }
+        else if (regressions > 0)
+        {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Get result key.
+     * 
+     * @param params The benchmark parameters.
+     * @return The key (benchmark and parameters).
+     */
+    private static String getKey(BenchmarkParams params)
+    {
+        final List<String> values = new ArrayList<>();
+        for (final String key : params.getParamsKeys())
+        {
+            values.add(key + "=" + params.getParam(key));
+        }
+        return params.getBenchmark() + SEPARATOR + String.join(";", values);
+    }
+
+    /**
+     * Get machine description.
+     * 
+     * @return The JVM and hardware description.
+     */
+    private static String getMachine()
+    {
+        return String.format(Locale.ENGLISH,
+                             "jvm=%s %s; os=%s %s; arch=%s; cpus=%d; heap=%dMB",
+                             System.getProperty("java.vm.name"),
+                             System.getProperty("java.vm.version"),
+                             System.getProperty("os.name"),
+                             System.getProperty("os.version"),
+                             System.getProperty("os.arch"),
+                             Integer.valueOf(Runtime.getRuntime().availableProcessors()),
+                             Long.valueOf(Runtime.getRuntime().maxMemory() / 1024L / 1024L));
+    }
+
+    /**
+     * Format score.
+     * 
+     * @param score The score.
+     * @return The formatted score.
+     */
+    private static String format(double score)
+    {
+        return String.format(Locale.ENGLISH, "%.3f", Double.valueOf(score));
+    }
+
+    /**
+     * Read baseline.
+     * 
+     * @param machine The recorded machine description output.
+     * @return The baseline by key (score and unit).
+     * @throws IOException If read error.
+     */
+    private static Map<String, String[]> read(List<String> machine) throws IOException
+    {
+        final Map<String, String[]> baseline = new TreeMap<>();
+        if (Files.exists(BASELINE))
+        {
+            for (final String line : Files.readAllLines(BASELINE, StandardCharsets.UTF_8))
+            {
+                if (line.startsWith(COMMENT))
+                {
+                    machine.add(line.substring(COMMENT.length()));
+                }
+                else
+                {
+                    readEntry(baseline, line);
+                }
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Read baseline entry.
+     * 
+     * @param baseline The baseline output.
+     * @param line The line to read.
+     */
+    private static void readEntry(Map<String, String[]> baseline, String line)
+    {
+        final String[] split = line.split(SEPARATOR);
+        if (split.length == 4 && !line.equals(HEADER))
+        {
+            baseline.put(split[0] + SEPARATOR + split[1], new String[]
+            {
+                split[2], split[3]
+            });
+        }
+    }
+
+    /**
+     * Write baseline.
+     * 
+     * @param machine The machine description.
+     * @param baseline The baseline to write.
+     * @throws IOException If write error.
+     */
+    private static void write(String machine, Map<String, String[]> baseline) throws IOException
+    {
+        final List<String> lines = new ArrayList<>();
+        lines.add(COMMENT + machine);
+        lines.add(HEADER);
+        for (final Map.Entry<String, String[]> entry : baseline.entrySet())
+        {
+            lines.add(entry.getKey() + SEPARATOR + entry.getValue()[0] + SEPARATOR + entry.getValue()[1]);
+        }
+        Files.createDirectories(BASELINE.getParent());
+        Files.write(BASELINE, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Private constructor.
+     */
+    private BenchmarkBaseline()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
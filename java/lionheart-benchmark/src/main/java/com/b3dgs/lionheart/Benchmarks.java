@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.audio.AudioFactory;
+import com.b3dgs.lionengine.audio.AudioVoidFormat;
+import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+import com.b3dgs.lionengine.game.Configurer;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Handler;
+import com.b3dgs.lionengine.game.feature.collidable.Collidable;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGame;
+import com.b3dgs.lionengine.game.feature.tile.map.persister.MapTilePersister;
+import com.b3dgs.lionengine.game.feature.tile.map.transition.TileSheetsConfig;
+import com.b3dgs.lionengine.io.FileReading;
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Benchmarks shared setup.
+ */
+final class Benchmarks
+{
+    /**
+     * Start engine with game resources and void audio.
+     * 
+     * @param benchmark The benchmark class.
+     */
+    static void start(Class<?> benchmark)
+    {
+        EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, benchmark);
+        AudioFactory.addFormat(new AudioVoidFormat(Arrays.asList("wav", "sc68")));
+        Settings.load();
+    }
+
+    /**
+     * Import stage configuration.
+     * 
+     * @param stage The stage media.
+     * @return The stage configuration.
+     */
+    static StageConfig importStage(Media stage)
+    {
+        return StageConfig.imports(new Configurer(stage));
+    }
+
+    /**
+     * Create stage map with its sheets, without tiles.
+     * 
+     * @param config The stage configuration.
+     * @return The created map.
+     */
+    static MapTileGame createMap(StageConfig config)
+    {
+        final MapTileGame map = new MapTileGame();
+        map.addFeature(new MapTilePersisterOptimized());
+        map.loadSheets(Medias.create(Folder.LEVEL,
+                                     config.getBackground().getWorld().getFolder(),
+                                     TileSheetsConfig.FILENAME));
+        return map;
+    }
+
+    /**
+     * Load map tiles.
+     * 
+     * @param map The map reference.
+     * @param media The map file.
+     */
+    static void loadTiles(MapTile map, Media media)
+    {
+        try (FileReading reading = new FileReading(media))
+        {
+            map.getFeature(MapTilePersister.class).load(reading);
+        }
+        catch (final IOException exception)
+        {
+            throw new LionEngineException(exception);
+        }
+    }
+
+    /**
+     * Create and start headless stage simulation, loaded and ready to step.
+     * 
+     * @param stage The stage media.
+     * @param input The scripted input.
+     * @return The started simulation.
+     */
+    static Simulation startSimulation(Media stage, SimulationInput input)
+    {
+        final Simulation simulation = new Simulation(new GameConfig().with(new InitConfig(stage,
+                                                                                         1,
+                                                                                         1,
+                                                                                         1,
+                                                                                         1,
+                                                                                         true,
+                                                                                         1,
+                                                                                         Difficulty.NORMAL,
+                                                                                         false,
+                                                                                         Optional.empty())),
+                                                     input);
+        simulation.start();
+        return simulation;
+    }
+
+    /**
+     * Get simulation handler.
+     * 
+     * @param simulation The started simulation.
+     * @return The handler reference.
+     */
+    static Handler getHandler(Simulation simulation)
+    {
+        return simulation.getScene().getServices().get(Handler.class);
+    }
+
+    /**
+     * Find first player in handler.
+     * 
+     * @param handler The handler reference.
+     * @return The player found.
+     * @throws LionEngineException If no player.
+     */
+    static Featurable findPlayer(Handler handler)
+    {
+        for (final Featurable featurable : handler.values())
+        {
+            if (featurable.hasFeature(Collidable.class)
+                && Constant.COLL_GROUP_PLAYER.equals(featurable.getFeature(Collidable.class).getGroup()))
+            {
+                return featurable;
+            }
+        }
+        throw new LionEngineException("No player found");
+    }
+
+    /**
+     * Private constructor.
+     */
+    private Benchmarks()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
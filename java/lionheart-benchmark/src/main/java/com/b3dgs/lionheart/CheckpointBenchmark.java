@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.Setup;
+import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionengine.game.feature.TransformableModel;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Benchmark {@link CheckpointHandler#update(double)} with players spread along the stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckpointBenchmark
+{
+    /** Stage. */
+    @Param(
+    {
+        "STAGE1", "STAGE6", "STAGE13"
+    }) public Stage stage;
+    /** Players count. */
+    @Param(
+    {
+        "1", "2", "4"
+    }) public int players;
+
+    private CheckpointHandler checkpoints;
+    private Transformable[] transformables;
+    private int frame;
+
+    /**
+     * Start engine, load stage map and checkpoints, and register players.
+     */
+    @org.openjdk.jmh.annotations.Setup(Level.Trial)
+    public void setup()
+    {
+        Benchmarks.start(CheckpointBenchmark.class);
+
+        final StageConfig config = Benchmarks.importStage(stage);
+        final Services services = new Services();
+        final MapTile map = services.add(Benchmarks.createMap(config));
+        Benchmarks.loadTiles(map, config.getMapFile());
+        services.add((CheatsProvider) () -> false);
+
+        checkpoints = new CheckpointHandler(services);
+        checkpoints.load(config, Optional.empty());
+
+        final Setup setup = new Setup(Medias.create(Folder.HERO, "valdyn", "Valdyn.xml"));
+        transformables = new Transformable[players];
+        for (int i = 0; i < players; i++)
+        {
+            transformables[i] = new TransformableModel(services, setup);
+            checkpoints.register(transformables[i]);
+        }
+    }
+
+    /**
+     * Terminate engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        Engine.terminate();
+    }
+
+    /**
+     * Move players then update checkpoints.
+     * 
+     * @return The checkpoint handler.
+     */
+    @Benchmark
+    public CheckpointHandler update()
+    {
+        frame++;
+        for (int i = 0; i < transformables.length; i++)
+        {
+            transformables[i].teleport(frame * (i + 1) % 4096, 64.0);
+        }
+        checkpoints.update(1.0);
+        return checkpoints;
+    }
+}
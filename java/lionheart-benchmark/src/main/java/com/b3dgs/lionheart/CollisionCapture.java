@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.game.FeatureProvider;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.collidable.Collidable;
+import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
+import com.b3dgs.lionengine.game.feature.collidable.Collision;
+
+/**
+ * First player collision captured from a headless run, replayed by collision benchmarks.
+ */
+final class CollisionCapture implements CollidableListener
+{
+    /** Maximum simulated frames. */
+    private static final int FRAMES = 3000;
+    /** Attack period in frames. */
+    private static final int PERIOD = 30;
+
+    /**
+     * Run stage walking right and attacking until player collides.
+     * 
+     * @param stage The stage value.
+     * @return The started simulation and captured collision.
+     * @throws LionEngineException If no collision in time.
+     */
+    static CollisionCapture run(Stage stage)
+    {
+        final SimulationInput input = new SimulationInput();
+        input.press(0, DeviceMapping.RIGHT, FRAMES);
+        for (int frame = 0; frame < FRAMES; frame += PERIOD)
+        {
+            input.press(frame, DeviceMapping.ATTACK, 2);
+        }
+
+        final Simulation simulation = Benchmarks.startSimulation(stage, input);
+        final Featurable player = Benchmarks.findPlayer(Benchmarks.getHandler(simulation));
+        final CollisionCapture capture = new CollisionCapture(simulation, player);
+        player.getFeature(Collidable.class).addListener(capture);
+
+        for (int frame = 0; frame < FRAMES && capture.other == null; frame++)
+        {
+            simulation.step(frame);
+        }
+        if (capture.other == null)
+        {
+            simulation.stop();
+            throw new LionEngineException("No collision captured: " + stage.getPath());
+        }
+        return capture;
+    }
+
+    private final Simulation simulation;
+    private final Featurable player;
+    private FeatureProvider other;
+    private Collision with;
+    private Collision by;
+
+    /**
+     * Create capture.
+     * 
+     * @param simulation The simulation reference.
+     * @param player The player reference.
+     */
+    private CollisionCapture(Simulation simulation, Featurable player)
+    {
+        super();
+
+        this.simulation = simulation;
+        this.player = player;
+    }
+
+    /**
+     * Replay captured collision to listener.
+     * 
+     * @param listener The listener to notify.
+     */
+    void replay(CollidableListener listener)
+    {
+        listener.notifyCollided(other, with, by);
+    }
+
+    /**
+     * Get simulation.
+     * 
+     * @return The simulation reference.
+     */
+    Simulation getSimulation()
+    {
+        return simulation;
+    }
+
+    /**
+     * Get player.
+     * 
+     * @return The player reference.
+     */
+    Featurable getPlayer()
+    {
+        return player;
+    }
+
+    @Override
+    public void notifyCollided(FeatureProvider collidable, Collision with, Collision by)
+    {
+        if (other == null)
+        {
+            other = collidable;
+            this.with = with;
+            this.by = by;
+        }
+    }
+}
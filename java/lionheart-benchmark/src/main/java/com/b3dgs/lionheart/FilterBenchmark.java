@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+
+/**
+ * Benchmark {@link FilterParallel} against the sequential filter for each {@link FilterType} frame filter, both
+ * wrapped by {@link FilterFade}: sequential filter is given a faded copy of the frame, when parallel filter fades its
+ * bands.
+ * <p>
+ * Setup checks that both outputs are identical before measuring.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark
+{
+    private static final int[] COLORS =
+    {
+        ColorRgba.BLACK.getRgba(),
+        ColorRgba.WHITE.getRgba(),
+        ColorRgba.RED.getRgba(),
+        ColorRgba.GREEN.getRgba(),
+        ColorRgba.BLUE.getRgba(),
+        ColorRgba.YELLOW.getRgba(),
+        ColorRgba.GRAY_LIGHT.getRgba(),
+        ColorRgba.GRAY_DARK.getRgba()
+    };
+
+    /**
+     * Check outputs are identical.
+     * 
+     * @param expected The expected output.
+     * @param actual The actual output.
+     * @throws LionEngineException If outputs differ.
+     */
+    private static void check(ImageBuffer expected, ImageBuffer actual)
+    {
+        if (expected.getWidth() != actual.getWidth() || expected.getHeight() != actual.getHeight())
+        {
+            throw new LionEngineException("Different output size !");
+        }
+        for (int y = 0; y < expected.getHeight(); y++)
+        {
+            for (int x = 0; x < expected.getWidth(); x++)
+            {
+                if (expected.getRgb(x, y) != actual.getRgb(x, y))
+                {
+                    throw new LionEngineException("Different output at " + x + ", " + y);
+                }
+            }
+        }
+    }
+
+    /** Filter type. */
+    @Param(
+    {
+        "BLUR", "HQ2X", "HQ3X", "CRT"
+    }) public FilterType type;
+    /** Source height, width keeps game ratio. */
+    @Param(
+    {
+        "208", "416"
+    }) public int height;
+    /** Fade level. */
+    @Param(
+    {
+        "0", "128"
+    }) public int fade;
+
+    private ImageBuffer source;
+    private FilterFade sequential;
+    private FilterFade parallel;
+
+    /**
+     * Create source frame and filters.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, FilterBenchmark.class);
+
+        final int width = height * Constant.RESOLUTION_GAME.getWidth() / Constant.RESOLUTION_GAME.getHeight();
+        final Random random = new Random(0L);
+        source = Graphics.createImageBuffer(width, height);
+        source.prepare();
+        for (int y = 0; y < height; y++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                source.setRgb(x, y, COLORS[random.nextInt(COLORS.length)]);
+            }
+        }
+
+        sequential = new FilterFade(FilterParallel.getFactory(type, 2).get());
+        parallel = new FilterFade(new FilterParallel(FilterParallel.getFactory(type, 2)));
+
+        check(sequential(), parallel());
+    }
+
+    /**
+     * Terminate engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        Engine.terminate();
+    }
+
+    /**
+     * Filter whole frame on caller thread.
+     * 
+     * @return The filtered frame.
+     */
+    @Benchmark
+    public ImageBuffer sequential()
+    {
+        sequential.apply(fade);
+        return sequential.filter(source);
+    }
+
+    /**
+     * Filter frame by bands on worker pool.
+     * 
+     * @return The filtered frame.
+     */
+    @Benchmark
+    public ImageBuffer parallel()
+    {
+        parallel.apply(fade);
+        return parallel.filter(source);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionheart.object.feature.Hurtable;
+
+/**
+ * Benchmark player {@link Hurtable} collision update with a collision captured from a headless run. Hurt recover
+ * delays apply, as in game when a collision lasts several frames.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HurtableBenchmark
+{
+    /** Stage. */
+    @Param(
+    {
+        "STAGE1", "STAGE6", "STAGE13"
+    }) public Stage stage;
+
+    private CollisionCapture capture;
+    private Hurtable hurtable;
+
+    /**
+     * Start engine, run stage until player collides.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Benchmarks.start(HurtableBenchmark.class);
+
+        capture = CollisionCapture.run(stage);
+        hurtable = capture.getPlayer().getFeature(Hurtable.class);
+    }
+
+    /**
+     * Terminate scene and engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        capture.getSimulation().stop();
+        Engine.terminate();
+    }
+
+    /**
+     * Update hurtable with captured collision.
+     * 
+     * @return The hurtable.
+     */
+    @Benchmark
+    public Hurtable updateCollide()
+    {
+        capture.replay(hurtable);
+        return hurtable;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGame;
+import com.b3dgs.lionengine.game.feature.tile.map.persister.MapTilePersister;
+import com.b3dgs.lionengine.io.FileWriting;
+import com.b3dgs.lionheart.constant.Extension;
+
+/**
+ * Benchmark {@link MapTilePersisterOptimized} map load and save per stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark
+{
+    /** Stage (one per world). */
+    @Param(
+    {
+        "STAGE1", "STAGE2", "STAGE6", "STAGE9", "STAGE11", "STAGE12", "STAGE13", "STAGE14"
+    }) public Stage stage;
+
+    private MapTileGame map;
+    private Media media;
+    private Media output;
+
+    /**
+     * Start engine and load map once.
+     * 
+     * @throws IOException If temporary file error.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException
+    {
+        Benchmarks.start(MapBenchmark.class);
+
+        final StageConfig config = Benchmarks.importStage(stage);
+        media = config.getMapFile();
+        map = Benchmarks.createMap(config);
+        Benchmarks.loadTiles(map, media);
+
+        final File file = File.createTempFile(MapBenchmark.class.getSimpleName(), Extension.MAP);
+        file.deleteOnExit();
+        output = Medias.get(file);
+    }
+
+    /**
+     * Terminate engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        Engine.terminate();
+    }
+
+    /**
+     * Load map tiles.
+     * 
+     * @return The loaded map.
+     */
+    @Benchmark
+    public MapTileGame load()
+    {
+        Benchmarks.loadTiles(map, media);
+        return map;
+    }
+
+    /**
+     * Save map tiles.
+     * 
+     * @return The saved map.
+     */
+    @Benchmark
+    public Media save()
+    {
+        try (FileWriting writing = new FileWriting(output))
+        {
+            map.getFeature(MapTilePersister.class).save(writing);
+        }
+        catch (final IOException exception)
+        {
+            throw new LionEngineException(exception);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
+import com.b3dgs.lionengine.game.feature.state.StateHandler;
+
+/**
+ * Benchmark player state collision dispatch ({@link StateHandler} to current state) with a collision captured from a
+ * headless run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateBenchmark
+{
+    /** Stage. */
+    @Param(
+    {
+        "STAGE1", "STAGE6", "STAGE13"
+    }) public Stage stage;
+
+    private CollisionCapture capture;
+    private CollidableListener dispatch;
+
+    /**
+     * Start engine, run stage until player collides.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Benchmarks.start(StateBenchmark.class);
+
+        capture = CollisionCapture.run(stage);
+        final StateHandler state = capture.getPlayer().getFeature(StateHandler.class);
+        if (state instanceof final CollidableListener listener)
+        {
+            dispatch = listener;
+        }
+        else
+        {
+            throw new LionEngineException("State handler does not dispatch collisions");
+        }
+    }
+
+    /**
+     * Terminate scene and engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        capture.getSimulation().stop();
+        Engine.terminate();
+    }
+
+    /**
+     * Dispatch captured collision to current state.
+     * 
+     * @return The dispatcher.
+     */
+    @Benchmark
+    public CollidableListener dispatch()
+    {
+        capture.replay(dispatch);
+        return dispatch;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.game.feature.Camera;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+
+/**
+ * Benchmark {@link MapTileWater#render(Graphic)} into an offscreen buffer, on water and lava stages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaterBenchmark
+{
+    /** Stage with water or lava. */
+    @Param(
+    {
+        "STAGE1", "STAGE3", "STAGE9"
+    }) public Stage stage;
+    /** Water height. */
+    @Param(
+    {
+        "24", "80"
+    }) public int height;
+
+    private MapTileWater water;
+    private ImageBuffer buffer;
+    private Graphic g;
+
+    /**
+     * Start engine, load stage map and water tiles.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Benchmarks.start(WaterBenchmark.class);
+
+        final StageConfig config = Benchmarks.importStage(stage);
+        final Services services = new Services();
+        final MapTile map = services.add(Benchmarks.createMap(config));
+        Benchmarks.loadTiles(map, config.getMapFile());
+
+        final int width = Constant.RESOLUTION_GAME.getWidth();
+        final int screen = Constant.RESOLUTION_GAME.getHeight();
+        final Camera camera = services.add(new Camera());
+        camera.setView(0, 0, width, screen, screen);
+        camera.setLimits(map);
+
+        water = new MapTileWater(services);
+        water.create(config.getBackground().getWorld(), config.getRasterFolder().orElseThrow());
+        water.setWaterHeight(height);
+
+        buffer = Graphics.createImageBuffer(width, screen);
+        buffer.prepare();
+        g = buffer.createGraphic();
+    }
+
+    /**
+     * Release buffer and terminate engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        g.dispose();
+        buffer.dispose();
+        Engine.terminate();
+    }
+
+    /**
+     * Render water on screen.
+     * 
+     * @return The output buffer.
+     */
+    @Benchmark
+    public ImageBuffer render()
+    {
+        water.render(g);
+        return buffer;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Engine;
+
+/**
+ * Benchmark stage entities creation on a headless loaded stage, through {@link LoadNextStage#reloadStage()}. Reload
+ * destroys stage entities and creates them again on next update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark
+{
+    /** Stage. */
+    @Param(
+    {
+        "STAGE1", "STAGE6", "STAGE13"
+    }) public Stage stage;
+
+    private Simulation simulation;
+    private LoadNextStage loader;
+    private int frame;
+
+    /**
+     * Start engine and load stage headless.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Benchmarks.start(WorldBenchmark.class);
+
+        simulation = Benchmarks.startSimulation(stage, new SimulationInput());
+        loader = simulation.getScene().getServices().get(LoadNextStage.class);
+    }
+
+    /**
+     * Terminate scene and engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        simulation.stop();
+        Engine.terminate();
+    }
+
+    /**
+     * Reload stage entities.
+     */
+    @Benchmark
+    public void reloadStage()
+    {
+        loader.reloadStage();
+        simulation.step(frame++);
+    }
+}
@@ -21,11 +21,8 @@ import java.util.function.IntSupplier;
 import com.b3dgs.lionengine.Align;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
-import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.Renderable;
-import com.b3dgs.lionengine.graphic.Text;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionengine.io.DeviceController;
 
@@ -41,28 +38,16 @@ public class AppInfo implements Updatable, Renderable
                                          + com.b3dgs.lionengine.Constant.SPACE
                                          + com.b3dgs.lionengine.Constant.ENGINE_VERSION;
 
-    /**
-     * Set text data.
-     * 
-     * @param text The text object.
-     * @param value The text value.
-     * @param align The align used.
-     */
-    private static void setText(Text text, String value, Align align)
-    {
-        text.setAlign(align);
-        text.setText(value);
-        text.setColor(ColorRgba.GRAY_LIGHT);
-    }
-
-    private final Text textName;
-    private final Text textFps;
-    private final Text textEngine;
+    private final TextAtlas text;
+    private final FramePacing pacing = FramePacing.getInstance();
     private final DeviceController device;
     private final IntSupplier fps;
 
+    private String textFps;
     private boolean show;
     private int fpsOld;
+    private int width;
+    private int y;
 
     /**
      * Create info.
@@ -78,15 +63,8 @@ public class AppInfo implements Updatable, Renderable
 
         final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
-        final int size = Math.max(9,
-                                  9 * (int) Math.floor(source.getHeight() / (double) Constant.RESOLUTION.getHeight()));
-        textName = Graphics.createText(size);
-        textFps = Graphics.createText(size);
-        textEngine = Graphics.createText(size);
-
-        setText(textEngine, ENGINE, Align.LEFT);
-        setText(textFps, String.valueOf(source.getRate()), Align.CENTER);
-        setText(textName, NAME, Align.RIGHT);
+        text = TextAtlas.createDefault(TextAtlas.getSize(source));
+        textFps = String.valueOf(source.getRate());
 
         onResolutionChanged(source.getWidth(), source.getHeight());
 
@@ -101,9 +79,8 @@ public class AppInfo implements Updatable, Renderable
      */
     public final void onResolutionChanged(int width, int height)
     {
-        textEngine.setLocation(0, height - textEngine.getSize());
-        textFps.setLocation(width / 2, height - textFps.getSize());
-        textName.setLocation(width, height - textName.getSize());
+        this.width = width;
+        y = height - text.getHeight();
     }
 
     @Override
@@ -115,18 +92,38 @@ public class AppInfo implements Updatable, Renderable
         if (current != fpsOld)
         {
             fpsOld = current;
-            textFps.setText(String.valueOf(current));
+            textFps = String.valueOf(current);
         }
     }
 
     @Override
     public void render(Graphic g)
     {
+        pacing.record();
         if (show)
         {
-            textEngine.render(g);
-            textFps.render(g);
-            textName.render(g);
+            text.draw(g, 0, y, Align.LEFT, ENGINE);
+            text.draw(g, width / 2, y, Align.CENTER, textFps);
+            text.draw(g, width, y, Align.RIGHT, NAME);
+            pacing.render(g, text, 0, y);
         }
     }
+
+    /**
+     * Check if info is currently shown.
+     * 
+     * @return <code>true</code> if shown, <code>false</code> else.
+     */
+    public boolean isShown()
+    {
+        return show;
+    }
+
+    /**
+     * Release texts.
+     */
+    public void dispose()
+    {
+        text.dispose();
+    }
 }
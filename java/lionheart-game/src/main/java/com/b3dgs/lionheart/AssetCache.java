@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.game.Configurer;
+import com.b3dgs.lionengine.game.feature.tile.map.TileSheetsConfig;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.drawable.Drawable;
+import com.b3dgs.lionengine.graphic.drawable.SpriteTiled;
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Process wide assets cache, surviving sequence transitions.
+ * <p>
+ * Assets are grouped by {@link WorldType} (which is also the theme folder), and each world using them holds a reference
+ * between {@link #acquire(WorldType)} and {@link #release(WorldType)}. Unreferenced assets are retained until another
+ * world is acquired, so consecutive stages of the same world start from warm tile sheets, water tiles and raster
+ * images, and are then disposed. Parsed stage configurations are kept for the whole process as they are small.
+ * </p>
+ * <p>
+ * Assets are loaded outside of the cache lock: the first caller loads and completes the asset future, while concurrent
+ * callers of the same asset wait for it, so other assets remain available meanwhile.
+ * </p>
+ * <p>
+ * Cached assets are shared and must be considered read only.
+ * </p>
+ */
+public final class AssetCache
+{
+    /** Instance. */
+    private static final AssetCache INSTANCE = new AssetCache();
+
+    /**
+     * Get the cache instance.
+     * 
+     * @return The cache instance.
+     */
+    public static AssetCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Load sheets.
+     * 
+     * @param world The world reference.
+     * @return The loaded sheets.
+     */
+    private static List<SpriteTiled> loadSheets(WorldType world)
+    {
+        final Media config = Medias.create(Folder.LEVEL, world.getFolder(), TileSheetsConfig.FILENAME);
+        final TileSheetsConfig sheets = TileSheetsConfig.imports(config);
+        final int tw = sheets.getTileWidth();
+        final int th = sheets.getTileHeight();
+
+        final List<SpriteTiled> loaded = new ArrayList<>();
+        for (final String sheet : sheets.getSheets())
+        {
+            final Media media = Medias.create(config.getParentPath(), sheet);
+            final SpriteTiled sprite = Drawable.loadSpriteTiled(media, tw, th);
+            sprite.load();
+            sprite.prepare();
+            loaded.add(sprite);
+        }
+        return loaded;
+    }
+
+    /**
+     * Load water tiles.
+     * 
+     * @param folder The raster folder.
+     * @param tw The tile width.
+     * @param th The tile height, which is also the number of water tiles.
+     * @return The loaded water tiles.
+     */
+    private static SpriteTiled[] loadWater(String folder, int tw, int th)
+    {
+        final SpriteTiled[] tiles = new SpriteTiled[th];
+        for (int i = 0; i < tiles.length; i++)
+        {
+            tiles[i] = Drawable.loadSpriteTiled(Medias.create(folder, "water", i + ".png"), tw, th);
+            tiles[i].load();
+            tiles[i].prepare();
+        }
+        return tiles;
+    }
+
+    private final Map<String, StageConfig> stages = new ConcurrentHashMap<>();
+    private final Map<WorldType, Assets> worlds = new EnumMap<>(WorldType.class);
+
+    /**
+     * Private constructor.
+     */
+    private AssetCache()
+    {
+        super();
+    }
+
+    /**
+     * Acquire world assets, and dispose unreferenced assets of other worlds.
+     * 
+     * @param world The world to acquire.
+     */
+    public synchronized void acquire(WorldType world)
+    {
+        final Iterator<Map.Entry<WorldType, Assets>> iterator = worlds.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<WorldType, Assets> entry = iterator.next();
+            if (entry.getKey() != world && entry.getValue().references == 0)
+            {
+                iterator.remove();
+                entry.getValue().dispose();
+            }
+        }
+        get(world).references++;
+    }
+
+    /**
+     * Release world assets. Assets are retained until another world is acquired.
+     * 
+     * @param world The world to release.
+     */
+    public synchronized void release(WorldType world)
+    {
+        final Assets assets = worlds.get(world);
+        if (assets != null && assets.references > 0)
+        {
+            assets.references--;
+        }
+    }
+
+    /**
+     * Get stage configuration, parsed once. Does not wait for assets loading.
+     * 
+     * @param stage The stage media.
+     * @return The stage configuration.
+     */
+    public StageConfig getStage(Media stage)
+    {
+        return stages.computeIfAbsent(stage.getPath(), p -> StageConfig.imports(new Configurer(stage)));
+    }
+
+    /**
+     * Get world tile sheets, loaded once.
+     * 
+     * @param world The world reference.
+     * @return The loaded tile sheets (new list of shared sheets).
+     */
+    public List<SpriteTiled> getSheets(WorldType world)
+    {
+        return new ArrayList<>(get(world, a -> a.sheets, world.getFolder(), () -> loadSheets(world)));
+    }
+
+    /**
+     * Get water tiles of raster folder, loaded once.
+     * 
+     * @param world The world reference.
+     * @param folder The raster folder.
+     * @param tw The tile width.
+     * @param th The tile height, which is also the number of water tiles.
+     * @return The loaded water tiles.
+     */
+    public SpriteTiled[] getWater(WorldType world, String folder, int tw, int th)
+    {
+        final String key = folder + ':' + tw + 'x' + th;
+        return get(world, a -> a.waters, key, () -> loadWater(folder, tw, th)).clone();
+    }
+
+    /**
+     * Get image, loaded once.
+     * 
+     * @param world The world reference.
+     * @param media The image media.
+     * @return The loaded image.
+     */
+    public ImageBuffer getImage(WorldType world, Media media)
+    {
+        return get(world, a -> a.images, media.getPath(), () -> Graphics.getImageBuffer(media));
+    }
+
+    /**
+     * Get asset, loaded once outside of the cache lock. Waits if asset is being loaded by another thread.
+     * 
+     * @param <T> The asset type.
+     * @param world The world reference.
+     * @param loads The world assets loads.
+     * @param key The asset key.
+     * @param loader The asset loader.
+     * @return The loaded asset.
+     */
+    private <T> T get(WorldType world,
+                      Function<Assets, Map<String, CompletableFuture<T>>> loads,
+                      String key,
+                      Supplier<T> loader)
+    {
+        final Assets assets;
+        final CompletableFuture<T> future;
+        final boolean owner;
+        synchronized (this)
+        {
+            assets = get(world);
+            final Map<String, CompletableFuture<T>> futures = loads.apply(assets);
+            final CompletableFuture<T> current = futures.get(key);
+            owner = current == null;
+            future = owner ? new CompletableFuture<>() : current;
+            futures.put(key, future);
+        }
+        if (owner)
+        {
+            try
+            {
+                future.complete(loader.get());
+            }
+            catch (final RuntimeException exception)
+            {
+                synchronized (this)
+                {
+                    loads.apply(assets).remove(key, future);
+                }
+                future.completeExceptionally(exception);
+                throw exception;
+            }
+            synchronized (this)
+            {
+                if (assets.evicted)
+                {
+                    assets.dispose();
+                }
+            }
+        }
+        return future.join();
+    }
+
+    /**
+     * Get world assets, created if missing.
+     * 
+     * @param world The world reference.
+     * @return The world assets.
+     */
+    private Assets get(WorldType world)
+    {
+        return worlds.computeIfAbsent(world, w -> new Assets());
+    }
+
+    /**
+     * World assets.
+     */
+    private static final class Assets
+    {
+        /**
+         * Dispose loaded assets and remove them. Assets still loading are kept.
+         * 
+         * @param <T> The asset type.
+         * @param futures The assets futures.
+         * @param disposer The asset disposer.
+         */
+        private static <T> void dispose(Map<String, CompletableFuture<T>> futures, Consumer<T> disposer)
+        {
+            final Iterator<CompletableFuture<T>> iterator = futures.values().iterator();
+            while (iterator.hasNext())
+            {
+                final CompletableFuture<T> future = iterator.next();
+                if (future.isDone())
+                {
+                    iterator.remove();
+                    if (!future.isCompletedExceptionally())
+                    {
+                        disposer.accept(future.join());
+                    }
+                }
+            }
+        }
+
+        private final Map<String, CompletableFuture<ImageBuffer>> images = new HashMap<>();
+        private final Map<String, CompletableFuture<SpriteTiled[]>> waters = new HashMap<>();
+        private final Map<String, CompletableFuture<List<SpriteTiled>>> sheets = new HashMap<>();
+        private int references;
+        private boolean evicted;
+
+        /**
+         * Create assets.
+         */
+        Assets()
+        {
+            super();
+        }
+
+        /**
+         * Dispose loaded surfaces. Surfaces still loading are disposed by their loader once done.
+         */
+        void dispose()
+        {
+            evicted = true;
+            dispose(images, ImageBuffer::dispose);
+            dispose(waters, tiles ->
+            {
+                for (final SpriteTiled tile : tiles)
+                {
+                    tile.dispose();
+                }
+            });
+            dispose(sheets, list -> list.forEach(SpriteTiled::dispose));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Deque;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import com.b3dgs.lionengine.Align;
 import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.Tick;
 import com.b3dgs.lionengine.game.feature.Camera;
@@ -31,10 +32,7 @@ import com.b3dgs.lionengine.game.feature.RoutineRender;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
-import com.b3dgs.lionengine.graphic.Graphics;
-import com.b3dgs.lionengine.graphic.Text;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionengine.io.DeviceControllerListener;
@@ -52,7 +50,9 @@ public class ChatHandler extends FeatureModel implements RoutineUpdate, RoutineR
     private static final int MESSAGE_CORRECT_KEY = 8;
     private static final String MESSAGE_START = ">";
 
-    private final Text text = Graphics.createText(9);
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, ChatHandler.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, ChatHandler.class);
+    private final TextAtlas text = TextAtlas.createDefault(TextAtlas.SIZE_MIN);
     private final Deque<String> messagesShort = new ArrayDeque<>(MESSAGES_MAX);
     private final AtomicReference<StringBuilder> builder = new AtomicReference<>(new StringBuilder());
     private final Tick tick = new Tick();
@@ -193,28 +193,36 @@ public class ChatHandler extends FeatureModel implements RoutineUpdate, RoutineR
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
-        g.setColor(ColorRgba.WHITE);
+        final long profiled = probeRender.begin();
         if (typing)
         {
-            text.draw(g, MESSAGES_POS_X, camera.getHeight() - (text.getSize() + 1) * MESSAGES_MAX - 2, current);
+            text.drawDirect(g,
+                            MESSAGES_POS_X,
+                            camera.getHeight() - (text.getHeight() + 1) * MESSAGES_MAX - 2,
+                            Align.LEFT,
+                            current);
         }
         int y = 0;
         for (final String message : messagesShort)
         {
-            text.draw(g, MESSAGES_POS_X, y + camera.getHeight() - text.getSize() * MESSAGES_MAX, message);
-            y += text.getSize();
+            text.draw(g, MESSAGES_POS_X, y + camera.getHeight() - text.getHeight() * MESSAGES_MAX, Align.LEFT, message);
+            y += text.getHeight();
         }
+        probeRender.end(profiled);
     }
 
     @Override
     public void notifyDestroyed(Integer id)
     {
         device.removeListener(listener);
+        text.dispose();
     }
 }
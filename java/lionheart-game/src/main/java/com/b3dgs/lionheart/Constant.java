@@ -109,6 +109,8 @@ public final class Constant
     public static final String FILE_PROGRESS = "progress.lhr";
     /** Quick save and load file. */
     public static final String FILE_SNAPSHOT = "snapshot.lhr";
+    /** Profiler dump file. */
+    public static final String FILE_PROFILE = "profile.csv";
 
     /** Minimum zoom. */
     public static final double ZOOM_MIN = 0.8;
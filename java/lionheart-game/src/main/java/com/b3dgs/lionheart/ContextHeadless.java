@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.b3dgs.lionengine.Config;
+import com.b3dgs.lionengine.Context;
+import com.b3dgs.lionengine.InputDevice;
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Context without screen, used to run a sequence headless.
+ * <p>
+ * Registered devices are returned by type, any other device interface is served by an inert implementation (never
+ * pushed, zero values), so sequences can be created without a window nor physical input.
+ * </p>
+ */
+public final class ContextHeadless implements Context
+{
+    /** Unsupported device error. */
+    private static final String ERROR_DEVICE = "Unsupported headless device: ";
+
+    /**
+     * Get default value of type.
+     * 
+     * @param type The value type.
+     * @return The default value.
+     */
+    private static Object getDefault(Class<?> type)
+    {
+        final Object value;
+        if (type == boolean.class)
+        {
+            value = Boolean.FALSE;
+        }
+        else if (type == int.class)
+        {
+            value = Integer.valueOf(0);
+        }
+        else if (type == long.class)
+        {
+            value = Long.valueOf(0L);
+        }
+        else if (type == double.class)
+        {
+            value = Double.valueOf(0.0);
+        }
+        else if (type == float.class)
+        {
+            value = Float.valueOf(0.0F);
+        }
+        else if (type == short.class)
+        {
+            value = Short.valueOf((short) 0);
+        }
+        else if (type == byte.class)
+        {
+            value = Byte.valueOf((byte) 0);
+        }
+        else if (type == char.class)
+        {
+            value = Character.valueOf('\0');
+        }
+        else if (type == Optional.class)
+        {
+            value = Optional.empty();
+        }
+        else
+        {
+            value = null;
+        }
+        return value;
+    }
+
+    /**
+     * Invoke inert device method.
+     * 
+     * @param proxy The device proxy.
+     * @param method The invoked method.
+     * @param args The method arguments.
+     * @return The default value of method return type.
+     */
+    private static Object invokeVoid(Object proxy, Method method, Object[] args)
+    {
+        if ("equals".equals(method.getName()) && args != null && args.length == 1)
+        {
+            return Boolean.valueOf(proxy == args[0]);
+        }
+        if ("hashCode".equals(method.getName()) && args == null)
+        {
+            return Integer.valueOf(System.identityHashCode(proxy));
+        }
+        if ("toString".equals(method.getName()) && args == null)
+        {
+            return ContextHeadless.class.getSimpleName();
+        }
+        return getDefault(method.getReturnType());
+    }
+
+    /**
+     * Create inert device.
+     * 
+     * @param type The device interface.
+     * @return The inert device.
+     */
+    private static InputDevice createVoid(Class<?> type)
+    {
+        return (InputDevice) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]
+        {
+            type
+        }, ContextHeadless::invokeVoid);
+    }
+
+    private final Map<Class<?>, InputDevice> voids = new HashMap<>();
+    private final List<InputDevice> devices;
+    private final Config config;
+
+    /**
+     * Create context.
+     * 
+     * @param config The config reference (must not be <code>null</code>).
+     * @param devices The registered devices.
+     */
+    public ContextHeadless(Config config, InputDevice... devices)
+    {
+        super();
+
+        this.config = config;
+        this.devices = Arrays.asList(devices.clone());
+    }
+
+    /*
+     * Context
+     */
+
+    @Override
+    public String getName()
+    {
+        return ContextHeadless.class.getSimpleName();
+    }
+
+    @Override
+    public int getX()
+    {
+        return 0;
+    }
+
+    @Override
+    public int getY()
+    {
+        return 0;
+    }
+
+    @Override
+    public Config getConfig()
+    {
+        return config;
+    }
+
+    @Override
+    public <T extends InputDevice> T getInputDevice(Class<T> type)
+    {
+        for (int i = 0; i < devices.size(); i++)
+        {
+            final InputDevice device = devices.get(i);
+            if (type.isInstance(device))
+            {
+                return type.cast(device);
+            }
+        }
+        if (!type.isInterface())
+        {
+            throw new LionEngineException(ERROR_DEVICE + type.getName());
+        }
+        return type.cast(voids.computeIfAbsent(type, ContextHeadless::createVoid));
+    }
+}
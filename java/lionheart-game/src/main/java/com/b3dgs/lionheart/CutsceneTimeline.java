@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Resource;
+import com.b3dgs.lionengine.Updatable;
+
+/**
+ * Cutscene assets timeline, streaming resources ahead of the music synchronized {@link Time}.
+ * <p>
+ * Each cue declares the resources needed between a start and an end time. Cues starting at zero are loaded by
+ * {@link #load()}, others are loaded on a background thread {@link #LOOKAHEAD_MS} before their start and disposed
+ * {@link #RELEASE_DELAY_MS} after their end. If a cue is still loading when its start is reached, update waits for it.
+ * Cue callback is called on update thread once its resources are loaded, to prepare and setup them.
+ * </p>
+ */
+public final class CutsceneTimeline implements Updatable
+{
+    /** Cue end meaning until timeline is disposed. */
+    public static final long UNTIL_DISPOSE = Long.MAX_VALUE;
+
+    /** Loading time ahead of cue start. */
+    private static final long LOOKAHEAD_MS = 5_000L;
+    /** Release delay after cue end, letting parts finish their last transition. */
+    private static final long RELEASE_DELAY_MS = 1_000L;
+    /** Loader shared by all timelines. */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, CutsceneTimeline.class.getSimpleName());
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private final List<Cue> cues = new ArrayList<>();
+    private final Time time;
+
+    /**
+     * Create timeline.
+     * 
+     * @param time The time reference.
+     */
+    public CutsceneTimeline(Time time)
+    {
+        super();
+
+        this.time = time;
+    }
+
+    /**
+     * Add cue.
+     * 
+     * @param startMs The first use time.
+     * @param endMs The last use time, {@link #UNTIL_DISPOSE} to keep until {@link #dispose()}.
+     * @param resources The resources needed.
+     */
+    public void add(long startMs, long endMs, Resource... resources)
+    {
+        add(startMs, endMs, () ->
+        {
+            // Nothing to setup
+        }, resources);
+    }
+
+    /**
+     * Add cue.
+     * 
+     * @param startMs The first use time.
+     * @param endMs The last use time, {@link #UNTIL_DISPOSE} to keep until {@link #dispose()}.
+     * @param loaded The callback called on update thread once resources are loaded.
+     * @param resources The resources needed.
+     */
+    public void add(long startMs, long endMs, Runnable loaded, Resource... resources)
+    {
+        cues.add(new Cue(startMs, endMs, loaded, resources));
+    }
+
+    /**
+     * Load cues needed on first frame, on current thread.
+     */
+    public void load()
+    {
+        for (int i = 0; i < cues.size(); i++)
+        {
+            final Cue cue = cues.get(i);
+            if (cue.start <= 0L && cue.state == State.PENDING)
+            {
+                cue.loadResources();
+                cue.ready();
+            }
+        }
+    }
+
+    /**
+     * Dispose all loaded resources and cancel pending loads. Waits for the one being loaded.
+     */
+    public void dispose()
+    {
+        for (int i = 0; i < cues.size(); i++)
+        {
+            cues.get(i).dispose();
+        }
+        cues.clear();
+    }
+
+    /*
+     * Updatable
+     */
+
+    @Override
+    public void update(double extrp)
+    {
+        for (int i = 0; i < cues.size(); i++)
+        {
+            final Cue cue = cues.get(i);
+            if (cue.state == State.PENDING && time.isAfter(cue.start - LOOKAHEAD_MS))
+            {
+                cue.stream();
+            }
+            if (cue.state == State.STREAMING && time.isAfter(cue.start))
+            {
+                cue.await();
+                cue.ready();
+            }
+            if (cue.state == State.READY && cue.end != UNTIL_DISPOSE && time.isAfter(cue.end + RELEASE_DELAY_MS))
+            {
+                cue.release();
+            }
+        }
+    }
+
+    /**
+     * Cue state.
+     */
+    private enum State
+    {
+        /** Waiting for lookahead. */
+        PENDING,
+        /** Loading in background. */
+        STREAMING,
+        /** Loaded and usable. */
+        READY,
+        /** Disposed. */
+        RELEASED;
+    }
+
+    /**
+     * Resources needed during a time range.
+     */
+    private static final class Cue
+    {
+        private final long start;
+        private final long end;
+        private final Runnable loaded;
+        private final Resource[] resources;
+        private Future<?> future;
+        private State state = State.PENDING;
+
+        /**
+         * Create cue.
+         * 
+         * @param start The first use time.
+         * @param end The last use time.
+         * @param loaded The loaded callback.
+         * @param resources The resources needed.
+         */
+        Cue(long start, long end, Runnable loaded, Resource... resources)
+        {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.loaded = loaded;
+            this.resources = resources.clone();
+        }
+
+        /**
+         * Start background loading.
+         */
+        void stream()
+        {
+            future = EXECUTOR.submit(this::loadResources);
+            state = State.STREAMING;
+        }
+
+        /**
+         * Wait for background loading.
+         * 
+         * @throws LionEngineException If loading failed.
+         */
+        void await()
+        {
+            try
+            {
+                future.get();
+            }
+            catch (final ExecutionException exception)
+            {
+                throw new LionEngineException(exception.getCause());
+            }
+            catch (final InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+                throw new LionEngineException(exception);
+            }
+        }
+
+        /**
+         * Load resources on current thread.
+         */
+        void loadResources()
+        {
+            for (final Resource resource : resources)
+            {
+                if (!resource.isLoaded())
+                {
+                    resource.load();
+                }
+            }
+        }
+
+        /**
+         * Notify resources are loaded.
+         */
+        void ready()
+        {
+            loaded.run();
+            state = State.READY;
+        }
+
+        /**
+         * Dispose loaded resources.
+         */
+        void release()
+        {
+            for (final Resource resource : resources)
+            {
+                if (resource.isLoaded())
+                {
+                    resource.dispose();
+                }
+            }
+            state = State.RELEASED;
+        }
+
+        /**
+         * Cancel loading if not started, else wait for it, and release resources.
+         */
+        void dispose()
+        {
+            if (state == State.STREAMING && !future.cancel(false))
+            {
+                await();
+                release();
+            }
+            else if (state == State.READY)
+            {
+                release();
+            }
+            state = State.RELEASED;
+        }
+    }
+}
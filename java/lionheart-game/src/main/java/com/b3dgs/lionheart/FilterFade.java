@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.Arrays;
+
+import com.b3dgs.lionengine.UtilMath;
+import com.b3dgs.lionengine.graphic.Filter;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.Transform;
+
+/**
+ * Fade compositor, darkening frame as first step of filter pass, before the wrapped filter.
+ * <p>
+ * Fades are requested during render with {@link #apply(int)}, each one as a black layer over the previous ones, and
+ * applied once on frame filter with a precomputed table per level instead of an alpha blended full screen rectangle.
+ * Fade is reset after each frame, so a fade must be applied on every frame it is visible, as a rectangle was drawn.
+ * </p>
+ * <p>
+ * When wrapping a {@link FilterParallel}, table is applied by each band on the pixels it already copies, so fading
+ * costs no extra frame read back. Other filters are given a faded copy of the frame.
+ * </p>
+ */
+public final class FilterFade implements Filter
+{
+    /** Maximum fade level (opaque black). */
+    private static final int MAX = 255;
+    /** Opaque black pixel. */
+    private static final int BLACK = 0xFF000000;
+    /** Color channel tables, lazily computed per fade level. */
+    private static final int[][] TABLES = new int[MAX + 1][];
+
+    /**
+     * Fade pixels with the color channel table of fade level.
+     * 
+     * @param pixels The pixels to fade.
+     * @param length The number of pixels to fade from start.
+     * @param alpha The fade level (greater than 0).
+     */
+    static void fade(int[] pixels, int length, int alpha)
+    {
+        if (alpha >= MAX)
+        {
+            Arrays.fill(pixels, 0, length, BLACK);
+        }
+        else
+        {
+            final int[] table = getTable(alpha);
+            for (int i = 0; i < length; i++)
+            {
+                final int p = pixels[i];
+                pixels[i] = p & BLACK | table[p >> 16 & MAX] << 16 | table[p >> 8 & MAX] << 8 | table[p & MAX];
+            }
+        }
+    }
+
+    /**
+     * Get color channel table for fade level.
+     * 
+     * @param alpha The fade level.
+     * @return The channel table.
+     */
+    private static int[] getTable(int alpha)
+    {
+        int[] table = TABLES[alpha];
+        if (table == null)
+        {
+            table = new int[MAX + 1];
+            for (int c = 0; c < table.length; c++)
+            {
+                table[c] = c * (MAX - alpha) / MAX;
+            }
+            TABLES[alpha] = table;
+        }
+        return table;
+    }
+
+    /** Wrapped filter. */
+    private final Filter filter;
+    /** Wrapped parallel filter, fading its bands, <code>null</code> if not parallel. */
+    private final FilterParallel parallel;
+    /** Faded frame. */
+    private ImageBuffer buffer;
+    /** Frame pixels. */
+    private int[] pixels = new int[0];
+    /** Remaining light for current frame. */
+    private int light = MAX;
+
+    /**
+     * Create compositor.
+     * 
+     * @param filter The wrapped filter, applied on faded frame.
+     */
+    public FilterFade(Filter filter)
+    {
+        super();
+
+        this.filter = filter;
+        parallel = filter instanceof FilterParallel ? (FilterParallel) filter : null;
+    }
+
+    /**
+     * Apply black fade on current frame, over previous fades of this frame.
+     * 
+     * @param alpha The fade level (0 for none, 255 for opaque black).
+     */
+    public void apply(int alpha)
+    {
+        light = light * (MAX - UtilMath.clamp(alpha, 0, MAX)) / MAX;
+    }
+
+    /**
+     * Get current frame fade level.
+     * 
+     * @return The fade level.
+     */
+    public int getAlpha()
+    {
+        return MAX - light;
+    }
+
+    /**
+     * Fade frame pixels.
+     * 
+     * @param source The source frame.
+     * @param alpha The fade level.
+     * @return The faded frame.
+     */
+    private ImageBuffer fade(ImageBuffer source, int alpha)
+    {
+        final int width = source.getWidth();
+        final int height = source.getHeight();
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height)
+        {
+            if (buffer != null)
+            {
+                buffer.dispose();
+            }
+            buffer = Graphics.createImageBuffer(width, height);
+            buffer.prepare();
+            pixels = new int[width * height];
+        }
+
+        if (alpha < MAX)
+        {
+            source.getRgb(0, 0, width, height, pixels, 0, width);
+        }
+        fade(pixels, pixels.length, alpha);
+        buffer.setRgb(0, 0, width, height, pixels, 0, width);
+        return buffer;
+    }
+
+    /*
+     * Filter
+     */
+
+    @Override
+    public ImageBuffer filter(ImageBuffer source)
+    {
+        final int alpha = getAlpha();
+        light = MAX;
+        if (parallel != null)
+        {
+            parallel.setFade(alpha);
+            return parallel.filter(source);
+        }
+        if (alpha == 0)
+        {
+            return filter.filter(source);
+        }
+        return filter.filter(fade(source, alpha));
+    }
+
+    @Override
+    public Transform getTransform(double scaleX, double scaleY)
+    {
+        return filter.getTransform(scaleX, scaleY);
+    }
+}
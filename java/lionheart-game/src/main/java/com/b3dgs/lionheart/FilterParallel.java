@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.graphic.Filter;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.Transform;
+import com.b3dgs.lionengine.graphic.filter.FilterBlur;
+import com.b3dgs.lionengine.graphic.filter.FilterCrt;
+import com.b3dgs.lionengine.graphic.filter.FilterHq2x;
+import com.b3dgs.lionengine.graphic.filter.FilterHq3x;
+
+/**
+ * Filter applying a CPU filter on horizontal bands in parallel.
+ * <p>
+ * Frame is split in horizontal bands, each one extended by {@value #MARGIN} neighbor rows so filter kernels see the
+ * same pixels as on the whole frame. Bands are filtered on a persistent worker pool with their own filter instance, and
+ * only their inner rows are copied to the output. Band and output buffers are reused across frames, and the result is
+ * identical to the wrapped filter applied on the whole frame. An optional fade is applied by each band on its copied
+ * pixels before filtering, see {@link FilterFade}.
+ * </p>
+ */
+public final class FilterParallel implements Filter
+{
+    /** Extra rows around each band, even to keep rows parity. */
+    private static final int MARGIN = 8;
+    /** Minimum band height. */
+    private static final int BAND_MIN = MARGIN * 4;
+    /** Workers count. */
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    /** Persistent workers. */
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, r ->
+    {
+        final Thread thread = new Thread(r, FilterParallel.class.getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Get the filter factory associated to type.
+     * 
+     * @param type The filter type.
+     * @param scale The filter scale.
+     * @return The filter factory.
+     * @throws LionEngineException If filter type is not a frame filter.
+     */
+    public static Supplier<Filter> getFactory(FilterType type, int scale)
+    {
+        switch (type)
+        {
+            case BLUR:
+                return () ->
+                {
+                    final FilterBlur blur = new FilterBlur();
+                    blur.setRadius(1.3);
+                    return blur;
+                };
+            case HQ2X:
+                return FilterHq2x::new;
+            case HQ3X:
+                return FilterHq3x::new;
+            case CRT:
+                return () -> new FilterCrt(scale);
+            default:
+                throw new LionEngineException(type);
+        }
+    }
+
+    /** Filter per band. */
+    private final Filter[] filters;
+    /** Band tasks. */
+    private final List<Future<ImageBuffer>> tasks;
+    /** Band sources. */
+    private final ImageBuffer[] bands;
+    /** Band pixels. */
+    private final int[][] pixels;
+    /** Band first inner row. */
+    private final int[] starts;
+    /** Band last inner row excluded. */
+    private final int[] ends;
+    /** Band first row including margin. */
+    private final int[] tops;
+    /** Output pixels. */
+    private int[] rows = new int[0];
+    /** Output buffer. */
+    private ImageBuffer output;
+    /** Current bands count. */
+    private int count;
+    /** Last source width. */
+    private int width;
+    /** Last source height. */
+    private int height;
+    /** Current frame fade level. */
+    private int fade;
+
+    /**
+     * Create filter.
+     * 
+     * @param factory The filter factory, called once per band.
+     */
+    public FilterParallel(Supplier<Filter> factory)
+    {
+        super();
+
+        filters = new Filter[THREADS];
+        for (int i = 0; i < THREADS; i++)
+        {
+            filters[i] = factory.get();
+        }
+        tasks = new ArrayList<>(THREADS);
+        bands = new ImageBuffer[THREADS];
+        pixels = new int[THREADS][];
+        starts = new int[THREADS];
+        ends = new int[THREADS];
+        tops = new int[THREADS];
+    }
+
+    /**
+     * Set fade level of next frame, applied on bands before filtering.
+     * 
+     * @param alpha The fade level (0 for none, 255 for opaque black).
+     */
+    void setFade(int alpha)
+    {
+        fade = alpha;
+    }
+
+    /**
+     * Prepare bands for source size.
+     * 
+     * @param width The source width.
+     * @param height The source height.
+     */
+    private void prepare(int width, int height)
+    {
+        this.width = width;
+        this.height = height;
+
+        count = Math.max(1, Math.min(THREADS, height / BAND_MIN));
+        final int size = (int) Math.ceil(height / (double) count / MARGIN) * MARGIN;
+
+        for (int i = 0; i < count; i++)
+        {
+            starts[i] = Math.min(height, i * size);
+            ends[i] = Math.min(height, starts[i] + size);
+            tops[i] = Math.max(0, starts[i] - MARGIN);
+            final int bottom = Math.min(height, ends[i] + MARGIN);
+
+            if (bands[i] != null)
+            {
+                bands[i].dispose();
+            }
+            bands[i] = Graphics.createImageBuffer(width, bottom - tops[i]);
+            bands[i].prepare();
+            pixels[i] = new int[width * bands[i].getHeight()];
+        }
+    }
+
+    /**
+     * Filter band.
+     * 
+     * @param source The source frame.
+     * @param index The band index.
+     * @return The filtered band.
+     */
+    private ImageBuffer filter(ImageBuffer source, int index)
+    {
+        final ImageBuffer band = bands[index];
+        source.getRgb(0, tops[index], width, band.getHeight(), pixels[index], 0, width);
+        if (fade > 0)
+        {
+            FilterFade.fade(pixels[index], pixels[index].length, fade);
+        }
+        band.setRgb(0, 0, width, band.getHeight(), pixels[index], 0, width);
+        return filters[index].filter(band);
+    }
+
+    /**
+     * Copy band inner rows to output.
+     * 
+     * @param index The band index.
+     * @param filtered The filtered band.
+     */
+    private void merge(int index, ImageBuffer filtered)
+    {
+        final int scale = filtered.getHeight() / bands[index].getHeight();
+        final int outWidth = filtered.getWidth();
+        if (output == null || output.getWidth() != outWidth || output.getHeight() != height * scale)
+        {
+            if (output != null)
+            {
+                output.dispose();
+            }
+            output = Graphics.createImageBuffer(outWidth, height * scale);
+            output.prepare();
+        }
+
+        final int inner = (ends[index] - starts[index]) * scale;
+        if (rows.length < outWidth * inner)
+        {
+            rows = new int[outWidth * inner];
+        }
+        filtered.getRgb(0, (starts[index] - tops[index]) * scale, outWidth, inner, rows, 0, outWidth);
+        output.setRgb(0, starts[index] * scale, outWidth, inner, rows, 0, outWidth);
+    }
+
+    /*
+     * Filter
+     */
+
+    @Override
+    public ImageBuffer filter(ImageBuffer source)
+    {
+        if (source.getWidth() != width || source.getHeight() != height)
+        {
+            prepare(source.getWidth(), source.getHeight());
+        }
+
+        tasks.clear();
+        for (int i = 1; i < count; i++)
+        {
+            final int index = i;
+            tasks.add(EXECUTOR.submit(() -> filter(source, index)));
+        }
+        merge(0, filter(source, 0));
+
+        final int n = tasks.size();
+        for (int i = 0; i < n; i++)
+        {
+            try
+            {
+                merge(i + 1, tasks.get(i).get());
+            }
+            catch (final InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+                throw new LionEngineException(exception);
+            }
+            catch (final ExecutionException exception)
+            {
+                throw new LionEngineException(exception);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public Transform getTransform(double scaleX, double scaleY)
+    {
+        return filters[0].getTransform(scaleX, scaleY);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.b3dgs.lionengine.AttributesReader;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.XmlReader;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.drawable.Drawable;
+import com.b3dgs.lionengine.graphic.drawable.SpriteFont;
+
+/**
+ * Process wide fonts registry.
+ * <p>
+ * Each font image is decoded and prepared once, and each font data is parsed once per letter size, then the resulting
+ * {@link SpriteFont} is shared by all users of {@link #acquire(Media, Media, int, int)}. Surface and fonts are disposed
+ * when the last font reference is released with {@link #release(Media)}, so shared fonts must not be loaded, prepared
+ * nor disposed directly.
+ * </p>
+ * <p>
+ * Shared fonts are stateless for their users: texts must be drawn with
+ * {@link SpriteFont#draw(com.b3dgs.lionengine.graphic.Graphic, int, int, com.b3dgs.lionengine.Align, String)}, without
+ * changing font text, location nor align.
+ * </p>
+ */
+public final class FontRegistry
+{
+    /** Instance. */
+    private static final FontRegistry INSTANCE = new FontRegistry();
+    /** Letter node name. */
+    private static final String NODE_LETTER = "lionengine:letter";
+    /** Letter character attribute name. */
+    private static final String ATT_CHAR = "char";
+
+    /**
+     * Get the registry instance.
+     * 
+     * @return The registry instance.
+     */
+    public static FontRegistry getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Read characters available in font data.
+     * 
+     * @param data The font data.
+     * @return The available characters.
+     */
+    private static BitSet readGlyphs(Media data)
+    {
+        final BitSet glyphs = new BitSet();
+        for (final AttributesReader letter : new XmlReader(data).getChildren(NODE_LETTER))
+        {
+            glyphs.set(letter.getString(ATT_CHAR).charAt(0));
+        }
+        return glyphs;
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, BitSet> glyphs = new HashMap<>();
+
+    /**
+     * Private constructor.
+     */
+    private FontRegistry()
+    {
+        super();
+    }
+
+    /**
+     * Acquire shared font, decoded and parsed on first use. Must be released with {@link #release(Media)}.
+     * 
+     * @param media The font image.
+     * @param data The font data.
+     * @param letterWidth The letter width.
+     * @param letterHeight The letter height.
+     * @return The ready to use shared font.
+     */
+    public synchronized SpriteFont acquire(Media media, Media data, int letterWidth, int letterHeight)
+    {
+        final Entry entry = entries.computeIfAbsent(media.getPath(), p -> new Entry(media));
+        entry.references++;
+        return entry.fonts.computeIfAbsent(data.getPath() + ':' + letterWidth + 'x' + letterHeight,
+                                           k -> Drawable.loadSpriteFont(entry.surface,
+                                                                        data,
+                                                                        letterWidth,
+                                                                        letterHeight));
+    }
+
+    /**
+     * Get characters available in font data, parsed once.
+     * 
+     * @param data The font data.
+     * @return The available characters (shared, must be considered read only).
+     */
+    public synchronized BitSet getGlyphs(Media data)
+    {
+        return glyphs.computeIfAbsent(data.getPath(), p -> readGlyphs(data));
+    }
+
+    /**
+     * Release font image, disposed with its last reference.
+     * 
+     * @param media The font image.
+     */
+    public synchronized void release(Media media)
+    {
+        final Entry entry = entries.get(media.getPath());
+        if (entry != null && --entry.references == 0)
+        {
+            entries.remove(media.getPath());
+            entry.fonts.clear();
+            entry.surface.dispose();
+        }
+    }
+
+    /**
+     * Shared font surface and its parsed fonts.
+     */
+    private static final class Entry
+    {
+        private final Map<String, SpriteFont> fonts = new HashMap<>();
+        private final ImageBuffer surface;
+        private int references;
+
+        /**
+         * Create entry.
+         * 
+         * @param media The font image.
+         */
+        Entry(Media media)
+        {
+            super();
+
+            surface = Graphics.getImageBuffer(media);
+            surface.prepare();
+        }
+    }
+}
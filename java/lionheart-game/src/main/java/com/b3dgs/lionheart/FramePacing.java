@@ -0,0 +1,368 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.Align;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+
+/**
+ * Frame pacing, measuring frame time variance to select loop strategy.
+ * <p>
+ * Unlocked loop is initially selected with vertical sync in full screen when display rate is not a multiple of source
+ * rate (such as 144Hz), where fixed rate frames cannot be evenly presented, else hybrid loop is selected.
+ * </p>
+ * <p>
+ * Presented frame times are recorded in a one millisecond histogram. Once {@link #MEASURE_NANO} of frames have been
+ * measured with current loop strategy, the strategy is kept or switched for next sequences:
+ * </p>
+ * <ul>
+ * <li>unlocked loop is dropped if vertical sync is not honored (frames much faster than refresh) or if jitter is too
+ * high, and is never selected again,</li>
+ * <li>hybrid loop is replaced by unlocked loop when its jitter is too high with vertical sync in full screen.</li>
+ * </ul>
+ * <p>
+ * Sleep granularity is measured once, and a finer system timer is requested when it is too coarse for loop sleeps.
+ * Extrapolation is clamped to absorb hitches instead of teleporting objects.
+ * </p>
+ */
+public final class FramePacing
+{
+    /** Histogram buckets, one millisecond each, last one for longer frames. */
+    public static final int BUCKETS = 34;
+    /** Instance. */
+    private static final FramePacing INSTANCE = new FramePacing();
+    /** Bucket size. */
+    private static final long BUCKET_NANO = 1_000_000L;
+    /** Measured frames duration before decision. */
+    private static final long MEASURE_NANO = 3_000_000_000L;
+    /** Frame time considered as discontinuity (loading, pause). */
+    private static final long DISCONTINUITY_NANO = 250_000_000L;
+    /** Nanoseconds per second. */
+    private static final double NANO_SECOND = 1_000_000_000.0;
+    /** Maximum frame time deviation over mean. */
+    private static final double JITTER_MAX = 0.2;
+    /** Sleep granularity samples. */
+    private static final int SLEEP_SAMPLES = 5;
+    /** Sleep granularity considered too coarse for frame pacing. */
+    private static final long SLEEP_COARSE_NANO = 2_000_000L;
+    /** Maximum extrapolation value. */
+    private static final double EXTRP_MAX = 2.0;
+    /** Overlay refresh period in frames. */
+    private static final int REFRESH_FRAMES = 30;
+    /** Overlay bar width. */
+    private static final int BAR_WIDTH = 3;
+    /** Overlay bars height. */
+    private static final int BAR_HEIGHT = 40;
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FramePacing.class);
+
+    /**
+     * Get the pacing instance.
+     * 
+     * @return The pacing instance.
+     */
+    public static FramePacing getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Clamp extrapolation value.
+     * 
+     * @param extrp The extrapolation value.
+     * @return The clamped extrapolation value.
+     */
+    public static double clamp(double extrp)
+    {
+        return Math.min(extrp, EXTRP_MAX);
+    }
+
+    /**
+     * Measure sleep granularity.
+     * 
+     * @return The mean duration of one millisecond sleep in nano.
+     */
+    private static long measureSleep()
+    {
+        final long start = System.nanoTime();
+        try
+        {
+            for (int i = 0; i < SLEEP_SAMPLES; i++)
+            {
+                Thread.sleep(1L);
+            }
+        }
+        catch (final InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Sleep measure interrupted", exception);
+        }
+        return (System.nanoTime() - start) / SLEEP_SAMPLES;
+    }
+
+    /**
+     * Request finer system timer, kept while a thread sleeps with a duration not multiple of system tick.
+     */
+    private static void requestTimer()
+    {
+        final Thread timer = new Thread(() ->
+        {
+            try
+            {
+                Thread.sleep(Long.MAX_VALUE);
+            }
+            catch (@SuppressWarnings("unused") final InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }, FramePacing.class.getSimpleName());
+        timer.setDaemon(true);
+        timer.start();
+    }
+
+    private final long[] histogram = new long[BUCKETS];
+    private boolean unlocked;
+    private boolean active;
+    private boolean unlockedDenied;
+    private boolean measured;
+    private boolean vsync;
+    private boolean windowed;
+    private int rateSource;
+    private int rateOutput;
+    private long last;
+    private boolean skipped;
+    private long elapsed;
+    private long count;
+    private double sum;
+    private double sumSquares;
+    private long sleep;
+    private String stats = com.b3dgs.lionengine.Constant.EMPTY_STRING;
+    private int frames;
+
+    /**
+     * Private constructor.
+     */
+    private FramePacing()
+    {
+        super();
+    }
+
+    /**
+     * Select loop strategy for next sequence.
+     * 
+     * @param vsync <code>true</code> if vertical sync is enabled, <code>false</code> else.
+     * @param windowed <code>true</code> if windowed, <code>false</code> if full screen.
+     * @param rateSource The source rate.
+     * @param rateOutput The display rate.
+     * @return <code>true</code> for unlocked loop, <code>false</code> for hybrid loop.
+     */
+    public synchronized boolean isUnlocked(boolean vsync, boolean windowed, int rateSource, int rateOutput)
+    {
+        if (sleep == 0L)
+        {
+            tuneSleep();
+        }
+        if (vsync != this.vsync
+            || windowed != this.windowed
+            || rateSource != this.rateSource
+            || rateOutput != this.rateOutput)
+        {
+            this.vsync = vsync;
+            this.windowed = windowed;
+            this.rateSource = rateSource;
+            this.rateOutput = rateOutput;
+            unlocked = vsync
+                       && !windowed
+                       && !unlockedDenied
+                       && rateSource > 0
+                       && rateOutput % rateSource != 0;
+            reset();
+        }
+        if (active != unlocked)
+        {
+            active = unlocked;
+            reset();
+        }
+        return unlocked;
+    }
+
+    /**
+     * Record presented frame. Must be called once per rendered frame, not per update as loop may run several updates
+     * per frame. Frames are ignored while running sequence does not use selected strategy yet.
+     */
+    public synchronized void record()
+    {
+        final long time = System.nanoTime();
+        final long frame = time - last;
+        last = time;
+        if (skipped || active != unlocked || frame <= 0L || frame > DISCONTINUITY_NANO)
+        {
+            skipped = false;
+            return;
+        }
+
+        histogram[(int) Math.min(BUCKETS - 1, frame / BUCKET_NANO)]++;
+        count++;
+        sum += frame;
+        sumSquares += (double) frame * frame;
+        elapsed += frame;
+
+        if (!measured && elapsed > MEASURE_NANO)
+        {
+            decide();
+        }
+    }
+
+    /**
+     * Ignore current frame in measure, for frames intentionally delayed (such as throttled idle frames).
+     */
+    public synchronized void skip()
+    {
+        skipped = true;
+    }
+
+    /**
+     * Get the mean frame time.
+     * 
+     * @return The mean frame time in nano.
+     */
+    public synchronized double getMean()
+    {
+        return count > 0 ? sum / count : 0.0;
+    }
+
+    /**
+     * Get the frame time jitter.
+     * 
+     * @return The frame time standard deviation over mean.
+     */
+    public synchronized double getJitter()
+    {
+        final double mean = getMean();
+        if (mean <= 0.0)
+        {
+            return 0.0;
+        }
+        final double variance = Math.max(0.0, sumSquares / count - mean * mean);
+        return Math.sqrt(variance) / mean;
+    }
+
+    /**
+     * Render histogram overlay, bars above location.
+     * 
+     * @param g The graphic output.
+     * @param text The text renderer.
+     * @param x The horizontal location.
+     * @param y The vertical location (bottom).
+     */
+    public synchronized void render(Graphic g, TextAtlas text, int x, int y)
+    {
+        if (frames++ % REFRESH_FRAMES == 0)
+        {
+            stats = String.format(Locale.ENGLISH,
+                                  "%s %.2fms %.0f%% sleep %.1fms",
+                                  active ? "UNLOCKED" : "HYBRID",
+                                  Double.valueOf(getMean() / BUCKET_NANO),
+                                  Double.valueOf(getJitter() * 100.0),
+                                  Double.valueOf(sleep / (double) BUCKET_NANO));
+        }
+        final int bottom = y - 1;
+        text.drawDirect(g, x, bottom - BAR_HEIGHT - text.getHeight(), Align.LEFT, stats);
+
+        final long max = Math.max(1L, Arrays.stream(histogram).max().orElse(1L));
+        g.setColor(ColorRgba.YELLOW);
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            final int height = (int) (histogram[i] * BAR_HEIGHT / max);
+            for (int b = 0; b < BAR_WIDTH - 1 && height > 0; b++)
+            {
+                final int bx = x + i * BAR_WIDTH + b;
+                g.drawLine(bx, bottom, bx, bottom - height);
+            }
+        }
+    }
+
+    /**
+     * Measure sleep granularity, and request finer system timer if too coarse.
+     */
+    private void tuneSleep()
+    {
+        final long coarse = measureSleep();
+        if (coarse > SLEEP_COARSE_NANO)
+        {
+            requestTimer();
+            sleep = measureSleep();
+        }
+        else
+        {
+            sleep = coarse;
+        }
+        LOGGER.info("Frame pacing: sleep granularity {} ns (was {} ns)", Long.valueOf(sleep), Long.valueOf(coarse));
+    }
+
+    /**
+     * Decide loop strategy from measured frames.
+     */
+    private void decide()
+    {
+        measured = true;
+
+        final double mean = getMean();
+        final double jitter = getJitter();
+        final double refresh = rateOutput > 0 ? NANO_SECOND / rateOutput : 0.0;
+        if (unlocked)
+        {
+            if (mean < refresh / 2.0 || jitter > JITTER_MAX)
+            {
+                unlocked = false;
+                unlockedDenied = true;
+                reset();
+            }
+        }
+        else if (jitter > JITTER_MAX && vsync && !windowed && !unlockedDenied)
+        {
+            unlocked = true;
+            reset();
+        }
+        LOGGER.info("Frame pacing: mean {} ns, jitter {}, unlocked {}",
+                    Long.valueOf((long) mean),
+                    Double.valueOf(jitter),
+                    Boolean.valueOf(unlocked));
+    }
+
+    /**
+     * Reset measurement.
+     */
+    private void reset()
+    {
+        Arrays.fill(histogram, 0L);
+        measured = false;
+        elapsed = 0L;
+        count = 0L;
+        sum = 0.0;
+        sumSquares = 0.0;
+        last = System.nanoTime();
+    }
+}
@@ -52,6 +52,10 @@ import com.b3dgs.lionheart.object.feature.Stats;
  * <li>Talisment (icon, count)</li>
  * <li>Life (icon, count)</li>
  * </ul>
+ * <p>
+ * Static elements are composed once in an offscreen buffer, recomposed only when stats or layout changed, and
+ * rendered with a single draw call. Pause text and time counter are rendered over it.
+ * </p>
  */
 public final class Hud implements Resource, Updatable, Renderable
 {
@@ -86,6 +90,7 @@ public final class Hud implements Resource, Updatable, Renderable
     private static final int TIME_Y = 1;
 
     private static final int PAUSE_FLICKER_DELAY_MS = 250;
+    private static final int CACHE_HEIGHT = 20;
 
     private final List<String> pauseExit = Util.readLines(Medias.create(Folder.TEXT,
                                                                         Settings.getInstance().getLang(),
@@ -115,8 +120,11 @@ public final class Hud implements Resource, Updatable, Renderable
     private Updatable updaterHud = UpdatableVoid.getInstance();
     private Updatable updaterPause = UpdatableVoid.getInstance();
     private Renderable rendererHud = RenderableVoid.getInstance();
-    private Renderable rendererPause = this::renderHealth;
+    private ImageBuffer cache;
+    private int[] blank;
     private Stats stats;
+    private long signature = -1L;
+    private boolean dirty = true;
     private boolean paused;
     private boolean exit;
     private boolean flicker;
@@ -163,6 +171,7 @@ public final class Hud implements Resource, Updatable, Renderable
     {
         life.setLocation(width - life.getTileWidth() - numberLife.getWidth() - LIFE_X_BORDER, LIFE_Y);
         numberLife.setLocation(life.getX() + life.getTileWidth() + 2, LIFE_Y + 1);
+        dirty = true;
     }
 
     /**
@@ -174,8 +183,7 @@ public final class Hud implements Resource, Updatable, Renderable
     {
         this.paused = paused;
         exit = false;
-
-        switchRendererPause();
+        dirty = true;
     }
 
     /**
@@ -187,8 +195,7 @@ public final class Hud implements Resource, Updatable, Renderable
     {
         paused = exit;
         this.exit = exit;
-
-        switchRendererPause();
+        dirty = true;
     }
 
     /**
@@ -213,6 +220,7 @@ public final class Hud implements Resource, Updatable, Renderable
             updaterPause = UpdatableVoid.getInstance();
             rendererHud = RenderableVoid.getInstance();
         }
+        dirty = true;
     }
 
     /**
@@ -223,6 +231,7 @@ public final class Hud implements Resource, Updatable, Renderable
     public void setVisibleHealth(boolean visible)
     {
         healthVisible = visible;
+        dirty = true;
     }
 
     /**
@@ -233,6 +242,7 @@ public final class Hud implements Resource, Updatable, Renderable
     public void setVisibleTalisment(boolean visible)
     {
         talismentVisible = visible;
+        dirty = true;
     }
 
     /**
@@ -243,6 +253,7 @@ public final class Hud implements Resource, Updatable, Renderable
     public void setVisibleLife(boolean visible)
     {
         lifeVisible = visible;
+        dirty = true;
     }
 
     /**
@@ -333,26 +344,32 @@ public final class Hud implements Resource, Updatable, Renderable
     }
 
     /**
-     * Switch renderer pause.
+     * Update hud.
+     * <p>
+     * Stats changes (hurt, sword, items taken, network sync) are detected by comparing displayed values.
+     * </p>
+     * 
+     * @param extrp The extrapolation value.
      */
-    private void switchRendererPause()
+    private void updateHud(double extrp)
     {
-        if (paused)
+        final long current = stats.getHealth()
+                             | (long) stats.getHealthMax() << 8
+                             | (long) stats.getTalisment() << 16
+                             | (long) stats.getLife() << 24
+                             | (long) stats.getSword() << 32
+                             | (Boolean.TRUE.equals(stats.hasAmulet()) ? 1L : 0L) << 40;
+        if (current != signature)
         {
-            rendererPause = this::renderPause;
-        }
-        else
-        {
-            rendererPause = this::renderHealth;
+            signature = current;
+            dirty = true;
         }
     }
 
     /**
-     * Update hud.
-     * 
-     * @param extrp The extrapolation value.
+     * Update displayed values from stats.
      */
-    private void updateHud(double extrp)
+    private void updateValues()
     {
         updateHeart();
 
@@ -421,6 +438,40 @@ public final class Hud implements Resource, Updatable, Renderable
         }
     }
 
+    /**
+     * Compose static hud elements in cache.
+     */
+    private void compose()
+    {
+        updateValues();
+
+        final int width = viewer.getWidth();
+        if (cache == null || cache.getWidth() != width)
+        {
+            if (cache != null)
+            {
+                cache.dispose();
+            }
+            cache = Graphics.createImageBuffer(width, CACHE_HEIGHT, ColorRgba.TRANSPARENT);
+            cache.prepare();
+            blank = new int[width * CACHE_HEIGHT];
+        }
+        else
+        {
+            cache.setRgb(0, 0, width, CACHE_HEIGHT, blank, 0, width);
+        }
+
+        final Graphic g = cache.createGraphic();
+        if (!paused)
+        {
+            renderHealth(g);
+        }
+        renderStatic(g);
+        g.dispose();
+
+        dirty = false;
+    }
+
     /**
      * Render hud.
      * 
@@ -428,8 +479,30 @@ public final class Hud implements Resource, Updatable, Renderable
      */
     private void renderHud(Graphic g)
     {
-        rendererPause.render(g);
+        if (dirty)
+        {
+            compose();
+        }
+        g.drawImage(cache, 0, 0);
+
+        if (paused)
+        {
+            renderPause(g);
+        }
+        if (time.isStarted())
+        {
+            numberTime.setValue(time.elapsedTime(source.getRate()));
+            numberTime.render(g);
+        }
+    }
 
+    /**
+     * Render static hud elements.
+     * 
+     * @param g The graphic output.
+     */
+    private void renderStatic(Graphic g)
+    {
         if (talismentVisible)
         {
             talisment.render(g);
@@ -448,12 +521,6 @@ public final class Hud implements Resource, Updatable, Renderable
             life.render(g);
             numberLife.render(g);
         }
-
-        if (time.isStarted())
-        {
-            numberTime.setValue(time.elapsedTime(source.getRate()));
-            numberTime.render(g);
-        }
     }
 
     /**
@@ -520,6 +587,10 @@ public final class Hud implements Resource, Updatable, Renderable
     {
         heartSurface.dispose();
         hudSurface.dispose();
+        if (cache != null)
+        {
+            cache.dispose();
+        }
         number.dispose();
     }
 }
@@ -22,7 +22,6 @@ import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Origin;
 import com.b3dgs.lionengine.Timing;
 import com.b3dgs.lionengine.UtilMath;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Image;
@@ -42,6 +41,7 @@ public final class Loading extends Sequence
     private final BackgroundType[] backgrounds = BackgroundType.values();
     private final Image image = Drawable.loadImage(Medias.create(Folder.SPRITE, "logo.png"));
     private final GameConfig config;
+    private final FilterFade fade;
     private final boolean direct;
     private final int max;
 
@@ -68,7 +68,7 @@ public final class Loading extends Sequence
         max = Settings.getInstance().isRasterCheck() ? backgrounds.length - 1 : current;
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
     }
 
     /**
@@ -171,12 +171,7 @@ public final class Loading extends Sequence
             progress.render(g);
         }
 
-        if (alpha < 256)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[(int) Math.floor(alpha)]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply((int) Math.floor(alpha));
     }
 
     @Override
@@ -18,7 +18,6 @@ package com.b3dgs.lionheart;
 
 import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.Media;
-import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.Viewer;
 import com.b3dgs.lionengine.game.feature.DisplayableModel;
@@ -30,7 +29,6 @@ import com.b3dgs.lionengine.game.feature.tile.map.MapTileSurface;
 import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewer;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
-import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.SpriteTiled;
 
 /**
@@ -105,21 +103,14 @@ public class MapTileWater extends FeaturableAbstract implements Renderable
     }
 
     /**
-     * Create water map.
+     * Create water map, tiles are shared through {@link AssetCache}.
      * 
+     * @param world The world type.
      * @param folder The raster folder.
      */
-    public void create(String folder)
+    public void create(WorldType world, String folder)
     {
-        final int tw = map.getTileWidth();
-        final int th = map.getTileHeight();
-        tiles = new SpriteTiled[th];
-        for (int i = 0; i < tiles.length; i++)
-        {
-            tiles[i] = Drawable.loadSpriteTiled(Medias.create(folder, "water", i + ".png"), tw, th);
-            tiles[i].load();
-            tiles[i].prepare();
-        }
+        tiles = AssetCache.getInstance().getWater(world, folder, map.getTileWidth(), map.getTileHeight());
     }
 
     /**
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background persistence of progress and settings.
+ * <p>
+ * Callers pass an immutable snapshot writer, which is run on a single I/O thread into a temporary file, synced, then
+ * atomically renamed over target. Successive saves of the same file before it is written are coalesced, only the last
+ * one is written. Previous versions are kept as <code>.1</code> to <code>.{@value #HISTORY}</code>, so a corrupted
+ * file can be recovered with {@link #getHistory(File)}, which writes the pending save of that file only. Pending writes
+ * are flushed on shutdown.
+ * </p>
+ */
+public final class Persistence
+{
+    /** Instance. */
+    private static final Persistence INSTANCE = new Persistence();
+    /** Kept previous versions. */
+    private static final int HISTORY = 2;
+    /** Temporary file extension. */
+    private static final String EXTENSION_TMP = ".tmp";
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(Persistence.class);
+
+    /**
+     * Get the persistence instance.
+     * 
+     * @return The persistence instance.
+     */
+    public static Persistence getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Get history file.
+     * 
+     * @param file The target file.
+     * @param index The history index (0 for target).
+     * @return The history file.
+     */
+    private static File getHistory(File file, int index)
+    {
+        if (index == 0)
+        {
+            return file;
+        }
+        return new File(file.getPath() + '.' + index);
+    }
+
+    /**
+     * Shift history and copy current file as most recent previous version.
+     * 
+     * @param file The target file.
+     * @throws IOException If error.
+     */
+    private static void rotate(File file) throws IOException
+    {
+        if (!file.isFile())
+        {
+            return;
+        }
+        for (int i = HISTORY; i > 1; i--)
+        {
+            final File previous = getHistory(file, i - 1);
+            if (previous.isFile())
+            {
+                Files.move(previous.toPath(), getHistory(file, i).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.copy(file.toPath(), getHistory(file, 1).toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Replace target by source, atomically if supported.
+     * 
+     * @param source The source path.
+     * @param target The target path.
+     * @throws IOException If error.
+     */
+    private static void replace(Path source, Path target) throws IOException
+    {
+        try
+        {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (@SuppressWarnings("unused") final AtomicMoveNotSupportedException exception)
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Write snapshot of file.
+     * 
+     * @param file The target file.
+     * @param snapshot The snapshot writer.
+     */
+    private static void write(File file, Snapshot snapshot)
+    {
+        final File tmp = new File(file.getPath() + EXTENSION_TMP);
+        try
+        {
+            final File parent = file.getAbsoluteFile().getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs())
+            {
+                LOGGER.warn("Unable to create folder: {}", parent);
+            }
+            snapshot.write(tmp);
+            try (FileChannel channel = FileChannel.open(tmp.toPath(), StandardOpenOption.WRITE))
+            {
+                channel.force(true);
+            }
+            rotate(file);
+            replace(tmp.toPath(), file.toPath());
+        }
+        catch (final IOException | SecurityException exception)
+        {
+            LOGGER.error("write error: " + file, exception);
+        }
+    }
+
+    /**
+     * Snapshot writer.
+     */
+    @FunctionalInterface
+    public interface Snapshot
+    {
+        /**
+         * Write snapshot to file. Called on I/O thread or by {@link Persistence#getHistory(File)}, must only
+         * access immutable data.
+         * 
+         * @param file The file to write.
+         * @throws IOException If error.
+         */
+        void write(File file) throws IOException;
+    }
+
+    private final Map<File, Snapshot> pending = new ConcurrentHashMap<>();
+    private final Map<File, Object> locks = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, Persistence.class.getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Private constructor.
+     */
+    private Persistence()
+    {
+        super();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, Persistence.class.getSimpleName() + "-flush"));
+    }
+
+    /**
+     * Request file save. Replaces pending snapshot of the same file if not yet written.
+     * 
+     * @param file The target file.
+     * @param snapshot The snapshot writer.
+     */
+    public void save(File file, Snapshot snapshot)
+    {
+        if (pending.put(file, snapshot) == null)
+        {
+            executor.execute(() -> write(file));
+        }
+    }
+
+    /**
+     * Wait for all pending saves to be written.
+     */
+    public void flush()
+    {
+        try
+        {
+            executor.submit(() ->
+            {
+                // Previous writes done
+            }).get();
+        }
+        catch (final ExecutionException exception)
+        {
+            LOGGER.error("flush error", exception);
+        }
+        catch (final InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            LOGGER.error("flush error", exception);
+        }
+    }
+
+    /**
+     * Get existing file versions, from most recent to oldest. Pending save of this file is written first on caller
+     * thread, other pending saves are not waited.
+     * 
+     * @param file The target file.
+     * @return The existing versions.
+     */
+    public List<File> getHistory(File file)
+    {
+        write(file);
+
+        final List<File> files = new ArrayList<>(HISTORY + 1);
+        for (int i = 0; i <= HISTORY; i++)
+        {
+            final File history = getHistory(file, i);
+            if (history.isFile())
+            {
+                files.add(history);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Write last snapshot of file, waiting for a write of the same file in progress.
+     * 
+     * @param file The target file.
+     */
+    private void write(File file)
+    {
+        synchronized (locks.computeIfAbsent(file, f -> new Object()))
+        {
+            final Snapshot snapshot = pending.remove(file);
+            if (snapshot != null)
+            {
+                write(file, snapshot);
+            }
+        }
+    }
+}
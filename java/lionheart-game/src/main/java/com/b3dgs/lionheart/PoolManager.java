@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.UtilFile;
+import com.b3dgs.lionengine.game.feature.Factory;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.HandlerListener;
+import com.b3dgs.lionengine.game.feature.Spawner;
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Effect, projectile and limb pools sized from play telemetry.
+ * <p>
+ * Peak concurrent instances are recorded per media while playing, and merged with the stage high-water marks on
+ * {@link #save()}. Next load prewarms the recorded marks alone, provided defaults are only used for a stage without
+ * record. Marks are stored in user data directory.
+ * </p>
+ */
+public final class PoolManager implements HandlerListener
+{
+    /** Pool file extension. */
+    private static final String EXTENSION = ".pool";
+    /** Pool files folder in user data directory. */
+    private static final String FOLDER = "pool";
+    /** Maximum stored marks. */
+    private static final int MARKS_MAX = 255;
+    /** Main boss file, spawned once and not pooled. */
+    private static final String BOSS_FILE = "Boss.xml";
+    /** Maximum instances prewarmed per media. */
+    private static final int PEAK_MAX = 16;
+    /** Pooled folders. */
+    private static final String[] FOLDERS =
+    {
+        Folder.EFFECT, Folder.PROJECTILE, Folder.LIMB, Folder.BOSS
+    };
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolManager.class);
+
+    /**
+     * Check if media is pooled.
+     * 
+     * @param media The media to check.
+     * @return <code>true</code> if pooled, <code>false</code> else.
+     */
+    private static boolean isPooled(Media media)
+    {
+        if (BOSS_FILE.equals(media.getName()))
+        {
+            return false;
+        }
+        final String path = media.getPath();
+        for (final String folder : FOLDERS)
+        {
+            if (path.startsWith(folder + Medias.getSeparator()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final Map<String, Integer> live = new HashMap<>();
+    private final Map<String, Integer> peaks = new HashMap<>();
+    private final Map<String, Integer> marks = new LinkedHashMap<>();
+    private final Map<String, Integer> prewarmed = new LinkedHashMap<>();
+
+    private Media stage;
+    private boolean recorded;
+
+    /**
+     * Create manager.
+     */
+    public PoolManager()
+    {
+        super();
+    }
+
+    /**
+     * Set current stage and load its high-water marks. Telemetry from previous stage is discarded.
+     * 
+     * @param stage The stage media.
+     */
+    public void setStage(Media stage)
+    {
+        this.stage = stage;
+
+        live.clear();
+        peaks.clear();
+        marks.clear();
+        prewarmed.clear();
+        recorded = false;
+
+        final List<File> history = Persistence.getInstance().getHistory(getFile());
+        for (final File file : history)
+        {
+            try
+            {
+                read(file);
+                recorded = true;
+                return;
+            }
+            catch (final IOException exception)
+            {
+                marks.clear();
+                LOGGER.error("setStage error", exception);
+            }
+        }
+    }
+
+    /**
+     * Prewarm factory cache with stage marks, or with defaults if stage has never been recorded.
+     * 
+     * @param factory The factory reference.
+     * @param spawner The cache spawner.
+     * @param defaults The default pools, used without stage record.
+     */
+    public void prewarm(Factory factory, Spawner spawner, Map<Media, Integer> defaults)
+    {
+        if (recorded)
+        {
+            for (final Map.Entry<String, Integer> entry : marks.entrySet())
+            {
+                prewarm(factory, spawner, Medias.create(entry.getKey()), entry.getValue().intValue());
+            }
+        }
+        else
+        {
+            for (final Map.Entry<Media, Integer> entry : defaults.entrySet())
+            {
+                prewarm(factory, spawner, entry.getKey(), entry.getValue().intValue());
+            }
+        }
+    }
+
+    /**
+     * Merge recorded peaks into stage high-water marks and persist them in background.
+     */
+    public void save()
+    {
+        if (stage == null || peaks.isEmpty())
+        {
+            return;
+        }
+        for (final Map.Entry<String, Integer> entry : peaks.entrySet())
+        {
+            marks.merge(entry.getKey(), entry.getValue(), Math::max);
+        }
+
+        final Map<String, Integer> snapshot = new LinkedHashMap<>(marks);
+        Persistence.getInstance().save(getFile(), file -> write(file, snapshot));
+    }
+
+    /**
+     * Get the peak concurrent instances recorded during current play, by media path.
+     * 
+     * @return The recorded peaks.
+     */
+    public Map<String, Integer> getPeaks()
+    {
+        return Collections.unmodifiableMap(peaks);
+    }
+
+    /**
+     * Get the stage high-water marks loaded from previous plays, by media path.
+     * 
+     * @return The stage marks (empty if stage has never been recorded).
+     */
+    public Map<String, Integer> getMarks()
+    {
+        return Collections.unmodifiableMap(marks);
+    }
+
+    /**
+     * Get the prewarmed instances for current stage, by media path.
+     * 
+     * @return The prewarmed instances.
+     */
+    public Map<String, Integer> getPrewarmed()
+    {
+        return Collections.unmodifiableMap(prewarmed);
+    }
+
+    /**
+     * Get the current live instances of media.
+     * 
+     * @param media The media reference.
+     * @return The live instances.
+     */
+    public int getLive(Media media)
+    {
+        return live.getOrDefault(media.getPath(), Integer.valueOf(0)).intValue();
+    }
+
+    /**
+     * Prewarm media instances.
+     * 
+     * @param factory The factory reference.
+     * @param spawner The cache spawner.
+     * @param media The media to prewarm.
+     * @param count The instances count.
+     */
+    private void prewarm(Factory factory, Spawner spawner, Media media, int count)
+    {
+        if (count > 0 && media.exists())
+        {
+            factory.createCacheMedia(spawner, media, count);
+            prewarmed.put(media.getPath(), Integer.valueOf(count));
+        }
+    }
+
+    /**
+     * Read stage marks.
+     * 
+     * @param file The pools file.
+     * @throws IOException If read error.
+     */
+    private void read(File file) throws IOException
+    {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))))
+        {
+            final int n = input.readUnsignedByte();
+            for (int i = 0; i < n; i++)
+            {
+                final String path = input.readUTF();
+                marks.put(path, Integer.valueOf(input.readUnsignedByte()));
+            }
+        }
+    }
+
+    /**
+     * Write marks snapshot.
+     * 
+     * @param file The output file.
+     * @param snapshot The marks to write.
+     * @throws IOException If write error.
+     */
+    private static void write(File file, Map<String, Integer> snapshot) throws IOException
+    {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file
+                                                                                                          .toPath()))))
+        {
+            final int n = Math.min(snapshot.size(), MARKS_MAX);
+            output.writeByte(n);
+
+            int i = 0;
+            for (final Map.Entry<String, Integer> entry : snapshot.entrySet())
+            {
+                if (i++ == n)
+                {
+                    break;
+                }
+                output.writeUTF(entry.getKey());
+                output.writeByte(Math.min(PEAK_MAX, entry.getValue().intValue()));
+            }
+        }
+    }
+
+    /**
+     * Get stage pools file in user data directory.
+     * 
+     * @return The pools file.
+     */
+    private File getFile()
+    {
+        return Util.getUserFile(FOLDER
+                                + File.separator
+                                + stage.getParentPath()
+                                + File.separator
+                                + UtilFile.removeExtension(stage.getName())
+                                + EXTENSION);
+    }
+
+    /*
+     * HandlerListener
+     */
+
+    @Override
+    public void notifyHandlableAdded(Featurable featurable)
+    {
+        final Media media = featurable.getMedia();
+        if (media != null && isPooled(media))
+        {
+            final Integer count = live.merge(media.getPath(), Integer.valueOf(1), Integer::sum);
+            peaks.merge(media.getPath(), count, Math::max);
+        }
+    }
+
+    @Override
+    public void notifyHandlableRemoved(Featurable featurable)
+    {
+        final Media media = featurable.getMedia();
+        if (media != null && isPooled(media))
+        {
+            live.computeIfPresent(media.getPath(), (path, count) -> Integer.valueOf(Math.max(0, count.intValue() - 1)));
+        }
+    }
+}
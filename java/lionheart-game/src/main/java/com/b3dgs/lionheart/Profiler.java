@@ -0,0 +1,536 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.Align;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.graphic.Graphic;
+
+/**
+ * Frame budget profiler, recording time and allocation per section in lock-free log2 histograms.
+ * <p>
+ * Sections are timed with {@link #begin()} and {@link #end(String, long)} (world phases), and with a {@link Probe} per
+ * feature class around each of its {@link com.b3dgs.lionengine.game.feature.RoutineUpdate} and
+ * {@link com.b3dgs.lionengine.game.feature.RoutineRender} call. Probes may run inside a world phase.
+ * </p>
+ * <p>
+ * Disabled profiler does nothing, sections are shown in overlay and dumped as CSV.
+ * </p>
+ * <p>
+ * Allocation counter is looked up reflectively as it is not available on every platform (Android). Only time is
+ * sampled when missing.
+ * </p>
+ */
+public final class Profiler
+{
+    /** Histogram buckets (log2 of nanoseconds). */
+    private static final int BUCKETS = 40;
+    /** Overlay lines. */
+    private static final int LINES = 16;
+    /** Overlay refresh period in frames. */
+    private static final int REFRESH_FRAMES = 60;
+    /** Nanoseconds per microsecond. */
+    private static final double NANO_MICRO = 1_000.0;
+    /** CSV header. */
+    private static final String HEADER = "section,count,total_us,mean_us,p50_us,p99_us,max_us,alloc_bytes";
+    /** Update routine section prefix. */
+    private static final String UPDATE = "update.";
+    /** Render routine section prefix. */
+    private static final String RENDER = "render.";
+    /** Disabled probe. */
+    private static final Probe DISABLED = new Probe(null, null);
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(Profiler.class);
+
+    /** Management factory class. */
+    private static final String MANAGEMENT = "java.lang.management.ManagementFactory";
+    /** Thread bean with allocation counter class. */
+    private static final String THREAD_BEAN = "com.sun.management.ThreadMXBean";
+
+    /**
+     * Get allocation counter if supported.
+     * 
+     * @return The current thread allocated bytes counter, <code>null</code> if not supported.
+     */
+    private static LongSupplier getAllocation()
+    {
+        try
+        {
+            final Object bean = Class.forName(MANAGEMENT).getMethod("getThreadMXBean").invoke(null);
+            final Class<?> type = Class.forName(THREAD_BEAN);
+            if (type.isInstance(bean)
+                && isTrue(type, bean, "isThreadAllocatedMemorySupported")
+                && isTrue(type, bean, "isThreadAllocatedMemoryEnabled"))
+            {
+                final MethodHandle handle = MethodHandles.publicLookup()
+                                                         .findVirtual(type,
+                                                                      "getCurrentThreadAllocatedBytes",
+                                                                      MethodType.methodType(long.class))
+                                                         .bindTo(bean);
+                return () -> invoke(handle);
+            }
+        }
+        catch (final ReflectiveOperationException | LinkageError exception)
+        {
+            LOGGER.info("Allocation sampling not supported: {}", exception.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Get update routine probe of feature class.
+     * 
+     * @param services The services reference.
+     * @param feature The feature class.
+     * @return The probe, doing nothing if profiler is missing or disabled.
+     */
+    public static Probe probeUpdate(Services services, Class<?> feature)
+    {
+        return probe(services, UPDATE + feature.getSimpleName());
+    }
+
+    /**
+     * Get render routine probe of feature class.
+     * 
+     * @param services The services reference.
+     * @param feature The feature class.
+     * @return The probe, doing nothing if profiler is missing or disabled.
+     */
+    public static Probe probeRender(Services services, Class<?> feature)
+    {
+        return probe(services, RENDER + feature.getSimpleName());
+    }
+
+    /**
+     * Get section probe.
+     * 
+     * @param services The services reference.
+     * @param name The section name.
+     * @return The probe, doing nothing if profiler is missing or disabled.
+     */
+    private static Probe probe(Services services, String name)
+    {
+        return services.getOptional(Profiler.class)
+                       .filter(Profiler::isEnabled)
+                       .map(profiler -> new Probe(profiler, name))
+                       .orElse(DISABLED);
+    }
+
+    /**
+     * Call boolean getter.
+     * 
+     * @param type The declaring type.
+     * @param bean The bean instance.
+     * @param name The getter name.
+     * @return <code>true</code> if getter returned <code>true</code>, <code>false</code> else.
+     * @throws ReflectiveOperationException If call error.
+     */
+    private static boolean isTrue(Class<?> type, Object bean, String name) throws ReflectiveOperationException
+    {
+        return Boolean.TRUE.equals(type.getMethod(name).invoke(bean));
+    }
+
+    /**
+     * Call allocation counter without boxing.
+     * 
+     * @param handle The bound counter handle.
+     * @return The allocated bytes, 0 if call failed.
+     */
+    private static long invoke(MethodHandle handle)
+    {
+        try
+        {
+            return (long) handle.invokeExact();
+        }
+        catch (final Throwable exception)
+        {
+            return 0L;
+        }
+    }
+
+    private final Map<String, Section> sections = new ConcurrentHashMap<>();
+    private final List<String> lines = new ArrayList<>();
+    private final LongSupplier allocation;
+    private final boolean enabled;
+    private long markAlloc;
+    private int frames;
+
+    /**
+     * Create profiler.
+     * 
+     * @param enabled <code>true</code> to record, <code>false</code> to ignore all calls.
+     */
+    public Profiler(boolean enabled)
+    {
+        super();
+
+        this.enabled = enabled;
+        allocation = enabled ? getAllocation() : null;
+    }
+
+    /**
+     * Check if profiler is enabled.
+     * 
+     * @return <code>true</code> if enabled, <code>false</code> else.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Start timing section.
+     * 
+     * @return The start time, to be passed to {@link #end(String, long)}.
+     */
+    public long begin()
+    {
+        if (!enabled)
+        {
+            return 0L;
+        }
+        markAlloc = allocated();
+        return System.nanoTime();
+    }
+
+    /**
+     * End timing section started with {@link #begin()}. Sections must not be nested.
+     * 
+     * @param name The section name.
+     * @param start The start time.
+     */
+    public void end(String name, long start)
+    {
+        if (enabled)
+        {
+            final long alloc = allocated();
+            record(name, System.nanoTime() - start, alloc - markAlloc);
+            markAlloc = alloc;
+        }
+    }
+
+
+    /**
+     * Render overlay with the most expensive sections per frame.
+     * 
+     * @param g The graphic output.
+     * @param text The text renderer.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     */
+    public void render(Graphic g, TextAtlas text, int x, int y)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+        if (frames++ % REFRESH_FRAMES == 0)
+        {
+            refresh();
+        }
+        int ty = y;
+        for (int i = 0; i < lines.size(); i++)
+        {
+            text.draw(g, x, ty, Align.LEFT, lines.get(i));
+            ty += text.getHeight();
+        }
+    }
+
+    /**
+     * Dump sections as CSV.
+     * 
+     * @param file The output file.
+     */
+    public void dump(File file)
+    {
+        if (!enabled || sections.isEmpty())
+        {
+            return;
+        }
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs())
+        {
+            LOGGER.error("Unable to create folder: {}", parent);
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+        {
+            writer.write(HEADER);
+            writer.write(System.lineSeparator());
+            for (final Section section : sorted())
+            {
+                writer.write(section.toCsv());
+                writer.write(System.lineSeparator());
+            }
+        }
+        catch (final IOException exception)
+        {
+            LOGGER.error("dump error", exception);
+            return;
+        }
+        LOGGER.info("Profile dumped: {}", file);
+    }
+
+    /**
+     * Get recorded section names.
+     * 
+     * @return The section names.
+     */
+    public List<String> getSections()
+    {
+        return new ArrayList<>(sections.keySet());
+    }
+
+    /**
+     * Record sample.
+     * 
+     * @param name The section name.
+     * @param nanos The elapsed time.
+     * @param bytes The allocated bytes.
+     */
+    private void record(String name, long nanos, long bytes)
+    {
+        sections.computeIfAbsent(name, Section::new).record(nanos, bytes);
+    }
+
+    /**
+     * Get current thread allocated bytes.
+     * 
+     * @return The allocated bytes, 0 if not supported.
+     */
+    private long allocated()
+    {
+        return allocation != null ? allocation.getAsLong() : 0L;
+    }
+
+    /**
+     * Get sections sorted by total time.
+     * 
+     * @return The sorted sections.
+     */
+    private List<Section> sorted()
+    {
+        final List<Section> list = new ArrayList<>(sections.values());
+        list.sort(Comparator.comparingLong(Section::getTotal).reversed());
+        return list;
+    }
+
+    /**
+     * Refresh overlay lines.
+     */
+    private void refresh()
+    {
+        lines.clear();
+        final List<Section> list = sorted();
+        for (int i = 0; i < Math.min(LINES, list.size()); i++)
+        {
+            lines.add(list.get(i).toOverlay());
+        }
+    }
+
+    /**
+     * Feature routine timer, recording in its own section. Probes of different sections may be nested.
+     */
+    public static final class Probe
+    {
+        private final Profiler profiler;
+        private final String name;
+        private long alloc;
+
+        /**
+         * Create probe.
+         * 
+         * @param profiler The profiler reference (<code>null</code> if disabled).
+         * @param name The section name.
+         */
+        Probe(Profiler profiler, String name)
+        {
+            super();
+
+            this.profiler = profiler;
+            this.name = name;
+        }
+
+        /**
+         * Start timing routine.
+         * 
+         * @return The start time, to be passed to {@link #end(long)}.
+         */
+        public long begin()
+        {
+            if (profiler == null)
+            {
+                return 0L;
+            }
+            alloc = profiler.allocated();
+            return System.nanoTime();
+        }
+
+        /**
+         * End timing routine started with {@link #begin()}.
+         * 
+         * @param start The start time.
+         */
+        public void end(long start)
+        {
+            if (profiler != null)
+            {
+                profiler.record(name, System.nanoTime() - start, profiler.allocated() - alloc);
+            }
+        }
+    }
+
+    /**
+     * Section statistics.
+     */
+    private static final class Section
+    {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLong alloc = new AtomicLong();
+        private final String name;
+
+        /**
+         * Create section.
+         * 
+         * @param name The section name.
+         */
+        Section(String name)
+        {
+            super();
+
+            this.name = name;
+        }
+
+        /**
+         * Record sample.
+         * 
+         * @param nanos The elapsed time.
+         * @param bytes The allocated bytes.
+         */
+        void record(long nanos, long bytes)
+        {
+            final int bucket = Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(Math.max(1L, nanos)) - 1);
+            buckets.incrementAndGet(bucket);
+            count.incrementAndGet();
+            total.addAndGet(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+            alloc.addAndGet(Math.max(0L, bytes));
+        }
+
+        /**
+         * Get total time.
+         * 
+         * @return The total time in nano.
+         */
+        long getTotal()
+        {
+            return total.get();
+        }
+
+        /**
+         * Get percentile upper bound from histogram.
+         * 
+         * @param percent The percentile (between 0 and 1).
+         * @return The percentile upper bound in nano.
+         */
+        long getPercentile(double percent)
+        {
+            final long n = count.get();
+            final long rank = (long) Math.ceil(n * percent);
+            long seen = 0L;
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                seen += buckets.get(i);
+                if (seen >= rank)
+                {
+                    return 1L << i + 1;
+                }
+            }
+            return max.get();
+        }
+
+        /**
+         * Get mean time.
+         * 
+         * @return The mean time in nano.
+         */
+        double getMean()
+        {
+            final long n = count.get();
+            return n > 0 ? total.get() / (double) n : 0.0;
+        }
+
+        /**
+         * Get overlay line.
+         * 
+         * @return The overlay line.
+         */
+        String toOverlay()
+        {
+            return String.format(Locale.ENGLISH,
+                                 "%-32s %7.1f %7.1f %6dB",
+                                 name,
+                                 Double.valueOf(getMean() / NANO_MICRO),
+                                 Double.valueOf(getPercentile(0.99) / NANO_MICRO),
+                                 Long.valueOf(alloc.get() / Math.max(1L, count.get())));
+        }
+
+        /**
+         * Get CSV line.
+         * 
+         * @return The CSV line.
+         */
+        String toCsv()
+        {
+            return String.format(Locale.ENGLISH,
+                                 "%s,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d",
+                                 name,
+                                 Long.valueOf(count.get()),
+                                 Double.valueOf(total.get() / NANO_MICRO),
+                                 Double.valueOf(getMean() / NANO_MICRO),
+                                 Double.valueOf(getPercentile(0.5) / NANO_MICRO),
+                                 Double.valueOf(getPercentile(0.99) / NANO_MICRO),
+                                 Double.valueOf(max.get() / NANO_MICRO),
+                                 Long.valueOf(alloc.get()));
+        }
+    }
+}
@@ -17,6 +17,10 @@
 package com.b3dgs.lionheart;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
@@ -29,15 +33,20 @@ import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.SplitType;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.Action;
-import com.b3dgs.lionengine.game.Configurer;
 import com.b3dgs.lionengine.game.feature.SequenceGame;
+import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.engine.Zooming;
 import com.b3dgs.lionengine.helper.DeviceControllerConfig;
+import com.b3dgs.lionengine.io.DeviceActionModel;
 import com.b3dgs.lionengine.io.DeviceController;
 
 /**
  * Game scene implementation.
+ * <p>
+ * Stage is loaded on a worker thread, while scene keeps rendering load progress. World is neither updated nor rendered
+ * until load is completed.
+ * </p>
  */
 public class Scene extends SequenceGame<World>
 {
@@ -45,6 +54,7 @@ public class Scene extends SequenceGame<World>
     private static final Logger LOGGER = LoggerFactory.getLogger(Scene.class);
 
     private final AppInfo info;
+    private final Progress progress = new Progress(getWidth(), getHeight());
     private final Media music;
     private final InitConfig init;
     private final Boolean exit;
@@ -52,6 +62,8 @@ public class Scene extends SequenceGame<World>
     {
         // Void
     });
+    private Future<?> loading;
+    private boolean loaded;
 
     /**
      * Create the scene.
@@ -83,7 +95,7 @@ public class Scene extends SequenceGame<World>
         init = config.getInit();
         this.exit = exit;
 
-        music = StageConfig.imports(new Configurer(init.getStage())).getMusic();
+        music = AssetCache.getInstance().getStage(init.getStage()).getMusic();
 
         services.add(config);
         services.add(init.getDifficulty());
@@ -124,36 +136,62 @@ public class Scene extends SequenceGame<World>
             case NONE:
                 break;
             case TWO_HORIZONTAL:
-                setSplit(this::render, g -> world.render(g, 0), true);
+                setSplit(this::render, g -> renderSplit(g, 0), true);
                 break;
             case TWO_VERTICAL:
-                setSplit(this::render, g -> world.render(g, 0), false);
+                setSplit(this::render, g -> renderSplit(g, 0), false);
                 break;
             case FOUR:
-                setSplit(this::render, g -> world.render(g, 0), g -> world.render(g, 1), g -> world.render(g, 2));
+                setSplit(this::render, g -> renderSplit(g, 0), g -> renderSplit(g, 1), g -> renderSplit(g, 2));
                 break;
             default:
                 throw new LionEngineException(split);
         }
     }
 
-    @Override
-    public void load()
+    /**
+     * Render split world once loaded.
+     * 
+     * @param g The graphic output.
+     * @param split The split index.
+     */
+    private void renderSplit(Graphic g, int split)
+    {
+        if (loaded)
+        {
+            world.render(g, split);
+        }
+    }
+
+    /**
+     * Wait for stage load completion.
+     * 
+     * @throws LionEngineException If load failed.
+     */
+    private void join()
     {
         try
         {
-            world.load(init);
+            loading.get();
+            loaded = true;
         }
-        catch (final Exception exception) // CHECKSTYLE IGNORE LINE: IllegalCatch|TrailingComment
+        catch (final InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            throw new LionEngineException(exception);
+        }
+        catch (final ExecutionException exception)
         {
             Sfx.cacheStop();
             world.stopMusic();
-            throw exception;
+            throw new LionEngineException(exception.getCause());
         }
     }
 
-    @Override
-    protected void onLoaded(double extrp, Graphic g)
+    /**
+     * Start stage once loaded.
+     */
+    private void start()
     {
         final double zoom = Settings.getInstance().getZoom();
         if (Double.compare(zoom, 1.0) != 0)
@@ -165,13 +203,73 @@ public class Scene extends SequenceGame<World>
 
         Sfx.cacheEnd();
         world.playMusic(music);
+    }
+
+    @Override
+    public void load()
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+        {
+            final Thread thread = new Thread(runnable, Scene.class.getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        loading = executor.submit(() -> world.load(init));
+        executor.shutdown();
+    }
+
+    /**
+     * Start headless simulation once loaded, binding scripted input without screen nor music.
+     * 
+     * @param input The scripted input.
+     */
+    void startSimulation(SimulationInput input)
+    {
+        final DeviceController device = services.get(DeviceController.class);
+        for (final DeviceMapping mapping : input.getMappings())
+        {
+            final Integer index = mapping.getIndex();
+            device.addFire(null, input, index, index, new DeviceActionModel(index, input));
+        }
+        join();
+        Sfx.cacheEnd();
+    }
+
+    /**
+     * Get services shared with world, for headless tools.
+     * 
+     * @return The services reference.
+     */
+    Services getServices()
+    {
+        return services;
+    }
+
+    @Override
+    protected void onLoaded(double extrp, Graphic g)
+    {
         setSystemCursorVisible(false);
     }
 
     @Override
     public void update(double extrp)
     {
-        super.update(extrp);
+        if (!loaded)
+        {
+            if (loading.isDone())
+            {
+                join();
+                start();
+            }
+            else
+            {
+                progress.setPercent(world.getLoadPercent());
+            }
+        }
+        if (loaded)
+        {
+            super.update(FramePacing.clamp(extrp));
+        }
 
         info.update(extrp);
     }
@@ -179,11 +277,19 @@ public class Scene extends SequenceGame<World>
     @Override
     public void render(Graphic g)
     {
-        super.render(g);
+        if (loaded)
+        {
+            super.render(g);
+        }
+        else
+        {
+            g.clear(0, 0, getWidth(), getHeight());
+            progress.render(g);
+        }
 
         info.render(g);
 
-        if (exit.booleanValue())
+        if (loaded && exit.booleanValue())
         {
             end();
         }
@@ -200,9 +306,25 @@ public class Scene extends SequenceGame<World>
     @Override
     public void onTerminated(boolean hasNextSequence)
     {
+        if (!loaded && loading != null)
+        {
+            try
+            {
+                join();
+            }
+            catch (final LionEngineException exception)
+            {
+                LOGGER.error("load error", exception);
+            }
+        }
         super.onTerminated(hasNextSequence);
 
         world.stopMusic();
+        world.savePools();
+        world.saveProfile();
+        world.releaseAssets();
+        world.dispose();
+        info.dispose();
         closer.get().execute();
     }
 }
@@ -18,7 +18,6 @@ package com.b3dgs.lionheart;
 
 import com.b3dgs.lionengine.Context;
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.game.Configurer;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.engine.LoopUnlocked;
 import com.b3dgs.lionengine.graphic.engine.Sequence;
@@ -55,7 +54,7 @@ public final class SceneBlack extends Sequence
     @Override
     public void update(double extrp)
     {
-        final StageConfig stage = StageConfig.imports(new Configurer(config.getInit().getStage()));
+        final StageConfig stage = AssetCache.getInstance().getStage(config.getInit().getStage());
         if (stage.getPic().isPresent() && stage.getText().isPresent() && !config.getInit().getSpawn().isPresent())
         {
             end(ScenePicture.class, config, stage.getPic().get(), stage.getText().get());
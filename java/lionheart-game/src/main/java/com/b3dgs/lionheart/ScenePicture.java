@@ -63,10 +63,12 @@ public final class ScenePicture extends Sequence
                                                                    Settings.getInstance().getLang(),
                                                                    "push.txt"))
                                           .get(0);
-    private final SpriteFont font = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "font.png"),
-                                                            Medias.create(Folder.SPRITE, "fontdata.xml"),
-                                                            12,
-                                                            12);
+    private final Media fontMedia = Medias.create(Folder.SPRITE, "font.png");
+    private final SpriteFont font = FontRegistry.getInstance()
+                                                .acquire(fontMedia,
+                                                         Medias.create(Folder.SPRITE, "fontdata.xml"),
+                                                         12,
+                                                         12);
     private final Tick tick = new Tick();
     private final SourceResolutionProvider source = new SourceResolutionDelegate(this::getWidth,
                                                                                  this::getHeight,
@@ -128,8 +130,6 @@ public final class ScenePicture extends Sequence
 
         picture = Drawable.loadSprite(pic);
 
-        font.load();
-        font.prepare();
         text = Drawable.loadImage(cacheText(narrative));
         text.setLocation(0, TEXT_Y + picYoffset);
         text.setOrigin(Origin.TOP_LEFT);
@@ -315,8 +315,10 @@ public final class ScenePicture extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
         picture.dispose();
         text.dispose();
+        FontRegistry.getInstance().release(fontMedia);
         if (!hasNextSequence)
         {
             Engine.terminate();
@@ -20,6 +20,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
 import java.util.Locale;
 import java.util.Properties;
 
@@ -126,27 +128,44 @@ public final class Settings
     }
 
     /**
-     * Load settings.
+     * Load settings, falling back to previous versions if unreadable.
      * 
      * @param file The custom settings.
      */
     public static void load(File file)
     {
-        if (file.exists())
+        for (final File history : Persistence.getInstance().getHistory(file))
         {
-            try (InputStream input = new FileInputStream(file))
+            try (InputStream input = new FileInputStream(history))
             {
                 INSTANCE.load(input);
+                return;
             }
-            catch (@SuppressWarnings("unused") final IOException exception)
+            catch (@SuppressWarnings("unused") final IOException | IllegalArgumentException exception)
             {
-                loadDefault();
+                LOGGER.warn("Corrupted settings: {}", history);
             }
         }
-        else
+        loadDefault();
+    }
+
+    /**
+     * Apply settings and save them in background.
+     * 
+     * @param content The properties content snapshot.
+     */
+    public static void save(String content)
+    {
+        try
+        {
+            INSTANCE.properties.load(new StringReader(content));
+        }
+        catch (final IOException exception)
         {
-            loadDefault();
+            LOGGER.error("save error", exception);
         }
+        Persistence.getInstance()
+                   .save(getFile(), file -> Files.writeString(file.toPath(), content));
     }
 
     /**
@@ -24,6 +24,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -160,6 +162,9 @@ public enum Sfx
     private static final List<Sfx> TO_CACHE = new ArrayList<>(Arrays.asList(Sfx.values()));
 
     private static final ExecutorService EXECUTOR;
+    private static final SfxMixer MIXER = new SfxMixer(values().length,
+                                                       () -> Settings.getInstance().getVolumeSfx(),
+                                                       Sfx::playMixed);
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger(Sfx.class);
 
@@ -168,6 +173,7 @@ public enum Sfx
     static
     {
         EXECUTOR = Executors.newFixedThreadPool(MAX_PARALLEL_CACHE, r -> new Thread(r, Sfx.class.getSimpleName()));
+        MIXER.start();
     }
 
     /**
@@ -200,16 +206,21 @@ public enum Sfx
     {
         return () ->
         {
-            sfx.audio.setVolume(0);
+            sfx.lock.lock();
             try
             {
-                sfx.play();
+                sfx.audio.setVolume(0);
+                sfx.playDirect();
+                sfx.audio.await();
             }
             catch (@SuppressWarnings("unused") final RejectedExecutionException exception)
             {
                 // Skip
             }
-            sfx.audio.await();
+            finally
+            {
+                sfx.lock.unlock();
+            }
         };
     }
 
@@ -258,7 +269,15 @@ public enum Sfx
             {
                 // Skip
             }
-            sfx.audio.setVolume(volume);
+            sfx.lock.lock();
+            try
+            {
+                sfx.audio.setVolume(volume);
+            }
+            finally
+            {
+                sfx.lock.unlock();
+            }
         }
     }
 
@@ -281,10 +300,18 @@ public enum Sfx
      */
     public static void cache(Sfx sfx)
     {
-        sfx.audio.setVolume(0);
-        sfx.play();
-        sfx.audio.await();
-        sfx.audio.setVolume(Settings.getInstance().getVolumeSfx());
+        sfx.lock.lock();
+        try
+        {
+            sfx.audio.setVolume(0);
+            sfx.playDirect();
+            sfx.audio.await();
+            sfx.audio.setVolume(Settings.getInstance().getVolumeSfx());
+        }
+        finally
+        {
+            sfx.lock.unlock();
+        }
     }
 
     /**
@@ -309,6 +336,10 @@ public enum Sfx
 
     /** Audio handler. */
     private final Audio audio;
+    /** Mixer category. */
+    private final SfxCategory category;
+    /** Volume lock, held while volume is set and sound started. */
+    private final Lock lock = new ReentrantLock();
     /** Cached flag. */
     private volatile boolean cached;
 
@@ -319,18 +350,61 @@ public enum Sfx
     {
         final Media media = Medias.create(Folder.SFX, name().toLowerCase(Locale.ENGLISH) + Extension.SFX);
         audio = AudioFactory.loadAudio(media);
+        category = SfxCategory.from(this);
+    }
+
+    /**
+     * Get the mixer category.
+     * 
+     * @return The sfx category.
+     */
+    public SfxCategory getCategory()
+    {
+        return category;
     }
 
     /**
-     * Play sound.
+     * Play sound through mixer.
      */
     public void play()
     {
         if (Settings.getInstance().getVolumeSfx() > 0)
         {
-            audio.play();
-            cached = true;
+            MIXER.submit(this);
+        }
+    }
+
+    /**
+     * Play sound from mixer. Not started while sound is being cached, so mixer retries it on next frame.
+     * 
+     * @param volume The mixed volume.
+     * @return <code>true</code> if started, <code>false</code> if busy.
+     */
+    boolean playMixed(int volume)
+    {
+        if (lock.tryLock())
+        {
+            try
+            {
+                audio.setVolume(volume);
+                playDirect();
+                return true;
+            }
+            finally
+            {
+                lock.unlock();
+            }
         }
+        return false;
+    }
+
+    /**
+     * Play sound without mixer.
+     */
+    private void playDirect()
+    {
+        audio.play();
+        cached = true;
     }
 
     /**
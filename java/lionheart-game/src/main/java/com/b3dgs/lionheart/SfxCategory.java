@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * List of sound fx categories used by mixer.
+ * <p>
+ * Category is resolved from {@link Sfx} name prefix.
+ * </p>
+ */
+public enum SfxCategory
+{
+    /** Menu sounds. */
+    MENU(1, false),
+    /** Valdyn sounds. */
+    VALDYN(2, false),
+    /** Item sounds. */
+    ITEM(2, false),
+    /** Scenery sounds. */
+    SCENERY(3, false),
+    /** Monster sounds. */
+    MONSTER(3, false),
+    /** Effect sounds. */
+    EFFECT(2, false),
+    /** Projectile sounds. */
+    PROJECTILE(3, false),
+    /** Boss sounds. */
+    BOSS(2, true);
+
+    /**
+     * Get category from sfx.
+     * 
+     * @param sfx The sfx reference (must not be <code>null</code>).
+     * @return The sfx category.
+     * @throws LionEngineException If no category found.
+     */
+    public static SfxCategory from(Sfx sfx)
+    {
+        for (final SfxCategory category : values())
+        {
+            if (sfx.name().startsWith(category.name()))
+            {
+                return category;
+            }
+        }
+        throw new LionEngineException(sfx);
+    }
+
+    /** Maximum concurrent voices. */
+    private final int voices;
+    /** Ducking flag. */
+    private final boolean ducking;
+
+    /**
+     * Constructor.
+     * 
+     * @param voices The maximum concurrent voices.
+     * @param ducking <code>true</code> to duck other categories when played, <code>false</code> else.
+     */
+    SfxCategory(int voices, boolean ducking)
+    {
+        this.voices = voices;
+        this.ducking = ducking;
+    }
+
+    /**
+     * Get the maximum concurrent voices.
+     * 
+     * @return The maximum voices.
+     */
+    public int getVoices()
+    {
+        return voices;
+    }
+
+    /**
+     * Check if category ducks the other ones.
+     * 
+     * @return <code>true</code> if ducking, <code>false</code> else.
+     */
+    public boolean isDucking()
+    {
+        return ducking;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+/**
+ * Sound fx mixer, dispatching play requests on a dedicated thread.
+ * <p>
+ * Requests are queued without lock and mixed on each frame tick, without waking the mixer per request:
+ * </p>
+ * <ul>
+ * <li>identical sounds requested during the same frame are played once,</li>
+ * <li>each {@link SfxCategory} can only have a limited number of concurrent voices,</li>
+ * <li>ducking categories lower the volume of the other ones for a short delay,</li>
+ * <li>a sound the player could not start is kept for the next frame.</li>
+ * </ul>
+ * <p>
+ * As audio backend does not report playback end, a voice is considered playing during {@link #VOICE_NANO}.
+ * </p>
+ * <p>
+ * This class is Thread-Safe.
+ * </p>
+ */
+final class SfxMixer
+{
+    private static final long FRAME_NANO = TimeUnit.SECONDS.toNanos(1L) / Constant.RESOLUTION.getRate();
+    private static final long DUCK_DELAY_NANO = TimeUnit.MILLISECONDS.toNanos(400L);
+    /** Voice playing duration estimation. */
+    static final long VOICE_NANO = TimeUnit.MILLISECONDS.toNanos(300L);
+    private static final double DUCK_RATIO = 0.5;
+
+    /**
+     * Mixed sfx player.
+     */
+    @FunctionalInterface
+    interface Player
+    {
+        /**
+         * Play sfx at volume.
+         * 
+         * @param sfx The sfx to play.
+         * @param volume The mixed volume.
+         * @return <code>true</code> if started, <code>false</code> if busy and must be retried.
+         */
+        boolean play(Sfx sfx, int volume);
+    }
+
+    /** Pending requests. */
+    private final Queue<Sfx> requests = new ConcurrentLinkedQueue<>();
+    /** Pending flag per sfx ordinal. */
+    private final AtomicIntegerArray pending;
+    /** Current frame sfx. */
+    private final Sfx[] frame;
+    /** Voices end time per category ordinal. */
+    private final long[][] voices = new long[SfxCategory.values().length][];
+    /** Sfx volume provider. */
+    private final IntSupplier volume;
+    /** Mixed sfx player. */
+    private final Player player;
+    /** Mixer thread. */
+    private final Thread thread;
+    /** Ducking end time. */
+    private long duckEnd;
+
+    /**
+     * Create mixer. Mixer thread is not started until {@link #start()}.
+     * 
+     * @param count The number of sfx.
+     * @param volume The sfx volume provider.
+     * @param player The mixed sfx player.
+     */
+    SfxMixer(int count, IntSupplier volume, Player player)
+    {
+        super();
+
+        this.volume = volume;
+        this.player = player;
+        pending = new AtomicIntegerArray(count);
+        frame = new Sfx[count];
+        duckEnd = System.nanoTime();
+        for (final SfxCategory category : SfxCategory.values())
+        {
+            voices[category.ordinal()] = new long[category.getVoices()];
+            Arrays.fill(voices[category.ordinal()], duckEnd);
+        }
+        thread = new Thread(this::run, SfxMixer.class.getSimpleName());
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Start mixer thread.
+     */
+    void start()
+    {
+        thread.start();
+    }
+
+    /**
+     * Request sfx play. Ignored if already requested during current frame.
+     * 
+     * @param sfx The sfx to play.
+     */
+    void submit(Sfx sfx)
+    {
+        if (pending.compareAndSet(sfx.ordinal(), 0, 1))
+        {
+            requests.offer(sfx);
+        }
+    }
+
+    /**
+     * Mixer loop.
+     */
+    private void run()
+    {
+        while (!Thread.currentThread().isInterrupted())
+        {
+            if (!requests.isEmpty())
+            {
+                mix(System.nanoTime());
+            }
+            LockSupport.parkNanos(this, FRAME_NANO);
+        }
+    }
+
+    /**
+     * Mix current frame requests.
+     * 
+     * @param now The current time in nano.
+     */
+    void mix(long now)
+    {
+        int n = 0;
+        Sfx sfx;
+        while (n < frame.length && (sfx = requests.poll()) != null)
+        {
+            pending.set(sfx.ordinal(), 0);
+            frame[n] = sfx;
+            n++;
+            if (sfx.getCategory().isDucking())
+            {
+                duckEnd = now + DUCK_DELAY_NANO;
+            }
+        }
+
+        final int current = volume.getAsInt();
+        final boolean ducked = now - duckEnd < 0L;
+        for (int i = 0; i < n; i++)
+        {
+            final SfxCategory category = frame[i].getCategory();
+            final long[] ends = voices[category.ordinal()];
+            final int voice = getFreeVoice(ends, now);
+            if (voice > -1)
+            {
+                final int mixed;
+                if (ducked && !category.isDucking())
+                {
+                    mixed = (int) (current * DUCK_RATIO);
+                }
+                else
+                {
+                    mixed = current;
+                }
+                if (player.play(frame[i], mixed))
+                {
+                    ends[voice] = now + VOICE_NANO;
+                }
+                else
+                {
+                    submit(frame[i]);
+                }
+            }
+            frame[i] = null;
+        }
+    }
+
+    /**
+     * Get a free voice index.
+     * 
+     * @param ends The voices end time.
+     * @param now The current time in nano.
+     * @return The free voice index, <code>-1</code> if all voices are playing.
+     */
+    private static int getFreeVoice(long[] ends, long now)
+    {
+        for (int i = 0; i < ends.length; i++)
+        {
+            if (now - ends[i] >= 0L)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.concurrent.TimeUnit;
+
+import com.b3dgs.lionengine.Config;
+
+/**
+ * Headless stage simulation.
+ * <p>
+ * Scene is created on a {@link ContextHeadless}, loaded, then updated as fast as possible with a scripted input. Render
+ * is never called and no screen is opened, audio must be registered with a void format by caller. Scripted mappings are
+ * bound as fire actions of the player controller.
+ * </p>
+ */
+public final class Simulation
+{
+    /** Fixed extrapolation, one game frame per update. */
+    private static final double EXTRP = 1.0;
+
+    private final Scene scene;
+    private final SimulationInput input;
+
+    /**
+     * Create simulation.
+     * 
+     * @param config The game config (must not be <code>null</code>).
+     * @param input The scripted input (must not be <code>null</code>).
+     */
+    public Simulation(GameConfig config, SimulationInput input)
+    {
+        super();
+
+        this.input = input;
+        scene = new Scene(new ContextHeadless(Config.windowed(Constant.RESOLUTION_OUTPUT)), config);
+    }
+
+    /**
+     * Load stage and run simulation.
+     * 
+     * @param frames The number of updates to run.
+     * @return The update throughput in frames per second.
+     */
+    public double run(int frames)
+    {
+        start();
+
+        final long elapsed;
+        try
+        {
+            final long start = System.nanoTime();
+            for (int frame = 0; frame < frames; frame++)
+            {
+                step(frame);
+            }
+            elapsed = Math.max(1L, System.nanoTime() - start);
+        }
+        finally
+        {
+            stop();
+        }
+        return frames * (double) TimeUnit.SECONDS.toNanos(1L) / elapsed;
+    }
+
+    /**
+     * Load stage and bind scripted input.
+     */
+    void start()
+    {
+        scene.load();
+        scene.startSimulation(input);
+    }
+
+    /**
+     * Run one update.
+     * 
+     * @param frame The current frame.
+     */
+    void step(int frame)
+    {
+        input.update(frame);
+        scene.update(EXTRP);
+    }
+
+    /**
+     * Terminate scene.
+     */
+    void stop()
+    {
+        scene.onTerminated(false);
+    }
+
+    /**
+     * Get simulated scene.
+     * 
+     * @return The scene reference.
+     */
+    Scene getScene()
+    {
+        return scene;
+    }
+}
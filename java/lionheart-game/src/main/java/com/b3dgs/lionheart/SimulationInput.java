@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import com.b3dgs.lionengine.InputDeviceListener;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.io.DevicePush;
+
+/**
+ * Scripted input for headless simulation, pushing device mappings at given frames.
+ * <p>
+ * Scripts can be built with {@link #press(int, DeviceMapping, int)} or loaded from a recorded text file, one press per
+ * line as <code>frame,MAPPING,duration</code> (lines starting with <code>#</code> are ignored). Pushed index is the
+ * mapping index.
+ * </p>
+ */
+public final class SimulationInput implements DevicePush
+{
+    /** Values separator. */
+    private static final String SEPARATOR = ",";
+    /** Comment prefix. */
+    private static final String COMMENT = "#";
+    /** Values per line. */
+    private static final int VALUES = 3;
+    /** Invalid line error. */
+    private static final String ERROR_LINE = "Invalid simulation input line: ";
+
+    /**
+     * Load recorded input.
+     * 
+     * @param media The input media.
+     * @return The loaded input.
+     * @throws LionEngineException If invalid input.
+     */
+    public static SimulationInput load(Media media)
+    {
+        final SimulationInput input = new SimulationInput();
+        for (final String line : Util.readLines(media))
+        {
+            final String data = line.trim();
+            if (data.isEmpty() || data.startsWith(COMMENT))
+            {
+                continue;
+            }
+            final String[] values = data.split(SEPARATOR);
+            if (values.length != VALUES)
+            {
+                throw new LionEngineException(ERROR_LINE + line);
+            }
+            try
+            {
+                input.press(Integer.parseInt(values[0].trim()),
+                            DeviceMapping.valueOf(values[1].trim().toUpperCase(Locale.ENGLISH)),
+                            Integer.parseInt(values[2].trim()));
+            }
+            catch (final IllegalArgumentException exception)
+            {
+                throw new LionEngineException(exception);
+            }
+        }
+        return input;
+    }
+
+    private final List<Press> presses = new ArrayList<>();
+    private final Set<DeviceMapping> mappings = EnumSet.noneOf(DeviceMapping.class);
+    private final Set<Integer> pushed = new HashSet<>();
+    private final Set<Integer> previous = new HashSet<>();
+    private Integer last;
+
+    /**
+     * Create empty input.
+     */
+    public SimulationInput()
+    {
+        super();
+    }
+
+    /**
+     * Add press.
+     * 
+     * @param frame The first pushed frame.
+     * @param mapping The pushed mapping.
+     * @param duration The pushed duration in frames.
+     * @return This instance.
+     */
+    public SimulationInput press(int frame, DeviceMapping mapping, int duration)
+    {
+        presses.add(new Press(frame, mapping, duration));
+        mappings.add(mapping);
+        return this;
+    }
+
+    /**
+     * Get the scripted mappings.
+     * 
+     * @return The scripted mappings.
+     */
+    public Set<DeviceMapping> getMappings()
+    {
+        return EnumSet.copyOf(mappings);
+    }
+
+    /**
+     * Update pushed mappings for frame.
+     * 
+     * @param frame The current frame.
+     */
+    public void update(int frame)
+    {
+        previous.clear();
+        previous.addAll(pushed);
+        pushed.clear();
+
+        final int n = presses.size();
+        for (int i = 0; i < n; i++)
+        {
+            final Press press = presses.get(i);
+            if (frame >= press.frame && frame < press.frame + press.duration)
+            {
+                pushed.add(press.mapping.getIndex());
+            }
+        }
+    }
+
+    /*
+     * DevicePush
+     */
+
+    @Override
+    public String getName()
+    {
+        return SimulationInput.class.getSimpleName();
+    }
+
+    @Override
+    public boolean isPushedOnce(Integer index)
+    {
+        if (pushed.contains(index) && !previous.contains(index))
+        {
+            last = index;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPushed(Integer index)
+    {
+        if (pushed.contains(index))
+        {
+            last = index;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPushed()
+    {
+        return !pushed.isEmpty();
+    }
+
+    @Override
+    public Integer getPushed()
+    {
+        return last;
+    }
+
+    @Override
+    public void addListener(InputDeviceListener listener)
+    {
+        // Scripted
+    }
+
+    @Override
+    public void removeListener(InputDeviceListener listener)
+    {
+        // Scripted
+    }
+
+    /**
+     * Scripted press.
+     */
+    private static final class Press
+    {
+        private final int frame;
+        private final DeviceMapping mapping;
+        private final int duration;
+
+        /**
+         * Create press.
+         * 
+         * @param frame The first pushed frame.
+         * @param mapping The pushed mapping.
+         * @param duration The pushed duration in frames.
+         */
+        Press(int frame, DeviceMapping mapping, int duration)
+        {
+            super();
+
+            this.frame = frame;
+            this.mapping = mapping;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import com.b3dgs.lionengine.Localizable;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Spawner;
+
+/**
+ * Pre-resolved spawn target, obtained from {@link SpawnHandles} once and spawned directly from gameplay code.
+ */
+public final class SpawnHandle
+{
+    private final Spawner spawner;
+    private final Media media;
+
+    /**
+     * Create handle.
+     * 
+     * @param spawner The spawner reference.
+     * @param media The resolved media.
+     */
+    SpawnHandle(Spawner spawner, Media media)
+    {
+        super();
+
+        this.spawner = spawner;
+        this.media = media;
+    }
+
+    /**
+     * Spawn featurable at location.
+     * 
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @return The spawned featurable.
+     */
+    public Featurable spawn(double x, double y)
+    {
+        return spawner.spawn(media, x, y);
+    }
+
+    /**
+     * Spawn featurable at localizable location.
+     * 
+     * @param localizable The localizable reference.
+     * @return The spawned featurable.
+     */
+    public Featurable spawn(Localizable localizable)
+    {
+        return spawner.spawn(media, localizable);
+    }
+
+    /**
+     * Get the resolved media.
+     * 
+     * @return The resolved media.
+     */
+    public Media getMedia()
+    {
+        return media;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.Spawner;
+
+/**
+ * Spawn handles registry, interning media paths to a single {@link SpawnHandle}.
+ * <p>
+ * Features resolve their handles once when created (stage load), so spawning during play does not build any path
+ * or media.
+ * </p>
+ */
+public final class SpawnHandles
+{
+    /**
+     * Get registry from services, registering it on first use.
+     * 
+     * @param services The services reference.
+     * @return The registry.
+     */
+    public static synchronized SpawnHandles from(Services services)
+    {
+        return services.getOptional(SpawnHandles.class)
+                       .orElseGet(() -> services.add(new SpawnHandles(services.get(Spawner.class))));
+    }
+
+    private final Map<String, SpawnHandle> handles = new ConcurrentHashMap<>();
+    private final Spawner spawner;
+
+    /**
+     * Create registry.
+     * 
+     * @param spawner The spawner reference.
+     */
+    public SpawnHandles(Spawner spawner)
+    {
+        super();
+
+        this.spawner = spawner;
+    }
+
+    /**
+     * Get handle from path.
+     * 
+     * @param path The media path elements.
+     * @return The interned handle.
+     */
+    public SpawnHandle get(String... path)
+    {
+        return get(Medias.create(path));
+    }
+
+    /**
+     * Get handle from media.
+     * 
+     * @param media The media reference.
+     * @return The interned handle.
+     */
+    public SpawnHandle get(Media media)
+    {
+        return handles.computeIfAbsent(media.getPath(), p -> new SpawnHandle(spawner, media));
+    }
+
+    /**
+     * Get the interned handles count.
+     * 
+     * @return The handles count.
+     */
+    public int size()
+    {
+        return handles.size();
+    }
+}
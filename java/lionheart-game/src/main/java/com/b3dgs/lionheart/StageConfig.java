@@ -24,9 +24,12 @@ import com.b3dgs.lionengine.AttributesReader;
 import com.b3dgs.lionengine.Check;
 import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.geom.Coord;
+import com.b3dgs.lionheart.constant.Folder;
 import com.b3dgs.lionheart.landscape.BackgroundType;
 import com.b3dgs.lionheart.landscape.ForegroundConfig;
+import com.b3dgs.lionheart.landscape.ForegroundType;
 
 /**
  * Stage configuration.
@@ -338,6 +341,34 @@ public final class StageConfig
         return rasterFolder;
     }
 
+    /**
+     * Get the existing direct raster colors of stage tiles, water and hero.
+     * 
+     * @return The raster colors images (empty if no raster folder).
+     */
+    public List<Media> getRasterColors()
+    {
+        final List<Media> colors = new ArrayList<>();
+        rasterFolder.ifPresent(r ->
+        {
+            final String hero = ForegroundType.LAVA == foreground.getType() ? "lava2.png" : "water2.png";
+            final Media[] medias =
+            {
+                Medias.create(r, "tiles2.png"),
+                Medias.create(r, "water2.png"),
+                Medias.create(Folder.RASTER, Folder.HERO, "valdyn", hero)
+            };
+            for (final Media media : medias)
+            {
+                if (media.exists())
+                {
+                    colors.add(media);
+                }
+            }
+        });
+        return colors;
+    }
+
     /**
      * Get the background type.
      * 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.graphic.drawable.SpriteTiled;
+import com.b3dgs.lionheart.event.EventRecorder.Timing;
+import com.b3dgs.lionheart.event.Events;
+import com.b3dgs.lionheart.landscape.ForegroundType;
+
+/**
+ * Speculative next stage preloader.
+ * <p>
+ * As soon as next stage is known (reached checkpoint leading to another stage, boss reached), its configuration, tile
+ * sheets, water tiles and raster colors are loaded on a low priority background thread into {@link AssetCache}, where next world picks them
+ * up. Already loaded assets are not loaded again, {@link AssetCache} decides what is retained or evicted.
+ * </p>
+ */
+public final class StagePreloader
+{
+    /** Instance. */
+    private static final StagePreloader INSTANCE = new StagePreloader();
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(StagePreloader.class);
+
+    /**
+     * Get the preloader instance.
+     * 
+     * @return The preloader instance.
+     */
+    public static StagePreloader getInstance()
+    {
+        return INSTANCE;
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, StagePreloader.class.getSimpleName());
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private final AssetCache assets = AssetCache.getInstance();
+
+    /**
+     * Private constructor.
+     */
+    private StagePreloader()
+    {
+        super();
+    }
+
+    /**
+     * Request stage preloading. Assets still in cache are reused.
+     * 
+     * @param stage The stage media.
+     */
+    public void preload(Media stage)
+    {
+        executor.execute(() -> load(stage));
+    }
+
+    /**
+     * Load stage assets.
+     * 
+     * @param media The stage media.
+     */
+    private void load(Media media)
+    {
+        final Timing event = Events.stageLoad("preload", media.getPath());
+        try
+        {
+            final StageConfig stage = assets.getStage(media);
+            final WorldType world = stage.getBackground().getWorld();
+            final List<SpriteTiled> sheets = assets.getSheets(world);
+
+            final ForegroundType foreground = stage.getForeground().getType();
+            final RasterType raster = Settings.getInstance().getRaster();
+            if (RasterType.DIRECT == raster)
+            {
+                for (final Media color : stage.getRasterColors())
+                {
+                    assets.getImage(world, color);
+                }
+            }
+            else if (RasterType.CACHE == raster
+                && (foreground == ForegroundType.WATER || foreground == ForegroundType.LAVA)
+                && !sheets.isEmpty())
+            {
+                final SpriteTiled sheet = sheets.get(0);
+                stage.getRasterFolder()
+                     .ifPresent(r -> assets.getWater(world, r, sheet.getTileWidth(), sheet.getTileHeight()));
+            }
+            event.end(sheets.size());
+        }
+        catch (final LionEngineException exception)
+        {
+            LOGGER.error("load error", exception);
+        }
+    }
+}
@@ -73,6 +73,18 @@ public class StoriesBase implements Resource, Renderable
         this.start = start;
     }
 
+    /**
+     * Declare story on timeline, kept until timeline disposal. Replaces {@link #load()} and {@link #dispose()}.
+     * 
+     * @param timeline The assets timeline.
+     * @param index The story index.
+     * @param startMs The first story use time.
+     */
+    public void stream(CutsceneTimeline timeline, int index, long startMs)
+    {
+        timeline.add(startMs, CutsceneTimeline.UNTIL_DISPOSE, stories.get(index));
+    }
+
     /**
      * Get stories count.
      * 
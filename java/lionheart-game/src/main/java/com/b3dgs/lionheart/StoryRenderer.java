@@ -18,6 +18,7 @@ package com.b3dgs.lionheart;
 
 import java.util.Optional;
 
+import com.b3dgs.lionengine.Align;
 import com.b3dgs.lionengine.Constant;
 import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Medias;
@@ -35,14 +36,19 @@ import com.b3dgs.lionheart.constant.Folder;
  */
 public class StoryRenderer implements Resource, Renderable
 {
-    /** Font. */
-    private final SpriteFont font = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "font.png"),
-                                                            Medias.create(Folder.SPRITE, "fontdata.xml"),
-                                                            12,
-                                                            12);
-
+    /** Font image. */
+    private final Media fontMedia = Medias.create(Folder.SPRITE, "font.png");
     /** Pictures. */
     private final Sprite story;
+    /** Text value. */
+    private final String text;
+    /** Horizontal text location. */
+    private final int tx;
+    /** Vertical text location. */
+    private final int ty;
+
+    /** Font, acquired on load. */
+    private SpriteFont font;
     /** Show text. */
     private boolean showText = true;
 
@@ -79,8 +85,9 @@ public class StoryRenderer implements Resource, Renderable
         story = Drawable.loadSprite(picture);
         story.setLocation(px, py);
         story.setOrigin(origin);
-        font.setLocation(tx, ty);
-        font.setText(Optional.ofNullable(text).orElse(Constant.EMPTY_STRING));
+        this.text = Optional.ofNullable(text).orElse(Constant.EMPTY_STRING);
+        this.tx = tx;
+        this.ty = ty;
     }
 
     /**
@@ -97,7 +104,8 @@ public class StoryRenderer implements Resource, Renderable
     public void load()
     {
         story.load();
-        font.load();
+
+        font = FontRegistry.getInstance().acquire(fontMedia, Medias.create(Folder.SPRITE, "fontdata.xml"), 12, 12);
     }
 
     @Override
@@ -110,7 +118,11 @@ public class StoryRenderer implements Resource, Renderable
     public void dispose()
     {
         story.dispose();
-        font.dispose();
+        if (font != null)
+        {
+            FontRegistry.getInstance().release(fontMedia);
+            font = null;
+        }
     }
 
     @Override
@@ -119,7 +131,7 @@ public class StoryRenderer implements Resource, Renderable
         story.render(g);
         if (showText)
         {
-            font.render(g);
+            font.draw(g, tx, ty, Align.LEFT, text);
         }
     }
 }
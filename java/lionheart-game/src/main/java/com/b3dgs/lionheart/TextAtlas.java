@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.b3dgs.lionengine.Align;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.Text;
+import com.b3dgs.lionengine.graphic.drawable.SpriteFont;
+import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Text rendering from pre rasterized glyph atlas, replacing system font rendering for overlays.
+ * <p>
+ * Each drawn text is laid out once in its own buffer, cached by content, and then rendered with a single blit. Least
+ * recently used texts are released when cache is full.
+ * </p>
+ * <p>
+ * Atlas font and glyphs are shared through {@link FontRegistry}. Line height fits both atlas glyphs and system text
+ * size. Atlas is used when it covers all the text characters, other texts are rendered with the system font in atlas
+ * glyphs color.
+ * </p>
+ */
+public final class TextAtlas
+{
+    /** Minimum text size. */
+    public static final int SIZE_MIN = 9;
+
+    private static final String FONT = "font11";
+    private static final int FONT_WIDTH = 11;
+    private static final int FONT_HEIGHT = 15;
+    private static final ColorRgba FONT_COLOR = new ColorRgba(238, 238, 238);
+    private static final int CACHE_MAX = 32;
+
+    /**
+     * Create default overlay text.
+     * 
+     * @param size The text size.
+     * @return The text atlas.
+     */
+    public static TextAtlas createDefault(int size)
+    {
+        return new TextAtlas(Medias.create(Folder.SPRITE, FONT + ".png"),
+                             Medias.create(Folder.SPRITE, FONT + ".xml"),
+                             FONT_WIDTH,
+                             FONT_HEIGHT,
+                             size,
+                             FONT_COLOR);
+    }
+
+    /**
+     * Get text size scaled to source resolution.
+     * 
+     * @param source The source resolution.
+     * @return The text size.
+     */
+    public static int getSize(SourceResolutionProvider source)
+    {
+        return Math.max(SIZE_MIN,
+                        SIZE_MIN * (int) Math.floor(source.getHeight() / (double) Constant.RESOLUTION.getHeight()));
+    }
+
+    /** Laid out texts. */
+    private final Map<String, ImageBuffer> cache = new LinkedHashMap<>(CACHE_MAX, 0.75F, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImageBuffer> eldest)
+        {
+            if (size() > CACHE_MAX)
+            {
+                eldest.getValue().dispose();
+                return true;
+            }
+            return false;
+        }
+    };
+    /** Font image. */
+    private final Media media;
+    /** Glyph atlas. */
+    private final SpriteFont font;
+    /** Atlas characters. */
+    private final BitSet glyphs;
+    /** System font, for texts not covered by atlas. */
+    private final Text fallback;
+    /** Atlas glyphs color, used by system font. */
+    private final ColorRgba color;
+    /** Line height. */
+    private final int height;
+
+    /**
+     * Create text atlas.
+     * 
+     * @param media The font image.
+     * @param data The font data.
+     * @param letterWidth The letter width.
+     * @param letterHeight The letter height.
+     * @param size The system text size.
+     * @param color The atlas glyphs color, used by system font.
+     */
+    public TextAtlas(Media media, Media data, int letterWidth, int letterHeight, int size, ColorRgba color)
+    {
+        super();
+
+        this.media = media;
+        font = FontRegistry.getInstance().acquire(media, data, letterWidth, letterHeight);
+        glyphs = FontRegistry.getInstance().getGlyphs(data);
+        fallback = Graphics.createText(size);
+        this.color = color;
+        height = Math.max(letterHeight, size);
+    }
+
+    /**
+     * Get line height.
+     * 
+     * @return The line height.
+     */
+    public int getHeight()
+    {
+        return height;
+    }
+
+    /**
+     * Draw text from cache, laid out on first use.
+     * 
+     * @param g The graphic output.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @param align The horizontal align.
+     * @param text The text to draw.
+     */
+    public void draw(Graphic g, int x, int y, Align align, String text)
+    {
+        if (!text.isEmpty())
+        {
+            final ImageBuffer buffer = cache.computeIfAbsent(text, t -> layout(g, t));
+            final int ox;
+            if (Align.CENTER == align)
+            {
+                ox = buffer.getWidth() / 2;
+            }
+            else if (Align.RIGHT == align)
+            {
+                ox = buffer.getWidth();
+            }
+            else
+            {
+                ox = 0;
+            }
+            g.drawImage(buffer, x - ox, y);
+        }
+    }
+
+    /**
+     * Draw text directly glyph per glyph, for texts changing often.
+     * 
+     * @param g The graphic output.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @param align The horizontal align.
+     * @param text The text to draw.
+     */
+    public void drawDirect(Graphic g, int x, int y, Align align, String text)
+    {
+        if (isAtlas(text))
+        {
+            font.draw(g, x, y, align, text);
+        }
+        else
+        {
+            g.setColor(color);
+            fallback.draw(g, x, y, align, text);
+        }
+    }
+
+    /**
+     * Release cached texts and atlas.
+     */
+    public void dispose()
+    {
+        for (final ImageBuffer buffer : cache.values())
+        {
+            buffer.dispose();
+        }
+        cache.clear();
+        FontRegistry.getInstance().release(media);
+    }
+
+    /**
+     * Check if text can be drawn from atlas.
+     * 
+     * @param text The text to check.
+     * @return <code>true</code> if atlas covers all characters, <code>false</code> else.
+     */
+    private boolean isAtlas(String text)
+    {
+        final int n = text.length();
+        for (int i = 0; i < n; i++)
+        {
+            if (!glyphs.get(text.charAt(i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lay out text in a dedicated buffer.
+     * 
+     * @param output The graphic output, used to measure system font.
+     * @param text The text to lay out.
+     * @return The text buffer.
+     */
+    private ImageBuffer layout(Graphic output, String text)
+    {
+        final boolean atlas = isAtlas(text);
+        final int width = atlas ? font.getTextWidth(text) : fallback.getStringWidth(output, text);
+        final ImageBuffer buffer = Graphics.createImageBuffer(Math.max(1, width),
+                                                              atlas ? Math.max(height, font.getTextHeight(text))
+                                                                    : height,
+                                                              ColorRgba.TRANSPARENT);
+        buffer.prepare();
+
+        final Graphic g = buffer.createGraphic();
+        if (atlas)
+        {
+            font.draw(g, 0, 0, Align.LEFT, text);
+        }
+        else
+        {
+            g.setColor(color);
+            fallback.draw(g, 0, 0, Align.LEFT, text);
+        }
+        g.dispose();
+
+        return buffer;
+    }
+}
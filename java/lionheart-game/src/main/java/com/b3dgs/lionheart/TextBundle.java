@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Per language text bundle, compiled from text files into a single indexed resource.
+ * <p>
+ * Bundle contains all language text files lines as one UTF-8 block, with an index of file path to its lines range and
+ * line offsets. It is loaded once per language and shared, so reading a text file does not open any resource. Files
+ * missing from bundle (or language without bundle) are read once from their text file and kept.
+ * </p>
+ * <p>
+ * Bundles are generated with {@link #compile(File)} and must be regenerated when text files are edited.
+ * </p>
+ */
+public final class TextBundle
+{
+    /** Bundle file name, in language folder. */
+    public static final String FILENAME = "texts.bin";
+    /** Text file extension. */
+    private static final String EXTENSION = ".txt";
+    /** Bundle magic. */
+    private static final int MAGIC = 0x4C485458;
+    /** Bundle version. */
+    private static final int VERSION = 1;
+    /** Bundle path separator. */
+    private static final char SEPARATOR = '/';
+    /** Loaded bundles per language. */
+    private static final Map<String, TextBundle> BUNDLES = new ConcurrentHashMap<>();
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TextBundle.class);
+
+    /**
+     * Get text file lines from its language bundle.
+     * 
+     * @param media The text file, inside {@link Folder#TEXT}.
+     * @return The read only lines, <code>null</code> if not a language text file.
+     */
+    public static List<String> getLines(Media media)
+    {
+        final String separator = Medias.getSeparator();
+        final String path = media.getPath();
+        final String prefix = Folder.TEXT + separator;
+        final int lang = path.indexOf(separator, prefix.length());
+        if (!path.startsWith(prefix) || lang < 0)
+        {
+            return null;
+        }
+        final TextBundle bundle = BUNDLES.computeIfAbsent(path.substring(prefix.length(), lang), TextBundle::open);
+        return bundle.get(path.substring(lang + separator.length()).replace(separator, String.valueOf(SEPARATOR)),
+                          media);
+    }
+
+    /**
+     * Compile language folder text files into its bundle file.
+     * 
+     * @param folder The language folder.
+     * @throws IOException If error.
+     */
+    public static void compile(File folder) throws IOException
+    {
+        try (OutputStream output = Files.newOutputStream(new File(folder, FILENAME).toPath()))
+        {
+            compile(folder, output);
+        }
+    }
+
+    /**
+     * Compile language folder text files into bundle.
+     * 
+     * @param folder The language folder.
+     * @param output The bundle output.
+     * @throws IOException If error.
+     */
+    static void compile(File folder, OutputStream output) throws IOException
+    {
+        final Path root = folder.toPath();
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(root))
+        {
+            files = walk.filter(p -> p.toString().endsWith(EXTENSION) && Files.isRegularFile(p))
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+
+        final DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(files.size());
+
+        final List<byte[]> lines = new ArrayList<>();
+        for (final Path file : files)
+        {
+            final List<String> read = read(Files.newInputStream(file));
+            final List<String> names = new ArrayList<>();
+            root.relativize(file).forEach(name -> names.add(name.toString()));
+            data.writeUTF(String.join(String.valueOf(SEPARATOR), names));
+            data.writeInt(lines.size());
+            data.writeInt(read.size());
+            for (final String line : read)
+            {
+                lines.add(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        data.writeInt(lines.size());
+        int offset = 0;
+        data.writeInt(offset);
+        for (final byte[] line : lines)
+        {
+            offset += line.length;
+            data.writeInt(offset);
+        }
+        for (final byte[] line : lines)
+        {
+            data.write(line);
+        }
+        data.flush();
+    }
+
+    /**
+     * Load bundle.
+     * 
+     * @param input The bundle input.
+     * @return The loaded bundle.
+     * @throws IOException If error.
+     */
+    static TextBundle load(InputStream input) throws IOException
+    {
+        final DataInputStream data = new DataInputStream(input);
+        if (data.readInt() != MAGIC || data.readInt() != VERSION)
+        {
+            throw new IOException("Invalid text bundle");
+        }
+
+        final int files = data.readInt();
+        final Map<String, int[]> index = new HashMap<>(files * 2);
+        for (int i = 0; i < files; i++)
+        {
+            final String path = data.readUTF();
+            index.put(path, new int[]
+            {
+                data.readInt(), data.readInt()
+            });
+        }
+
+        final int count = data.readInt();
+        final int[] offsets = new int[count + 1];
+        for (int i = 0; i <= count; i++)
+        {
+            offsets[i] = data.readInt();
+        }
+        final byte[] block = new byte[offsets[count]];
+        data.readFully(block);
+
+        final String[] lines = new String[count];
+        for (int i = 0; i < count; i++)
+        {
+            lines[i] = new String(block, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+        final List<String> all = Arrays.asList(lines);
+
+        final TextBundle bundle = new TextBundle();
+        for (final Map.Entry<String, int[]> entry : index.entrySet())
+        {
+            final int first = entry.getValue()[0];
+            final List<String> range = all.subList(first, first + entry.getValue()[1]);
+            bundle.files.put(entry.getKey(), Collections.unmodifiableList(range));
+        }
+        return bundle;
+    }
+
+    /**
+     * Open language bundle.
+     * 
+     * @param lang The language folder.
+     * @return The opened bundle, empty if not found or invalid.
+     */
+    private static TextBundle open(String lang)
+    {
+        final Media media = Medias.create(Folder.TEXT, lang, FILENAME);
+        if (media.exists())
+        {
+            try (InputStream input = media.getInputStream())
+            {
+                return load(input);
+            }
+            catch (final IOException exception)
+            {
+                LOGGER.error("open error: " + media, exception);
+            }
+        }
+        return new TextBundle();
+    }
+
+    /**
+     * Read text lines.
+     * 
+     * @param input The text input, closed after reading.
+     * @return The read lines.
+     * @throws IOException If error.
+     */
+    private static List<String> read(InputStream input) throws IOException
+    {
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /** Files lines by bundle path. */
+    private final Map<String, List<String>> files = new ConcurrentHashMap<>();
+
+    /**
+     * Create bundle.
+     */
+    private TextBundle()
+    {
+        super();
+    }
+
+    /**
+     * Get file lines, reading and keeping them if not bundled.
+     * 
+     * @param path The bundle path.
+     * @param media The text file.
+     * @return The read only lines.
+     */
+    List<String> get(String path, Media media)
+    {
+        return files.computeIfAbsent(path, p ->
+        {
+            try
+            {
+                return Collections.unmodifiableList(read(media.getInputStream()));
+            }
+            catch (final IOException exception)
+            {
+                LOGGER.error("read error: " + media, exception);
+                return Collections.emptyList();
+            }
+        });
+    }
+}
@@ -62,10 +62,6 @@ import com.b3dgs.lionengine.graphic.engine.LoopHybrid;
 import com.b3dgs.lionengine.graphic.engine.LoopUnlocked;
 import com.b3dgs.lionengine.graphic.engine.ScanlineNone;
 import com.b3dgs.lionengine.graphic.engine.Sequence;
-import com.b3dgs.lionengine.graphic.filter.FilterBlur;
-import com.b3dgs.lionengine.graphic.filter.FilterCrt;
-import com.b3dgs.lionengine.graphic.filter.FilterHq2x;
-import com.b3dgs.lionengine.graphic.filter.FilterHq3x;
 import com.b3dgs.lionengine.graphic.scanline.ScanlineHorizontal;
 import com.b3dgs.lionengine.io.FileReading;
 import com.b3dgs.lionengine.io.FileWriting;
@@ -85,6 +81,8 @@ public final class Util
 {
     private static final int MARGIN_X = 1;
     private static final int MARGIN_Y = 5;
+    /** User data folder name. */
+    private static final String USER_FOLDER = Constant.PROGRAM_NAME.toLowerCase(Locale.ENGLISH).replace(' ', '_');
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger(Util.class);
 
@@ -115,7 +113,7 @@ public final class Util
     }
 
     /**
-     * Get loop instance.
+     * Get loop instance, with strategy selected by {@link FramePacing}.
      * 
      * @param desktop The desktop resolution.
      * @return The loop instance.
@@ -123,8 +121,13 @@ public final class Util
     public static Loop getLoop(Resolution desktop)
     {
         final Settings settings = Settings.getInstance();
+        final Resolution output = settings.getResolution(desktop);
         final LoopFactory factory;
-        if (settings.isFlagVsync() && !settings.isResolutionWindowed())
+        if (FramePacing.getInstance()
+                       .isUnlocked(settings.isFlagVsync(),
+                                   settings.isResolutionWindowed(),
+                                   Constant.RESOLUTION.getRate(),
+                                   output.getRate()))
         {
             factory = LoopUnlocked::new;
         }
@@ -132,7 +135,7 @@ public final class Util
         {
             factory = LoopHybrid::new;
         }
-        return factory.create(Constant.RESOLUTION, settings.getResolution(desktop));
+        return factory.create(Constant.RESOLUTION, output);
     }
 
     /**
@@ -142,39 +145,31 @@ public final class Util
      * @param context The context reference.
      * @param source The source resolution.
      * @param scale The filter scale.
+     * @return The fade compositor, applied before filter.
      */
-    public static void setFilter(Sequence sequence, Context context, Resolution source, int scale)
+    public static FilterFade setFilter(Sequence sequence, Context context, Resolution source, int scale)
     {
         final Settings settings = Settings.getInstance();
         final FilterType filter = settings.getFilter();
-        if (FilterType.BLUR == filter)
+        final FilterFade fade;
+        if (FilterType.BLUR == filter
+            || FilterType.HQ2X == filter
+            || FilterType.HQ3X == filter
+            || FilterType.CRT == filter)
         {
-            final FilterBlur blur = new FilterBlur();
-            blur.setRadius(1.3);
-            sequence.setFilter(blur);
+            fade = new FilterFade(new FilterParallel(FilterParallel.getFactory(filter, scale)));
             sequence.setScanline(ScanlineNone.INSTANCE);
         }
-        else if (FilterType.HQ2X == filter)
-        {
-            sequence.setFilter(new FilterHq2x());
-            sequence.setScanline(ScanlineNone.INSTANCE);
-        }
-        else if (FilterType.HQ3X == filter)
-        {
-            sequence.setFilter(new FilterHq3x());
-            sequence.setScanline(ScanlineNone.INSTANCE);
-        }
-        else if (FilterType.SCANLINE == filter)
-        {
-            sequence.setScanline(new ScanlineHorizontal(Util.getResolution(source, context), 2));
-            sequence.setFilter(FilterNone.INSTANCE);
-        }
-        else if (FilterType.CRT == filter)
+        else
         {
-            final FilterCrt crt = new FilterCrt(scale);
-            sequence.setFilter(crt);
-            sequence.setScanline(ScanlineNone.INSTANCE);
+            if (FilterType.SCANLINE == filter)
+            {
+                sequence.setScanline(new ScanlineHorizontal(Util.getResolution(source, context), 2));
+            }
+            fade = new FilterFade(FilterNone.INSTANCE);
         }
+        sequence.setFilter(fade);
+        return fade;
     }
 
     /**
@@ -224,13 +219,19 @@ public final class Util
     }
 
     /**
-     * Read media lines.
+     * Read media lines. Language text files are read from their {@link TextBundle}.
      * 
      * @param media The media reference.
      * @return The ordered lines found.
      */
     public static List<String> readLines(Media media)
     {
+        final List<String> bundled = TextBundle.getLines(media);
+        if (bundled != null)
+        {
+            return new ArrayList<>(bundled);
+        }
+
         final List<String> lines = new ArrayList<>();
         try (BufferedReader data = new BufferedReader(new InputStreamReader(media.getInputStream(),
                                                                             StandardCharsets.UTF_8)))
@@ -449,32 +450,18 @@ public final class Util
     }
 
     /**
-     * Save progress.
+     * Save progress in background. Initial configuration is immutable and used as snapshot.
      * 
      * @param config The game configuration.
      */
     public static void saveProgress(GameConfig config)
     {
-        if (config.getStages().isPresent() && new File(Medias.getResourcesDirectory()).isDirectory())
+        if (config.getStages().isPresent())
         {
-            final Media media = Medias.create(Folder.STAGE,
-                                              Folder.STORY,
-                                              config.getStages().get(),
-                                              Constant.FILE_PROGRESS);
-            try
+            final InitConfig init = config.getInit();
+            Persistence.getInstance().save(getProgressFile(config), file ->
             {
-                final File file = new File(Medias.getResourcesDirectory(), media.getPath());
-                if (!file.getParentFile().isDirectory())
-                {
-                    file.getParentFile().mkdirs();
-                }
-                if (!file.isFile() && !file.createNewFile())
-                {
-                    LOGGER.warn("Unable to create progress: {}", file);
-                }
-
-                final InitConfig init = config.getInit();
-                try (FileWriting writing = new FileWriting(media))
+                try (FileWriting writing = new FileWriting(Medias.get(file)))
                 {
                     writing.writeString(init.getStage().getPath());
                     writing.writeByte(UtilConversion.fromUnsignedByte(init.getHealthMax()));
@@ -486,16 +473,23 @@ public final class Util
                     writing.writeString(init.getDifficulty().name());
                     writing.writeBoolean(init.isCheats());
                 }
-            }
-            catch (final IOException | SecurityException exception)
-            {
-                LOGGER.error("saveProgress error", exception);
-            }
+            });
         }
     }
 
     /**
-     * Load progress from file.
+     * Check if progress has been saved, including pending save.
+     * 
+     * @param config The game configuration.
+     * @return <code>true</code> if progress exists, <code>false</code> else.
+     */
+    public static boolean hasProgress(GameConfig config)
+    {
+        return config.getStages().isPresent() && !getProgressFiles(config).isEmpty();
+    }
+
+    /**
+     * Load progress from file, falling back to previous versions if corrupted.
      * 
      * @param config The game configuration.
      * @return The progress loaded.
@@ -505,26 +499,95 @@ public final class Util
     {
         if (config.getStages().isPresent())
         {
-            try (FileReading reading = new FileReading(Medias.create(Folder.STAGE,
-                                                                     Folder.STORY,
-                                                                     config.getStages().get(),
-                                                                     Constant.FILE_PROGRESS)))
+            final File progress = getProgressFile(config);
+            IOException error = new IOException("No progress: " + progress);
+            for (final File file : getProgressFiles(config))
             {
-                return new InitConfig(Medias.create(reading.readString()),
-                                      UtilConversion.toUnsignedByte(reading.readByte()),
-                                      UtilConversion.toUnsignedByte(reading.readByte()),
-                                      UtilConversion.toUnsignedByte(reading.readByte()),
-                                      UtilConversion.toUnsignedByte(reading.readByte()),
-                                      reading.readBoolean(),
-                                      UtilConversion.toUnsignedByte(reading.readByte()),
-                                      Difficulty.valueOf(reading.readString()),
-                                      reading.readBoolean(),
-                                      Optional.empty());
+                try (FileReading reading = new FileReading(Medias.get(file)))
+                {
+                    return new InitConfig(Medias.create(reading.readString()),
+                                          UtilConversion.toUnsignedByte(reading.readByte()),
+                                          UtilConversion.toUnsignedByte(reading.readByte()),
+                                          UtilConversion.toUnsignedByte(reading.readByte()),
+                                          UtilConversion.toUnsignedByte(reading.readByte()),
+                                          reading.readBoolean(),
+                                          UtilConversion.toUnsignedByte(reading.readByte()),
+                                          Difficulty.valueOf(reading.readString()),
+                                          reading.readBoolean(),
+                                          Optional.empty());
+                }
+                catch (final IOException | IllegalArgumentException exception)
+                {
+                    LOGGER.warn("Corrupted progress: {}", file);
+                    error = new IOException(exception);
+                }
             }
+            throw error;
         }
         return null;
     }
 
+    /**
+     * Get file in user data directory, outside resources. Temporary directory is used if user home is not defined.
+     * 
+     * @param path The file path relative to user data directory.
+     * @return The user file.
+     */
+    public static File getUserFile(String path)
+    {
+        final String home = System.getProperty("user.home");
+        final File root;
+        if (home != null && !home.isEmpty())
+        {
+            root = new File(home, "." + USER_FOLDER);
+        }
+        else
+        {
+            root = new File(System.getProperty("java.io.tmpdir"), USER_FOLDER);
+        }
+        return new File(root, path);
+    }
+
+    /**
+     * Get progress media, relative to user data or resources directory.
+     * 
+     * @param config The game configuration.
+     * @return The progress media.
+     */
+    private static Media getProgressMedia(GameConfig config)
+    {
+        return Medias.create(Folder.STAGE, Folder.STORY, config.getStages().get(), Constant.FILE_PROGRESS);
+    }
+
+    /**
+     * Get progress file in user data directory, next to stage pools.
+     * 
+     * @param config The game configuration.
+     * @return The progress file.
+     */
+    private static File getProgressFile(GameConfig config)
+    {
+        return getUserFile(getProgressMedia(config).getPath());
+    }
+
+    /**
+     * Get existing progress files, from most recent to oldest, ending with progress saved in resources directory by
+     * previous versions.
+     * 
+     * @param config The game configuration.
+     * @return The existing progress files.
+     */
+    private static List<File> getProgressFiles(GameConfig config)
+    {
+        final List<File> files = Persistence.getInstance().getHistory(getProgressFile(config));
+        final File legacy = new File(Medias.getResourcesDirectory(), getProgressMedia(config).getPath());
+        if (legacy.isFile())
+        {
+            files.add(legacy);
+        }
+        return files;
+    }
+
     private static char[] getLetters()
     {
         final char[] letters = new char[102];
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,7 +50,6 @@ import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.audio.AudioFactory;
 import com.b3dgs.lionengine.game.Action;
-import com.b3dgs.lionengine.game.Configurer;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.Camera;
@@ -84,10 +84,7 @@ import com.b3dgs.lionengine.game.feature.tile.map.raster.MapTileRasteredModel;
 import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewer;
 import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewerModel;
 import com.b3dgs.lionengine.geom.Coord;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
-import com.b3dgs.lionengine.graphic.Graphics;
-import com.b3dgs.lionengine.graphic.Text;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.engine.Zooming;
@@ -112,10 +109,13 @@ import com.b3dgs.lionengine.network.server.ServerUdp;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.constant.Extension;
 import com.b3dgs.lionheart.constant.Folder;
+import com.b3dgs.lionheart.event.EventRecorder.Timing;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.landscape.FactoryLandscape;
 import com.b3dgs.lionheart.landscape.ForegroundType;
 import com.b3dgs.lionheart.landscape.Landscape;
 import com.b3dgs.lionheart.menu.Menu;
+import com.b3dgs.lionheart.object.EntityActivation;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.Snapshotable;
 import com.b3dgs.lionheart.object.feature.BulletBounceOnGround;
@@ -135,6 +135,13 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
     private static final int BATTLE_WIN_DELAY_MS = 5500;
     private static final int ALLDEAD_DELAY_MS = 2000;
     private static final int PARALLEL_LOAD_TIMEOUT_SEC = 30;
+    private static final int LOAD_HUD = 5;
+    private static final int LOAD_MAP = 15;
+    private static final int LOAD_LANDSCAPE = 35;
+    private static final int LOAD_ENTITIES = 45;
+    private static final int LOAD_RASTERS = 70;
+    private static final int LOAD_EFFECTS = 85;
+    private static final int LOAD_SFX = 95;
     private static final String MAP_BOTTOM = "_bottom";
     private static final double ZOOM_OUT_MAX = 1.35;
     private static final double ZOOM_IN_MAX = 0.9;
@@ -164,7 +171,13 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
     private final List<Featurable> players = new ArrayList<>();
     private final Map<Integer, String> clients = services.add(new ConcurrentHashMap<>());
     private final Sprite splitNone = Drawable.loadSprite(Medias.create(Folder.SPRITE, "split_none.png"));
-    private final Text text;
+    private final TextAtlas text;
+    private final PoolManager pools = services.add(new PoolManager());
+    private final EntityActivation activation = services.add(new EntityActivation());
+    private final Profiler profiler = services.add(new Profiler(Settings.getInstance().isFlagDebug()));
+    private final AtomicInteger loadPercent = new AtomicInteger();
+    private final AssetCache assets = AssetCache.getInstance();
+    private final StagePreloader preloader = StagePreloader.getInstance();
     private final Thread musicTask;
     private final boolean debug;
     private final GameConfig game;
@@ -194,6 +207,8 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
     private double trackerY;
     private StateHandler player;
     private Difficulty difficulty;
+    private String stagePath;
+    private WorldType assetsWorld;
     private Action rasterRenderer = () ->
     {
         // Nothing to do
@@ -213,10 +228,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
                                                 runnable -> new Thread(runnable, getClass().getSimpleName()));
 
-        final int size = Math.max(9,
-                                  9 * (int) Math.floor(source.getHeight() / (double) Constant.RESOLUTION.getHeight()));
-        text = Graphics.createText(size);
-        text.setColor(ColorRgba.WHITE);
+        text = TextAtlas.createDefault(TextAtlas.getSize(source));
         componentCollision.setVisible(Constant.DEBUG_COLLISIONS);
 
         this.game = game;
@@ -224,6 +236,8 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         zoom = new Force(zoomPref, 0.0, ZOOM_SPEED, 0.01);
         debug = Settings.getInstance().isFlagDebug();
 
+        handler.addListener(pools);
+
         services.add(tracker);
         services.add(new MusicPlayer()
         {
@@ -272,6 +286,11 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             splitTrackerY[i] = 0.0;
         }
 
+        final Camera[] cameras = new Camera[n + 1];
+        cameras[0] = camera;
+        System.arraycopy(splitCamera, 0, cameras, 1, n);
+        activation.setCameras(cameras);
+
         if (game.getType().is(GameType.BATTLE))
         {
             spawnTick.addAction(() ->
@@ -425,7 +444,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
     {
         final Featurable player = createPlayer(Settings.getInstance(),
                                                init,
-                                               StageConfig.imports(new Configurer(init.getStage())));
+                                               assets.getStage(init.getStage()));
         player.ifIs(Networkable.class, n -> n.setClientId(id));
         try
         {
@@ -478,11 +497,15 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
      */
     private void loadStage(Settings settings, InitConfig init)
     {
-        final StageConfig stage = services.add(StageConfig.imports(new Configurer(init.getStage())));
+        final StageConfig stage = services.add(assets.getStage(init.getStage()));
+        assetsWorld = stage.getBackground().getWorld();
+        assets.acquire(assetsWorld);
 
         if (RasterType.DIRECT == settings.getRaster())
         {
+            final Timing event = Events.stageLoad("rasters", stagePath);
             loadRasterDirect(stage);
+            event.end(0);
         }
 
         if (settings.isRasterCheck())
@@ -490,7 +513,11 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             Util.run(stage.getBackground());
         }
 
+        loadPercent.set(LOAD_MAP);
+        final Timing event = Events.stageLoad("map", stagePath);
         loadMap(settings, stage);
+        event.end(map.getInTileWidth() * map.getInTileHeight());
+        loadPercent.set(LOAD_LANDSCAPE);
 
         final FactoryLandscape factoryLandscape = new FactoryLandscape(services,
                                                                        source,
@@ -548,6 +575,11 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             @Override
             public void notifyReachCheckpoint(Transformable player, Checkpoint checkpoint, int index)
             {
+                Events.transition(Events.CHECKPOINT, String.valueOf(index));
+                if (game.getType().is(GameType.STORY))
+                {
+                    checkpoint.getNext().ifPresent(next -> preloader.preload(Medias.create(next)));
+                }
                 if (index > 0 && game.getType().is(GameType.SPEEDRUN))
                 {
                     for (int i = 0; i < players.size(); i++)
@@ -579,6 +611,11 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             @Override
             public void notifyReachBoss(double x, double y)
             {
+                Events.transition(Events.BOSS, stagePath);
+                if (game.getType().is(GameType.STORY))
+                {
+                    stage.getBossNext().ifPresent(next -> preloader.preload(Medias.create(next)));
+                }
                 if (WorldType.SWAMP == world)
                 {
                     camera.setLimitLeft((int) camera.getX());
@@ -614,7 +651,10 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
 
     private void loadEntities(Settings settings, StageConfig stage)
     {
+        loadPercent.set(LOAD_ENTITIES);
+        final Timing event = Events.stageLoad("entities", stagePath);
         final Featurable[] entities = createEntities(settings, stage);
+        event.end(stage.getEntities().size());
 
         if (settings.isFlagParallel())
         {
@@ -627,7 +667,9 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
 
         if (entities != null && RasterType.CACHE == Settings.getInstance().getRaster() && settings.isFlagParallel())
         {
+            final Timing rasters = Events.stageLoad("rasters", stagePath);
             loadRasterEntities(stage, entities);
+            rasters.end(entities.length);
         }
 
         loadSpawns(settings, stage);
@@ -665,7 +707,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             factory.clearCache();
 
             final Settings settings = Settings.getInstance();
-            final StageConfig stage = StageConfig.imports(new Configurer(game.getInit().getStage()));
+            final StageConfig stage = assets.getStage(game.getInit().getStage());
 
             if (stage.getBossSpawn().isPresent())
             {
@@ -704,8 +746,10 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         for (int i = 0; i < n; i++)
         {
             final SpawnConfig spawn = configs.get(i);
+            final int index = i;
             spawnTick.addAction(() ->
             {
+                final Timing event = Events.spawnWave(index, spawn.getDelay());
                 final List<EntityConfig> entities = spawn.getEntities();
                 final int k = entities.size();
                 for (int j = 0; j < k; j++)
@@ -720,6 +764,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                     }
                     handler.add(featurable);
                 }
+                event.end(k, k > 0 ? entities.get(0).getMedia().getPath() : null);
             }, source.getRate(), spawn.getDelay());
         }
     }
@@ -733,37 +778,23 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
     {
         rasterbar.clearRasterbarColor();
 
+        final WorldType world = stage.getBackground().getWorld();
+
         stage.getRasterFolder().ifPresent(r ->
         {
-            final Media rasterTiles = Medias.create(r, "tiles2.png");
-            if (rasterTiles.exists())
-            {
-                rasterbar.addRasterbarColor(Graphics.getImageBuffer(rasterTiles));
-            }
-
-            final Media rasterWater = Medias.create(r, "water2.png");
-            if (rasterWater.exists())
-            {
-                rasterbar.addRasterbarColor(Graphics.getImageBuffer(rasterWater));
-            }
-
-            final String raster;
             if (ForegroundType.LAVA == stage.getForeground().getType())
             {
                 rasterbar.setRasterbarOffset(-37, 1);
-                raster = "lava2.png";
             }
             else
             {
                 rasterbar.setRasterbarOffset(-24, 16);
-                raster = "water2.png";
-            }
-            final Media rasterHero = Medias.create(Folder.RASTER, Folder.HERO, "valdyn", raster);
-            if (rasterHero.exists())
-            {
-                rasterbar.addRasterbarColor(Graphics.getImageBuffer(rasterHero));
             }
         });
+        for (final Media color : stage.getRasterColors())
+        {
+            rasterbar.addRasterbarColor(assets.getImage(world, color));
+        }
         rasterRenderer = rasterbar::renderRasterbar;
     }
 
@@ -810,17 +841,18 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             }
         });
         final MapTileGroup mapGroup = map.getFeature(MapTileGroup.class);
+        final SpawnHandles handles = SpawnHandles.from(services);
+        final SpawnHandle liana = handles.get(Folder.EFFECT, WorldType.SWAMP.getFolder(), "Liana.xml");
+        final SpawnHandle block = handles.get(Folder.EFFECT, WorldType.ANCIENTTOWN.getFolder(), "Block.xml");
         final TileSetListener tileListener = tile ->
         {
             if (CollisionName.LIANA_TOP.equals(mapGroup.getGroup(tile)))
             {
-                spawn(Medias.create(Folder.EFFECT, WorldType.SWAMP.getFolder(), "Liana.xml"),
-                      tile.getX() + tile.getWidth() / 2.0,
-                      tile.getY());
+                liana.spawn(tile.getX() + tile.getWidth() / 2.0, tile.getY());
             }
             else if (CollisionName.BLOCK.equals(mapGroup.getGroup(tile)))
             {
-                spawn(Medias.create(Folder.EFFECT, WorldType.ANCIENTTOWN.getFolder(), "Block.xml"), tile);
+                block.spawn(tile);
             }
         };
         map.addListener(tileListener);
@@ -833,9 +865,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                                                 config.getLinesPerRaster(),
                                                 config.getRasterLineOffset()));
         }
-        map.loadSheets(Medias.create(Folder.LEVEL,
-                                     config.getBackground().getWorld().getFolder(),
-                                     TileSheetsConfig.FILENAME));
+        map.loadSheets(assets.getSheets(config.getBackground().getWorld()));
         Util.loadMapTiles(map, media);
         loadMapBottom(settings, config, media, raster);
 
@@ -868,9 +898,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             mapBottom.addFeature(new MapTileCollisionModel());
             mapBottom.addFeature(new LayerableModel(4, 5));
             final MapTileViewer mapViewer = mapBottom.addFeature(new MapTileViewerModel(services));
-            mapBottom.loadSheets(Medias.create(Folder.LEVEL,
-                                               config.getBackground().getWorld().getFolder(),
-                                               TileSheetsConfig.FILENAME));
+            mapBottom.loadSheets(assets.getSheets(config.getBackground().getWorld()));
             Util.loadMapTiles(mapBottom, bottom);
 
             raster.ifPresent(r ->
@@ -917,14 +945,14 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             {
                 raster.ifPresent(r ->
                 {
-                    mapWater.create(r);
+                    mapWater.create(config.getBackground().getWorld(), r);
                     mapWater.addFeature(new LayerableModel(4, 3));
                     handler.add(mapWater);
 
                     if (bottom)
                     {
                         final MapTileWater mapWaterBottom = new MapTileWater(services, true);
-                        mapWaterBottom.create(r);
+                        mapWaterBottom.create(config.getBackground().getWorld(), r);
                         mapWaterBottom.addFeature(new LayerableModel(4, 6));
                         handler.add(mapWaterBottom);
                     }
@@ -1080,6 +1108,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             for (int i = 0; i < n; i++)
             {
                 entities[i] = createEntity(config.get(i));
+                setLoadPercent(LOAD_ENTITIES, LOAD_RASTERS, i, n);
             }
         }
         else
@@ -1095,6 +1124,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                     loadRasterEntity(stage, featurable);
                 }
                 handler.add(featurable);
+                setLoadPercent(LOAD_ENTITIES, LOAD_EFFECTS, i, n);
             }
         }
         return entities;
@@ -1201,6 +1231,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                     handler.add(toAdd[j]);
                     toAdd[j] = null;
                 }
+                setLoadPercent(LOAD_RASTERS, LOAD_EFFECTS, i + 1, n);
             }
             catch (final InterruptedException exception)
             {
@@ -1222,6 +1253,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
      */
     private void createEffectCache(Settings settings, StageConfig stage)
     {
+        final Timing event = Events.stageLoad("effects", stagePath);
         final Spawner cacheSpawner = (media, x, y) ->
         {
             final Featurable f = factory.create(media);
@@ -1243,37 +1275,41 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
 
         final String theme = stage.getBackground().getWorld().getFolder();
 
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "ExplodeBig.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "ExplodeLittle.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "Explode.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "Explode5.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "ExplodeBlock.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "ExplodeLiana.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "ExplodeSilent.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "Taken.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "LaserDot.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.EFFECT, theme, "Smoke.xml"), 4);
-
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Fly.xml"), 6);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "FlyTrack.xml"), 3);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Tongue.xml"), 6);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "TongueEnd.xml"), 2);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet.xml"), 5);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet1.xml"), 6);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet1a.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet1b.xml"), 6);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet2.xml"), 6);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet3.xml"), 6);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Bullet4.xml"), 3);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Fireball.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "FireballUp.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "ForeballDown.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "HotFireBall.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "HotFireBall2.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Baril.xml"), 2);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Dragon3.xml"), 4);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Laser.xml"), 3);
-        factory.createCacheMedia(cacheSpawner, Medias.create(Folder.PROJECTILE, theme, "Rock.xml"), 2);
+        final Map<Media, Integer> defaults = new LinkedHashMap<>();
+        defaults.put(Medias.create(Folder.EFFECT, theme, "ExplodeBig.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "ExplodeLittle.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "Explode.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "Explode5.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "ExplodeBlock.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "ExplodeLiana.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "ExplodeSilent.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "Taken.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "LaserDot.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.EFFECT, theme, "Smoke.xml"), Integer.valueOf(4));
+
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Fly.xml"), Integer.valueOf(6));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "FlyTrack.xml"), Integer.valueOf(3));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Tongue.xml"), Integer.valueOf(6));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "TongueEnd.xml"), Integer.valueOf(2));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet.xml"), Integer.valueOf(5));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet1.xml"), Integer.valueOf(6));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet1a.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet1b.xml"), Integer.valueOf(6));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet2.xml"), Integer.valueOf(6));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet3.xml"), Integer.valueOf(6));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Bullet4.xml"), Integer.valueOf(3));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Fireball.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "FireballUp.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "ForeballDown.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "HotFireBall.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "HotFireBall2.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Baril.xml"), Integer.valueOf(2));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Dragon3.xml"), Integer.valueOf(4));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Laser.xml"), Integer.valueOf(3));
+        defaults.put(Medias.create(Folder.PROJECTILE, theme, "Rock.xml"), Integer.valueOf(2));
+
+        pools.prewarm(factory, cacheSpawner, defaults);
+        event.end(pools.getPrewarmed().size());
     }
 
     private void quickSave()
@@ -1419,11 +1455,13 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                 Medias.create(Constant.FILE_SNAPSHOT).getFile().delete();
             }
 
+            loadPercent.set(0);
             hud.load();
             for (int i = 0; i < splitHud.length; i++)
             {
                 splitHud[i].load();
             }
+            loadPercent.set(LOAD_HUD);
 
             if (game.getType().is(GameType.SPEEDRUN))
             {
@@ -1453,6 +1491,8 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             difficulty = init.getDifficulty();
 
             services.add(init.getStage());
+            pools.setStage(init.getStage());
+            stagePath = init.getStage().getPath();
 
             loadStage(Settings.getInstance(), init);
 
@@ -1497,6 +1537,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         {
             executor.shutdown();
         }
+        loadPercent.set(LOAD_EFFECTS);
         try
         {
             executor.awaitTermination(PARALLEL_LOAD_TIMEOUT_SEC, TimeUnit.SECONDS);
@@ -1509,8 +1550,11 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
 
         handler.updateRemove();
         handler.updateAdd();
+        loadPercent.set(LOAD_SFX);
 
+        final Timing event = Events.stageLoad("sfx", stagePath);
         Sfx.cacheEnd();
+        event.end(0);
 
         if (game.getType() == GameType.SPEEDRUN)
         {
@@ -1523,11 +1567,83 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         musicTask.start();
         tick.restart();
         spawnTick.start();
+        loadPercent.set(com.b3dgs.lionengine.Constant.HUNDRED);
+    }
+
+    /**
+     * Get the stage load progress. Can be called from any thread while {@link #load(InitConfig)} is running.
+     * 
+     * @return The load progress percent.
+     */
+    public int getLoadPercent()
+    {
+        return loadPercent.get();
+    }
+
+    /**
+     * Set load progress inside a phase.
+     * 
+     * @param from The phase start percent.
+     * @param to The phase end percent.
+     * @param done The done steps.
+     * @param total The total steps.
+     */
+    private void setLoadPercent(int from, int to, int done, int total)
+    {
+        loadPercent.set(from + (to - from) * done / Math.max(1, total));
+    }
+
+    /**
+     * Merge pools telemetry into current stage high-water marks and persist them.
+     */
+    public void savePools()
+    {
+        pools.save();
+    }
+
+    /**
+     * Release stage world assets, retained for next stage of same world.
+     */
+    public void releaseAssets()
+    {
+        if (assetsWorld != null)
+        {
+            assets.release(assetsWorld);
+            assetsWorld = null;
+        }
+    }
+
+    /**
+     * Release overlay texts and landscapes surfaces.
+     */
+    public void dispose()
+    {
+        text.dispose();
+        if (landscape != null)
+        {
+            landscape.dispose();
+        }
+        for (int i = 0; i < splitLandscape.length; i++)
+        {
+            if (splitLandscape[i] != null)
+            {
+                splitLandscape[i].dispose();
+            }
+        }
+    }
+
+    /**
+     * Dump profiler sections if enabled.
+     */
+    public void saveProfile()
+    {
+        profiler.dump(Util.getUserFile(Constant.FILE_PROFILE));
     }
 
     @Override
     public void loadNextStage(String next, int delayMs, Optional<Coord> spawn)
     {
+        Events.transition(Events.STAGE, next);
         if (game.getType().is(GameType.STORY))
         {
             if (delayMs > 0)
@@ -1565,6 +1681,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         {
             synchronized (musicTask)
             {
+                final Timing event = Events.musicLoad(media.getPath());
                 if (music != null)
                 {
                     music.stop();
@@ -1577,6 +1694,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                     music.setVolume(settings.getVolumeMusic());
                     music.play();
                 }
+                event.end(0);
             }
         }))
         {
@@ -1611,7 +1729,9 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
     @Override
     public void update(double extrp)
     {
+        long time = profiler.begin();
         updateSpawn(extrp);
+        profiler.end("world.spawn", time);
 
         if (server)
         {
@@ -1631,15 +1751,32 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
             device.update(extrp);
         }
 
+        time = profiler.begin();
         cheats.update(extrp);
+        profiler.end("world.cheats", time);
 
         if (!cheats.isPaused())
         {
+            time = profiler.begin();
             tick.update(extrp);
+            activation.update();
+            profiler.end("world.tick", time);
+
+            time = profiler.begin();
             super.update(extrp);
+            profiler.end("world.handler", time);
+
+            time = profiler.begin();
             checkpoints.update(extrp);
+            profiler.end("world.checkpoints", time);
+
+            time = profiler.begin();
             landscape.update(extrp, camera);
+            profiler.end("world.landscape", time);
+
+            time = profiler.begin();
             updateZoom(extrp);
+            profiler.end("world.zoom", time);
 
             if (trackerY > 0)
             {
@@ -1660,7 +1797,9 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                 rasterbar.setRasterbarY((int) splitCamera[i].getY(), (int) mapWater.getCurrent() - 2);
             }
         }
+        time = profiler.begin();
         hud.update(extrp);
+        profiler.end("world.hud", time);
         sequencer.setSplit(0);
         rasterbar.setRasterbarY((int) camera.getY(), (int) mapWater.getCurrent() - 2);
 
@@ -1684,7 +1823,9 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
         {
             landscape.renderBackground(g);
 
+            final long time = profiler.begin();
             super.render(g);
+            profiler.end("world.render", time);
 
             rasterRenderer.execute();
             landscape.renderForeground(g);
@@ -1698,6 +1839,7 @@ final class World extends WorldHelper implements MusicPlayer, LoadNextStage
                     text.draw(g, 2, y, Align.LEFT, name);
                     y += text.getHeight();
                 }
+                profiler.render(g, text, 2, y);
             }
             cheats.render(g);
         }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+/**
+ * Game events recorder. All methods do nothing by default, implementation is registered with
+ * {@link Events#setRecorder(EventRecorder)} by platforms supporting it.
+ */
+public interface EventRecorder
+{
+    /**
+     * Begin stage load phase.
+     * 
+     * @param phase The phase name.
+     * @param stage The stage path.
+     * @return The begun timing.
+     */
+    default Timing stageLoad(String phase, String stage)
+    {
+        return Timing.NONE;
+    }
+
+    /**
+     * Begin delayed spawn wave.
+     * 
+     * @param index The wave index.
+     * @param delay The wave delay in milli.
+     * @return The begun timing.
+     */
+    default Timing spawnWave(int index, int delay)
+    {
+        return Timing.NONE;
+    }
+
+    /**
+     * Begin music load.
+     * 
+     * @param media The music path.
+     * @return The begun timing.
+     */
+    default Timing musicLoad(String media)
+    {
+        return Timing.NONE;
+    }
+
+    /**
+     * Record transition.
+     * 
+     * @param kind The transition kind.
+     * @param target The target (checkpoint index or stage path).
+     */
+    default void transition(String kind, String target)
+    {
+        // Nothing by default
+    }
+
+    /**
+     * Record syncable feature message.
+     * 
+     * @param send <code>true</code> if sent, <code>false</code> if received.
+     * @param feature The feature.
+     * @param id The sync id.
+     * @param bytes The message size.
+     */
+    default void sync(boolean send, Object feature, int id, int bytes)
+    {
+        // Nothing by default
+    }
+
+    /**
+     * Begun event timing.
+     */
+    @FunctionalInterface
+    interface Timing
+    {
+        /** Timing doing nothing. */
+        Timing NONE = (count, detail) ->
+        {
+            // Nothing to record
+        };
+
+        /**
+         * End timing with processed count.
+         * 
+         * @param count The processed elements count.
+         */
+        default void end(int count)
+        {
+            end(count, null);
+        }
+
+        /**
+         * End timing with processed count and detail.
+         * 
+         * @param count The processed elements count.
+         * @param detail The detail (may be <code>null</code>).
+         */
+        void end(int count, String detail);
+    }
+}
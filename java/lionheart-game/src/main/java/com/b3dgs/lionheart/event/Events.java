@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import java.nio.ByteBuffer;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionheart.event.EventRecorder.Timing;
+
+/**
+ * Game events entry point, delegating to registered {@link EventRecorder}. Nothing is recorded until a recorder is
+ * registered, so game does not depend on platform specific event API.
+ */
+public final class Events
+{
+    /** Checkpoint kind. */
+    public static final String CHECKPOINT = "checkpoint";
+    /** Boss kind. */
+    public static final String BOSS = "boss";
+    /** Stage kind. */
+    public static final String STAGE = "stage";
+
+    /** Recorder doing nothing. */
+    private static final EventRecorder NONE = new EventRecorder()
+    {
+        // Defaults only
+    };
+
+    private static volatile EventRecorder recorder = NONE;
+
+    /**
+     * Set events recorder.
+     * 
+     * @param recorder The recorder, <code>null</code> to disable recording.
+     */
+    public static void setRecorder(EventRecorder recorder)
+    {
+        Events.recorder = recorder != null ? recorder : NONE;
+    }
+
+    /**
+     * Begin stage load phase.
+     * 
+     * @param phase The phase name.
+     * @param stage The stage path.
+     * @return The begun timing.
+     */
+    public static Timing stageLoad(String phase, String stage)
+    {
+        return recorder.stageLoad(phase, stage);
+    }
+
+    /**
+     * Begin delayed spawn wave.
+     * 
+     * @param index The wave index.
+     * @param delay The wave delay in milli.
+     * @return The begun timing.
+     */
+    public static Timing spawnWave(int index, int delay)
+    {
+        return recorder.spawnWave(index, delay);
+    }
+
+    /**
+     * Begin music load.
+     * 
+     * @param media The music path.
+     * @return The begun timing.
+     */
+    public static Timing musicLoad(String media)
+    {
+        return recorder.musicLoad(media);
+    }
+
+    /**
+     * Record transition.
+     * 
+     * @param kind The transition kind.
+     * @param target The target (checkpoint index or stage path).
+     */
+    public static void transition(String kind, String target)
+    {
+        recorder.transition(kind, target);
+    }
+
+    /**
+     * Record sent message.
+     * 
+     * @param feature The feature sending.
+     * @param id The sync id.
+     * @param buffer The sent buffer.
+     */
+    public static void sent(Object feature, int id, ByteBuffer buffer)
+    {
+        recorder.sync(true, feature, id, buffer.capacity());
+    }
+
+    /**
+     * Record received message.
+     * 
+     * @param feature The feature receiving.
+     * @param id The sync id.
+     * @param buffer The received buffer.
+     */
+    public static void received(Object feature, int id, ByteBuffer buffer)
+    {
+        recorder.sync(false, feature, id, buffer.limit());
+    }
+
+    /**
+     * Private constructor.
+     */
+    private Events()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
@@ -29,7 +29,6 @@ import com.b3dgs.lionengine.UpdatableVoid;
 import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.audio.AudioFactory;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -43,6 +42,8 @@ import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
+import com.b3dgs.lionheart.FontRegistry;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.Settings;
@@ -80,7 +81,8 @@ public class Credits extends Sequence
     /** Alpha speed. */
     int alphaSpeed = FADE_SPEED;
 
-    private final List<SpriteFont> texts = new ArrayList<>();
+    private final List<TextLine> texts = new ArrayList<>();
+    private final List<Media> fonts = new ArrayList<>();
     private final Audio audioAlternative = AudioFactory.loadAudio(Music.CREDITS);
     private final GameConfig config;
     private final Sprite sprite;
@@ -88,8 +90,9 @@ public class Credits extends Sequence
     private final Audio audio;
     private final boolean alternative;
     private final AppInfo info;
+    private final FilterFade fade;
     private final int count;
-    private final SpriteFont lastText;
+    private final TextLine lastText;
     private final DeviceController deviceCursor;
 
     private Updatable updater = this::updateFadeIn;
@@ -145,7 +148,7 @@ public class Credits extends Sequence
         lastText = texts.get(count - 1);
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
     }
 
     @Override
@@ -204,41 +207,37 @@ public class Credits extends Sequence
             tw = 11;
             th = 15;
         }
-        final SpriteFont text = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "font" + size + ".png"),
-                                                        Medias.create(Folder.SPRITE, "font" + size + ".xml"),
-                                                        tw,
-                                                        th);
-        text.load();
-        text.prepare();
+        final Media font = Medias.create(Folder.SPRITE, "font" + size + ".png");
+        final Media data = Medias.create(Folder.SPRITE, "font" + size + ".xml");
+        final SpriteFont text = FontRegistry.getInstance().acquire(font, data, tw, th);
+        fonts.add(font);
 
+        final String value = line.substring(TEXT_BEGIN_INDEX);
         if (line.charAt(0) == TEXT_CENTER)
         {
-            text.setAlign(Align.CENTER);
-            text.setLocation(getWidth() / 2, y);
+            texts.add(new TextLine(text, value, Align.CENTER, getWidth() / 2, y, th));
             y += size;
         }
         else
         {
             y += size;
-            text.setAlign(Align.LEFT);
 
+            final int x = getWidth() / 2 - sprite.getWidth() / 2;
             if (size == TEXT_SIZE_SEPARATOR || size == TEXT_SIZE_MEDIUM)
             {
-                text.setLocation(getWidth() / 2 - sprite.getWidth() / 2 + 2, y);
+                texts.add(new TextLine(text, value, Align.LEFT, x + 2, y, th));
                 y += TEXT_SIZE_SMALL;
             }
             else if (size == TEXT_SIZE_SMALL)
             {
                 y += 2;
-                text.setLocation(getWidth() / 2 - sprite.getWidth() / 2 + TEXT_SMALL_OFFSET_WIDTH, y);
+                texts.add(new TextLine(text, value, Align.LEFT, x + TEXT_SMALL_OFFSET_WIDTH, y, th));
             }
             else
             {
-                text.setLocation(getWidth() / 2 - sprite.getWidth() / 2, y);
+                texts.add(new TextLine(text, value, Align.LEFT, x, y, th));
             }
         }
-        text.setText(line.substring(TEXT_BEGIN_INDEX));
-        texts.add(text);
 
         return y;
     }
@@ -283,12 +282,11 @@ public class Credits extends Sequence
      */
     private void updateScroll(double extrp)
     {
-        if (lastText.getY() > getHeight() - TEXT_SCROLL_END_HEIGHT)
+        if (lastText.y > getHeight() - TEXT_SCROLL_END_HEIGHT)
         {
             for (int i = 0; i < count; i++)
             {
-                final SpriteFont text = texts.get(i);
-                text.setLocation(text.getX(), text.getY() - SCROLL_SPEED * extrp);
+                texts.get(i).y -= SCROLL_SPEED * extrp;
             }
         }
         else if (device.isFired(DeviceMapping.ATTACK) || deviceCursor.isFiredOnce(DeviceMapping.LEFT))
@@ -332,13 +330,7 @@ public class Credits extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     /**
@@ -350,9 +342,9 @@ public class Credits extends Sequence
     {
         for (int i = textFirstToRender; i < count; i++)
         {
-            final SpriteFont text = texts.get(i);
-            final double y = text.getY();
-            if (y < -text.getHeight())
+            final TextLine text = texts.get(i);
+            final double y = text.y;
+            if (y < -text.height)
             {
                 textFirstToRender = i;
             }
@@ -398,7 +390,60 @@ public class Credits extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
         audio.stop();
         audioAlternative.stop();
+
+        final FontRegistry registry = FontRegistry.getInstance();
+        for (final Media font : fonts)
+        {
+            registry.release(font);
+        }
+        fonts.clear();
+    }
+
+    /**
+     * Credits text line, drawn with its shared font.
+     */
+    private static final class TextLine
+    {
+        private final SpriteFont font;
+        private final String text;
+        private final Align align;
+        private final int x;
+        private final int height;
+        private double y;
+
+        /**
+         * Create line.
+         * 
+         * @param font The shared font.
+         * @param text The line text.
+         * @param align The text align.
+         * @param x The horizontal location.
+         * @param y The vertical location.
+         * @param height The line height.
+         */
+        TextLine(SpriteFont font, String text, Align align, int x, int y, int height)
+        {
+            super();
+
+            this.font = font;
+            this.text = text;
+            this.align = align;
+            this.x = x;
+            this.y = y;
+            this.height = height;
+        }
+
+        /**
+         * Render line.
+         * 
+         * @param g The graphic output.
+         */
+        void render(Graphic g)
+        {
+            font.draw(g, x, (int) Math.floor(y), align, text);
+        }
     }
 }
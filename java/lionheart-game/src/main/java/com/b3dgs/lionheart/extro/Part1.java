@@ -37,7 +37,6 @@ import com.b3dgs.lionengine.game.feature.Handler;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -54,6 +53,7 @@ import com.b3dgs.lionheart.CheatsProvider;
 import com.b3dgs.lionheart.CheckpointHandler;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Time;
 import com.b3dgs.lionheart.Util;
@@ -140,6 +140,7 @@ public class Part1 extends Sequence
     private final Animation valdynAnim = new Animation(Animation.DEFAULT_NAME, 1, 12, 0.25, false, true);
     private final int bandHeight = (int) Math.floor((getHeight() - 208) / 2.0);
     private final AppInfo info;
+    private final FilterFade fade;
     private final Time time;
     private final Audio audio;
 
@@ -197,7 +198,7 @@ public class Part1 extends Sequence
         load(Part2.class, config, time, audio, alternative);
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(context, MIN_HEIGHT, MAX_WIDTH, MARGIN_WIDTH), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(context, MIN_HEIGHT, MAX_WIDTH, MARGIN_WIDTH), 2);
     }
 
     /**
@@ -436,13 +437,7 @@ public class Part1 extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     /**
@@ -493,6 +488,8 @@ public class Part1 extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
+
         if (!hasNextSequence)
         {
             audio.stop();
@@ -36,7 +36,6 @@ import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.ComponentCollision;
 import com.b3dgs.lionengine.geom.Coord;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -51,6 +50,7 @@ import com.b3dgs.lionheart.CheatsProvider;
 import com.b3dgs.lionheart.CheckpointHandler;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.LoadNextStage;
 import com.b3dgs.lionheart.MapTileWater;
@@ -94,6 +94,7 @@ public class Part2 extends Sequence
         return featurable;
     });
     private final AppInfo info;
+    private final FilterFade fade;
     private final Time time;
     private final Audio audio;
     private final DragonEnd background;
@@ -160,7 +161,7 @@ public class Part2 extends Sequence
         load(Part3.class, config, time, audio, alternative);
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
     }
 
     /**
@@ -241,13 +242,7 @@ public class Part2 extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     @Override
@@ -287,6 +282,8 @@ public class Part2 extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
+
         if (!hasNextSequence)
         {
             audio.stop();
@@ -22,7 +22,6 @@ import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -32,7 +31,9 @@ import com.b3dgs.lionengine.helper.DeviceControllerConfig;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.CutsceneTimeline;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Time;
 import com.b3dgs.lionheart.Util;
@@ -56,7 +57,9 @@ public class Part3 extends Sequence
 
     private final Stories stories = new Stories(getWidth(), getHeight());
     private final AppInfo info;
+    private final FilterFade fade;
     private final Time time;
+    private final CutsceneTimeline timeline;
     private final Audio audio;
 
     private Updatable updater = this::updateStory0;
@@ -81,6 +84,7 @@ public class Part3 extends Sequence
 
         this.time = time;
         this.audio = audio;
+        timeline = new CutsceneTimeline(time);
 
         final Services services = new Services();
         services.add(context);
@@ -91,7 +95,7 @@ public class Part3 extends Sequence
         load(Part4.class, config, time, audio, alternative);
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
     }
 
     /**
@@ -184,25 +188,22 @@ public class Part3 extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     @Override
     public void load()
     {
-        stories.load();
+        stories.stream(timeline, 0, TIME_STORY0_MS);
+        stories.stream(timeline, 1, TIME_STORY1_MS);
+        stories.stream(timeline, 2, TIME_STORY2_MS);
     }
 
     @Override
     public void update(double extrp)
     {
         time.update(extrp);
+        timeline.update(extrp);
         updater.update(extrp);
         info.update(extrp);
 
@@ -227,7 +228,8 @@ public class Part3 extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
-        stories.dispose();
+        info.dispose();
+        timeline.dispose();
 
         if (!hasNextSequence)
         {
@@ -26,7 +26,6 @@ import com.b3dgs.lionengine.UpdatableVoid;
 import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.audio.AudioFactory;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -38,7 +37,9 @@ import com.b3dgs.lionengine.helper.DeviceControllerConfig;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.CutsceneTimeline;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.Settings;
@@ -56,6 +57,7 @@ public class Part4 extends Sequence
     private static final int STORY_1 = 3;
     private static final int STORY_2 = 4;
     private static final int STORY_3 = 5;
+    private static final int STORY_4_BACK = 6;
     private static final int STORY_4 = 7;
     private static final int STORY_5 = 8;
 
@@ -86,10 +88,12 @@ public class Part4 extends Sequence
                                                                       2,
                                                                       2);
     private final Time time;
+    private final CutsceneTimeline timeline;
     private final Audio audio;
     private final Audio audioAlternative;
     private final boolean alternative;
     private final AppInfo info;
+    private final FilterFade fade;
 
     private Updatable updaterAmulet = UpdatableVoid.getInstance();
     private Updatable updaterFade = this::updateFadeIn;
@@ -115,6 +119,7 @@ public class Part4 extends Sequence
 
         this.time = time;
         this.audio = audio;
+        timeline = new CutsceneTimeline(time);
         this.alternative = Boolean.TRUE.equals(alternative);
 
         final Services services = new Services();
@@ -136,7 +141,7 @@ public class Part4 extends Sequence
         }
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
     }
 
     /**
@@ -299,19 +304,22 @@ public class Part4 extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     @Override
     public void load()
     {
-        stories.load();
+        stories.stream(timeline, STORY_1, 0L);
+        stories.stream(timeline, STORY_2, TIME_STORY2_MS);
+        if (alternative)
+        {
+            stories.stream(timeline, STORY_3, TIME_END_MS);
+            stories.stream(timeline, STORY_4_BACK, TIME_STORY4_MS);
+            stories.stream(timeline, STORY_4, TIME_STORY4_MS);
+            stories.stream(timeline, STORY_5, TIME_STORY5_MS);
+        }
+        timeline.load();
         stories.setStory(STORY_1);
         stories.setStart(STORY_1);
 
@@ -324,6 +332,7 @@ public class Part4 extends Sequence
     public void update(double extrp)
     {
         time.update(extrp);
+        timeline.update(extrp);
         updaterFade.update(extrp);
         updaterAmulet.update(extrp);
         updaterStories.update(extrp);
@@ -362,7 +371,8 @@ public class Part4 extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
-        stories.dispose();
+        info.dispose();
+        timeline.dispose();
         amulet.dispose();
 
         if (!hasNextSequence)
@@ -26,7 +26,6 @@ import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.audio.AudioFactory;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -36,7 +35,9 @@ import com.b3dgs.lionengine.helper.DeviceControllerConfig;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.CutsceneTimeline;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.Settings;
@@ -65,11 +66,13 @@ public class Intro extends Sequence
 
     private final Timing action = new Timing();
     private final Time time = new Time(getRate());
+    private final CutsceneTimeline timeline = new CutsceneTimeline(time);
     private final Part1 part1;
-    private final Part2 part2 = new Part2(time, getWidth(), getHeight(), getRate());
+    private final Part2 part2;
     private final Audio audio = AudioFactory.loadAudio(Music.INTRO);
     private final GameConfig config;
     private final AppInfo info;
+    private final FilterFade fade;
     private final DeviceController deviceCursor;
 
     private Updatable updaterFade = this::updateFadeIn;
@@ -109,7 +112,8 @@ public class Intro extends Sequence
         audio.setVolume(Settings.getInstance().getVolumeMusic());
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(context, MIN_HEIGHT, MAX_WIDTH, MARGIN_WIDTH), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(context, MIN_HEIGHT, MAX_WIDTH, MARGIN_WIDTH), 2);
+        part2 = new Part2(time, getWidth(), getHeight(), getRate(), fade);
         action.start();
     }
 
@@ -248,20 +252,15 @@ public class Intro extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     @Override
     public void load()
     {
-        part1.load();
-        part2.load();
+        part1.load(timeline, TIME_PART2_MS);
+        part2.load(timeline, TIME_PART3_MS);
+        timeline.load();
 
         load(Part3.class, config, time, audio);
     }
@@ -280,6 +279,7 @@ public class Intro extends Sequence
     {
         action.update(extrp);
         time.update(extrp);
+        timeline.update(extrp);
         device.update(extrp);
         deviceCursor.update(extrp);
         updaterFade.update(extrp);
@@ -305,6 +305,9 @@ public class Intro extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
+        timeline.dispose();
+
         if (!hasNextSequence)
         {
             audio.stop();
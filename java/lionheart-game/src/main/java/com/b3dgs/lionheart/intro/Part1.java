@@ -16,6 +16,7 @@
  */
 package com.b3dgs.lionheart.intro;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.b3dgs.lionengine.Align;
@@ -32,6 +33,7 @@ import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.drawable.SpriteFont;
+import com.b3dgs.lionheart.CutsceneTimeline;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.Time;
 import com.b3dgs.lionheart.Util;
@@ -142,28 +144,29 @@ public final class Part1 implements Updatable, Renderable
     }
 
     /**
-     * Load part.
+     * Load part, declaring its assets on timeline.
+     * 
+     * @param timeline The assets timeline.
+     * @param endMs The part end time.
      */
-    public void load()
+    public void load(CutsceneTimeline timeline, long endMs)
     {
-        title.load();
-        title.prepare();
-
-        titleShade.load();
-        titleShade.prepare();
+        final List<Sprite> sprites = new ArrayList<>();
+        sprites.add(title);
+        sprites.add(titleShade);
 
         for (int i = 0; i < backs.length; i++)
         {
             backs[i] = Drawable.loadSprite(get("back" + i));
-            backs[i].load();
-            backs[i].prepare();
+            sprites.add(backs[i]);
         }
         for (int i = 0; i < sceneries.length; i++)
         {
             sceneries[i] = Drawable.loadSprite(get("scenery" + i));
-            sceneries[i].load();
-            sceneries[i].prepare();
+            sprites.add(sceneries[i]);
         }
+        final Sprite[] resources = sprites.toArray(new Sprite[sprites.size()]);
+        timeline.add(0L, endMs, () -> sprites.forEach(Sprite::prepare), resources);
 
         cameraBack.teleport(CAMERA_INIT_X, 0.0);
         cameraScenery.teleport(CAMERA_INIT_X, 0.0);
@@ -26,14 +26,14 @@ import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.UpdatableVoid;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.geom.Coord;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.drawable.SpriteAnimated;
-import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.CutsceneTimeline;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.Time;
 import com.b3dgs.lionheart.constant.Folder;
 
@@ -134,6 +134,7 @@ public final class Part2 implements Updatable, Renderable
     private final double[] z = new double[2 + PILLAR_COUNT];
     private final Tick flashTime = new Tick();
     private final Time time;
+    private final FilterFade fade;
     private final int width;
     private final int height;
     private final int rate;
@@ -162,12 +163,14 @@ public final class Part2 implements Updatable, Renderable
      * @param width The screen width.
      * @param height The screen height.
      * @param rate The rate.
+     * @param fade The fade compositor.
      */
-    public Part2(Time time, int width, int height, int rate)
+    public Part2(Time time, int width, int height, int rate, FilterFade fade)
     {
         super();
 
         this.time = time;
+        this.fade = fade;
         this.width = width;
         this.height = height;
         this.rate = rate;
@@ -175,34 +178,39 @@ public final class Part2 implements Updatable, Renderable
     }
 
     /**
-     * Load part.
+     * Load part, declaring its assets on timeline by phase (cave, equipment, rage).
+     * 
+     * @param timeline The assets timeline.
+     * @param endMs The part end time.
      */
-    public void load()
+    public void load(CutsceneTimeline timeline, long endMs)
     {
-        door.load();
-
+        final Sprite[] cave = new Sprite[pillar.length + 3];
         for (int i = 0; i < pillar.length; i++)
         {
             pillar[i] = Drawable.loadSprite(get("pillar"));
-            pillar[i].load();
+            cave[i] = pillar[i];
         }
-        valdyn.load();
-
-        cave1.load();
-        cave2.load();
-        cave2.setOrigin(Origin.MIDDLE);
+        cave[pillar.length] = door;
+        cave[pillar.length + 1] = cave1;
+        cave[pillar.length + 2] = valdyn;
+        timeline.add(TIME_DOOR_OPEN_MS, TIME_EQUIP_FADE_OUT_MS, cave);
 
-        equipFoot.load();
-        equipSword.load();
-        equipHand.load();
+        timeline.add(TIME_EQUIP_FADE_IN_MS,
+                     TIME_RAGE_START_MS,
+                     () -> cave2.setOrigin(Origin.MIDDLE),
+                     cave2,
+                     equipFoot,
+                     equipSword,
+                     equipHand);
 
-        valdyn0.load();
-        valdyn0.setOrigin(Origin.MIDDLE);
-        valdyn1.load();
-        valdyn1.setOrigin(Origin.MIDDLE);
-        valdyn1.setAlpha(0);
-        valdyn2.load();
-        valdyn2.setOrigin(Origin.MIDDLE);
+        timeline.add(TIME_RAGE_FADE_IN_MS, endMs, () ->
+        {
+            valdyn0.setOrigin(Origin.MIDDLE);
+            valdyn1.setOrigin(Origin.MIDDLE);
+            valdyn1.setAlpha(0);
+            valdyn2.setOrigin(Origin.MIDDLE);
+        }, valdyn0, valdyn1, valdyn2);
 
         final Animation animDoor = new Animation(Animation.DEFAULT_NAME, 1, 6, 0.18, false, false);
         door.play(animDoor);
@@ -853,13 +861,7 @@ public final class Part2 implements Updatable, Renderable
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, width, height, true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     /**
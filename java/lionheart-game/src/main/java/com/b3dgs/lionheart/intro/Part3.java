@@ -28,7 +28,6 @@ import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.geom.Coord;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -42,6 +41,7 @@ import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Time;
 import com.b3dgs.lionheart.Util;
@@ -130,6 +130,7 @@ public class Part3 extends Sequence
     private final Camera camera = new Camera();
     private final GameConfig config;
     private final AppInfo info;
+    private final FilterFade fade;
     private final Time time;
     private final Audio audio;
     private final DeviceController deviceCursor;
@@ -178,7 +179,7 @@ public class Part3 extends Sequence
         camera.setView(0, (getHeight() - scene.getHeight()) / 2, getWidth(), getHeight(), getHeight());
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(context, MIN_HEIGHT, MAX_WIDTH, MARGIN_WIDTH), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(context, MIN_HEIGHT, MAX_WIDTH, MARGIN_WIDTH), 2);
     }
 
     /**
@@ -468,13 +469,7 @@ public class Part3 extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     /**
@@ -604,6 +599,8 @@ public class Part3 extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
+
         if (!hasNextSequence)
         {
             audio.stop();
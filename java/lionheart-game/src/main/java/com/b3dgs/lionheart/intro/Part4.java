@@ -24,7 +24,6 @@ import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.UpdatableVoid;
 import com.b3dgs.lionengine.audio.Audio;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
@@ -34,7 +33,9 @@ import com.b3dgs.lionengine.helper.DeviceControllerConfig;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.CutsceneTimeline;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Time;
 import com.b3dgs.lionheart.Util;
@@ -66,7 +67,9 @@ public class Part4 extends Sequence
     private final Stories stories = new Stories(getWidth(), getHeight());
     private final GameConfig config;
     private final AppInfo info;
+    private final FilterFade fade;
     private final Time time;
+    private final CutsceneTimeline timeline;
     private final Audio audio;
     private final DeviceController deviceCursor;
 
@@ -90,6 +93,7 @@ public class Part4 extends Sequence
         this.config = config;
         this.time = time;
         this.audio = audio;
+        timeline = new CutsceneTimeline(time);
 
         final Services services = new Services();
         services.add(context);
@@ -102,7 +106,7 @@ public class Part4 extends Sequence
         info = new AppInfo(this::getFps, services);
 
         setSystemCursorVisible(false);
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context), 2);
     }
 
     /**
@@ -240,19 +244,17 @@ public class Part4 extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     @Override
     public void load()
     {
-        stories.load();
+        stories.stream(timeline, STORY0_INDEX, 0L);
+        stories.stream(timeline, STORY1_INDEX, TIME_STORY1_MS);
+        stories.stream(timeline, STORY2_INDEX, TIME_STORY2_MS);
+        stories.stream(timeline, STORY3_INDEX, TIME_STORY3_MS);
+        timeline.load();
     }
 
     @Override
@@ -261,6 +263,7 @@ public class Part4 extends Sequence
         device.update(extrp);
         deviceCursor.update(extrp);
         time.update(extrp);
+        timeline.update(extrp);
         updater.update(extrp);
         info.update(extrp);
 
@@ -287,7 +290,8 @@ public class Part4 extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
-        stories.dispose();
+        info.dispose();
+        timeline.dispose();
 
         if (!hasNextSequence)
         {
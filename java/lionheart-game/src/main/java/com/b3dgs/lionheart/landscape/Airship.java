@@ -33,7 +33,7 @@ import com.b3dgs.lionheart.landscape.Gradient.Backdrop;
 /**
  * Airship background implementation.
  */
-final class Airship extends BackgroundAbstract
+final class Airship extends BackgroundAbstract implements BackgroundDisposable
 {
     private static final int HEIGHT_MAX = 260;
     private static final int HEIGHT_TOTAL = 240;
@@ -86,18 +86,25 @@ final class Airship extends BackgroundAbstract
         backdropForest.setScreenWidth(width);
     }
 
+    @Override
+    public void dispose()
+    {
+        backdrop.dispose();
+        backdropForest.dispose();
+    }
+
     /**
      * Backdrop represents the back background plus top background elements.
      */
     private static final class BackdropForest implements BackgroundComponent
     {
         private final BackgroundElement backcolorA;
-        private final BackgroundElement backcolorB;
         private final BackgroundElement forest;
         private final Sprite forestSprite;
+        private final BackgroundStrip stripA;
+        private final BackgroundStrip stripB;
+        private final BackgroundStrip forestStrip;
         private final boolean flickering;
-        private int w;
-        private int screenWidth;
         private boolean flicker;
 
         /**
@@ -115,18 +122,19 @@ final class Airship extends BackgroundAbstract
             if (flickering)
             {
                 backcolorA = createElement(path, "backcolorForest1.png", 0, FOREST_Y + 100);
-                backcolorB = createElement(path, "backcolorForest2.png", 0, FOREST_Y + 100);
+                stripB = new BackgroundStrip(createElement(path, "backcolorForest2.png", 0, FOREST_Y + 100),
+                                             screenWidth);
             }
             else
             {
                 backcolorA = createElement(path, "backcolorForest.png", 0, FOREST_Y + 100);
-                backcolorB = null;
+                stripB = null;
             }
             forest = createElement(path, "forest.png", 0, FOREST_Y);
 
             forestSprite = (Sprite) forest.getRenderable();
-            this.screenWidth = screenWidth;
-            w = (int) Math.ceil(screenWidth / (double) forest.getRenderable().getWidth()) + 1;
+            stripA = new BackgroundStrip(backcolorA, screenWidth);
+            forestStrip = new BackgroundStrip(forest, screenWidth);
         }
 
         /**
@@ -136,8 +144,25 @@ final class Airship extends BackgroundAbstract
          */
         private void setScreenWidth(int width)
         {
-            screenWidth = width;
-            w = (int) Math.ceil(screenWidth / (double) forest.getRenderable().getWidth()) + 1;
+            stripA.setScreenWidth(width);
+            if (stripB != null)
+            {
+                stripB.setScreenWidth(width);
+            }
+            forestStrip.setScreenWidth(width);
+        }
+
+        /**
+         * Release composed strips.
+         */
+        private void dispose()
+        {
+            stripA.dispose();
+            if (stripB != null)
+            {
+                stripB.dispose();
+            }
+            forestStrip.dispose();
         }
 
         /**
@@ -147,22 +172,16 @@ final class Airship extends BackgroundAbstract
          */
         private void renderBackdrop(Graphic g)
         {
-            final Sprite sprite;
+            final BackgroundStrip strip;
             if (flicker)
             {
-                sprite = (Sprite) backcolorB.getRenderable();
+                strip = stripB;
             }
             else
             {
-                sprite = (Sprite) backcolorA.getRenderable();
-            }
-            for (int i = 0; i < Math.ceil(screenWidth / (double) sprite.getWidth()); i++)
-            {
-                final int x = backcolorA.getMainX() + i * sprite.getWidth();
-                final double y = backcolorA.getOffsetY() + backcolorA.getMainY();
-                sprite.setLocation(x, y);
-                sprite.render(g);
+                strip = stripA;
             }
+            strip.render(g, backcolorA.getMainX(), (int) (backcolorA.getOffsetY() + backcolorA.getMainY()));
         }
 
         /**
@@ -174,12 +193,7 @@ final class Airship extends BackgroundAbstract
         {
             final int oy = (int) (forest.getOffsetY() + forest.getMainY());
             final int ox = (int) (-forest.getOffsetX() + forest.getMainX());
-            final int sx = forestSprite.getWidth();
-            for (int j = 0; j < w; j++)
-            {
-                forestSprite.setLocation(ox + sx * j, oy);
-                forestSprite.render(g);
-            }
+            forestStrip.render(g, ox, oy);
         }
 
         @Override
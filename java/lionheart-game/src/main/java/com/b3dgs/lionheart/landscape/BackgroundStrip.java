@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.landscape;
+
+import com.b3dgs.lionengine.game.background.BackgroundElement;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.drawable.Sprite;
+
+/**
+ * Background layer repeated horizontally, composed once into a screen wide strip.
+ * <p>
+ * Strip content only depends on the screen width, as vertical offset and horizontal scrolling only move where it is
+ * drawn. Rendering costs one blit for static layers and at most two blits for scrolling ones.
+ * </p>
+ */
+final class BackgroundStrip
+{
+    private final Sprite sprite;
+
+    private ImageBuffer strip;
+    private int screenWidth;
+    private int stripWidth;
+
+    /**
+     * Create strip.
+     * 
+     * @param element The element to repeat (must be rendered by a {@link Sprite}).
+     * @param screenWidth The screen width.
+     */
+    BackgroundStrip(BackgroundElement element, int screenWidth)
+    {
+        super();
+
+        sprite = (Sprite) element.getRenderable();
+        setScreenWidth(screenWidth);
+    }
+
+    /**
+     * Called when the resolution changed. Strip is composed again on next render.
+     * 
+     * @param width The new width.
+     */
+    void setScreenWidth(int width)
+    {
+        if (width != screenWidth)
+        {
+            screenWidth = width;
+            final int sx = sprite.getWidth();
+            stripWidth = Math.max(1, (int) Math.ceil(width / (double) sx)) * sx;
+            dispose();
+        }
+    }
+
+    /**
+     * Render strip. Horizontal location is wrapped on strip width.
+     * 
+     * @param g The graphic output.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     */
+    void render(Graphic g, int x, int y)
+    {
+        if (strip == null)
+        {
+            strip = compose();
+        }
+
+        int ox = x % stripWidth;
+        if (ox > 0)
+        {
+            ox -= stripWidth;
+        }
+        g.drawImage(strip, ox, y);
+        if (ox + stripWidth < screenWidth)
+        {
+            g.drawImage(strip, ox + stripWidth, y);
+        }
+    }
+
+    /**
+     * Release composed strip.
+     */
+    void dispose()
+    {
+        if (strip != null)
+        {
+            strip.dispose();
+            strip = null;
+        }
+    }
+
+    /**
+     * Compose strip by repeating sprite.
+     * 
+     * @return The composed strip.
+     */
+    private ImageBuffer compose()
+    {
+        final ImageBuffer buffer = Graphics.createImageBuffer(stripWidth, sprite.getHeight(), ColorRgba.TRANSPARENT);
+        buffer.prepare();
+
+        final Graphic g = buffer.createGraphic();
+        final int sx = sprite.getWidth();
+        for (int i = 0; i < stripWidth / sx; i++)
+        {
+            sprite.setLocation(i * sx, 0);
+            sprite.render(g);
+        }
+        g.dispose();
+
+        return buffer;
+    }
+}
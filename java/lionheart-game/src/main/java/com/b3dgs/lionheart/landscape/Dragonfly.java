@@ -26,7 +26,7 @@ import com.b3dgs.lionheart.constant.Folder;
 /**
  * Dragonfly full background implementation.
  */
-final class Dragonfly extends BackgroundAbstract
+final class Dragonfly extends BackgroundAbstract implements BackgroundDisposable
 {
     private static final int HEIGHT_MAX = 400;
     private static final int HEIGHT_TOTAL = 160;
@@ -62,4 +62,10 @@ final class Dragonfly extends BackgroundAbstract
         setOffsetY(height - Constant.RESOLUTION_GAME.getHeight() + OFFSET_Y);
         backdrop.setScreenWidth(width);
     }
+
+    @Override
+    public void dispose()
+    {
+        backdrop.dispose();
+    }
 }
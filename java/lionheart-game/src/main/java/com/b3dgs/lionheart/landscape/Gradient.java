@@ -21,7 +21,6 @@ import com.b3dgs.lionengine.game.background.BackgroundAbstract;
 import com.b3dgs.lionengine.game.background.BackgroundComponent;
 import com.b3dgs.lionengine.game.background.BackgroundElement;
 import com.b3dgs.lionengine.graphic.Graphic;
-import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.constant.Folder;
@@ -29,7 +28,7 @@ import com.b3dgs.lionheart.constant.Folder;
 /**
  * Gradient color background implementation.
  */
-final class Gradient extends BackgroundAbstract
+final class Gradient extends BackgroundAbstract implements BackgroundDisposable
 {
     private static final int OFFSET_Y = 82;
 
@@ -63,15 +62,21 @@ final class Gradient extends BackgroundAbstract
         backdrop.setScreenWidth(width);
     }
 
+    @Override
+    public void dispose()
+    {
+        backdrop.dispose();
+    }
+
     /**
      * Backdrop represents the back background plus top background elements.
      */
     public static final class Backdrop implements BackgroundComponent
     {
         private final BackgroundElement backcolorA;
-        private final BackgroundElement backcolorB;
+        private final BackgroundStrip stripA;
+        private final BackgroundStrip stripB;
         private final boolean flickering;
-        private int screenWidth;
         private boolean flicker;
 
         /**
@@ -90,14 +95,14 @@ final class Gradient extends BackgroundAbstract
             if (flickering)
             {
                 backcolorA = createElement(path, "backcolor1.png", 0, 0);
-                backcolorB = createElement(path, "backcolor2.png", 0, 0);
+                stripB = new BackgroundStrip(createElement(path, "backcolor2.png", 0, 0), screenWidth);
             }
             else
             {
                 backcolorA = createElement(path, "backcolor.png", 0, 0);
-                backcolorB = null;
+                stripB = null;
             }
-            setScreenWidth(screenWidth);
+            stripA = new BackgroundStrip(backcolorA, screenWidth);
         }
 
         /**
@@ -107,7 +112,23 @@ final class Gradient extends BackgroundAbstract
          */
         public void setScreenWidth(int width)
         {
-            screenWidth = width;
+            stripA.setScreenWidth(width);
+            if (stripB != null)
+            {
+                stripB.setScreenWidth(width);
+            }
+        }
+
+        /**
+         * Release composed strips.
+         */
+        public void dispose()
+        {
+            stripA.dispose();
+            if (stripB != null)
+            {
+                stripB.dispose();
+            }
         }
 
         @Override
@@ -119,22 +140,16 @@ final class Gradient extends BackgroundAbstract
         @Override
         public void render(Graphic g)
         {
-            final Sprite sprite;
+            final BackgroundStrip strip;
             if (flicker)
             {
-                sprite = (Sprite) backcolorB.getRenderable();
+                strip = stripB;
             }
             else
             {
-                sprite = (Sprite) backcolorA.getRenderable();
-            }
-            for (int i = 0; i < Math.ceil(screenWidth / (double) sprite.getWidth()); i++)
-            {
-                final int x = backcolorA.getMainX() + i * sprite.getWidth();
-                final double y = backcolorA.getOffsetY() + backcolorA.getMainY();
-                sprite.setLocation(x, y);
-                sprite.render(g);
+                strip = stripA;
             }
+            strip.render(g, backcolorA.getMainX(), (int) (backcolorA.getOffsetY() + backcolorA.getMainY()));
             if (flickering)
             {
                 flicker = !flicker;
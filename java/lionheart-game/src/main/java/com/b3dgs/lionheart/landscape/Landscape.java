@@ -105,4 +105,15 @@ public class Landscape
     {
         foreground.setEnabled(enabled);
     }
+
+    /**
+     * Release composed background surfaces.
+     */
+    public void dispose()
+    {
+        if (background instanceof final BackgroundDisposable disposable)
+        {
+            disposable.dispose();
+        }
+    }
 }
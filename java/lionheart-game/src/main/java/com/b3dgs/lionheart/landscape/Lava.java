@@ -34,7 +34,7 @@ import com.b3dgs.lionheart.constant.Folder;
 /**
  * Lava background implementation.
  */
-final class Lava extends BackgroundAbstract
+final class Lava extends BackgroundAbstract implements BackgroundDisposable
 {
     private static final int HEIGHT_MAX = 338;
     private static final int HEIGHT_TOTAL = 85;
@@ -102,6 +102,12 @@ final class Lava extends BackgroundAbstract
         parallax.setScreenSize(width, height);
     }
 
+    @Override
+    public void dispose()
+    {
+        backdrop.dispose();
+    }
+
     /**
      * Backdrop represents the back background plus top background elements.
      */
@@ -109,16 +115,18 @@ final class Lava extends BackgroundAbstract
     {
         private final BackgroundElement cloud;
         private final BackgroundElement backcolorA;
-        private final BackgroundElement backcolorB;
         private final BackgroundElement mountain;
         private final BackgroundElement mountain2;
         private final BackgroundElementRastered moon;
         private final Sprite mountainSprite;
         private final Sprite mountain2Sprite;
+        private final BackgroundStrip cloudStrip;
+        private final BackgroundStrip stripA;
+        private final BackgroundStrip stripB;
+        private final BackgroundStrip mountainStrip;
+        private final BackgroundStrip mountain2Strip;
         private final boolean flickering;
         private final int moonOffset;
-        private int w;
-        private int screenWidth;
         private boolean flicker;
 
         /**
@@ -137,12 +145,12 @@ final class Lava extends BackgroundAbstract
             if (flickering)
             {
                 backcolorA = createElement(path, "backcolor1.png", 0, 1);
-                backcolorB = createElement(path, "backcolor2.png", 0, 1);
+                stripB = new BackgroundStrip(createElement(path, "backcolor2.png", 0, 1), screenWidth);
             }
             else
             {
                 backcolorA = createElement(path, "backcolor.png", 0, 1);
-                backcolorB = null;
+                stripB = null;
             }
             mountain = createElement(path, "mountain.png", 0, PARALLAX_Y + MOUNTAIN_OFFSET_Y);
             mountain2 = createElement(path, "mountain2.png", 0, PARALLAX_Y + MOUNTAIN2_OFFSET_Y);
@@ -154,8 +162,10 @@ final class Lava extends BackgroundAbstract
                                                  Medias.create(path, "raster.png"));
             mountainSprite = (Sprite) mountain.getRenderable();
             mountain2Sprite = (Sprite) mountain2.getRenderable();
-            this.screenWidth = screenWidth;
-            w = (int) Math.ceil(screenWidth / (double) mountain.getRenderable().getWidth()) + 1;
+            cloudStrip = new BackgroundStrip(cloud, screenWidth);
+            stripA = new BackgroundStrip(backcolorA, screenWidth);
+            mountainStrip = new BackgroundStrip(mountain, screenWidth);
+            mountain2Strip = new BackgroundStrip(mountain2, screenWidth);
         }
 
         /**
@@ -165,8 +175,29 @@ final class Lava extends BackgroundAbstract
          */
         private void setScreenWidth(int width)
         {
-            screenWidth = width;
-            w = (int) Math.ceil(screenWidth / (double) mountain.getRenderable().getWidth()) + 1;
+            cloudStrip.setScreenWidth(width);
+            stripA.setScreenWidth(width);
+            if (stripB != null)
+            {
+                stripB.setScreenWidth(width);
+            }
+            mountainStrip.setScreenWidth(width);
+            mountain2Strip.setScreenWidth(width);
+        }
+
+        /**
+         * Release composed strips.
+         */
+        private void dispose()
+        {
+            cloudStrip.dispose();
+            stripA.dispose();
+            if (stripB != null)
+            {
+                stripB.dispose();
+            }
+            mountainStrip.dispose();
+            mountain2Strip.dispose();
         }
 
         /**
@@ -176,22 +207,16 @@ final class Lava extends BackgroundAbstract
          */
         private void renderBackdrop(Graphic g)
         {
-            final Sprite sprite;
+            final BackgroundStrip strip;
             if (flicker)
             {
-                sprite = (Sprite) backcolorB.getRenderable();
+                strip = stripB;
             }
             else
             {
-                sprite = (Sprite) backcolorA.getRenderable();
-            }
-            for (int i = 0; i < Math.ceil(screenWidth / (double) sprite.getWidth()); i++)
-            {
-                final int x = backcolorA.getMainX() + i * sprite.getWidth();
-                final double y = backcolorA.getOffsetY() + backcolorA.getMainY() - 1;
-                sprite.setLocation(x, y);
-                sprite.render(g);
+                strip = stripA;
             }
+            strip.render(g, backcolorA.getMainX(), (int) (backcolorA.getOffsetY() + backcolorA.getMainY() - 1));
         }
 
         /**
@@ -201,14 +226,7 @@ final class Lava extends BackgroundAbstract
          */
         private void renderCloud(Graphic g)
         {
-            final Sprite cloudSprite = (Sprite) cloud.getRenderable();
-            for (int i = 0; i < Math.ceil(screenWidth / (double) cloudSprite.getWidth()); i++)
-            {
-                final int x = cloud.getMainX() + i * cloudSprite.getWidth();
-                final double y = cloud.getOffsetY() + cloud.getMainY();
-                cloudSprite.setLocation(x, y);
-                cloudSprite.render(g);
-            }
+            cloudStrip.render(g, cloud.getMainX(), (int) (cloud.getOffsetY() + cloud.getMainY()));
         }
 
         /**
@@ -233,12 +251,7 @@ final class Lava extends BackgroundAbstract
         {
             final int oy = (int) (mountain.getOffsetY() + mountain.getMainY());
             final int ox = (int) (-mountain.getOffsetX() + mountain.getMainX());
-            final int sx = mountainSprite.getWidth();
-            for (int j = 0; j < w; j++)
-            {
-                mountainSprite.setLocation(ox + sx * j, oy);
-                mountainSprite.render(g);
-            }
+            mountainStrip.render(g, ox, oy);
         }
 
         /**
@@ -250,12 +263,7 @@ final class Lava extends BackgroundAbstract
         {
             final int oy = (int) (mountain2.getOffsetY() + mountain2.getMainY());
             final int ox = (int) (-mountain2.getOffsetX() + mountain2.getMainX());
-            final int sx = mountain2Sprite.getWidth();
-            for (int j = 0; j < w; j++)
-            {
-                mountain2Sprite.setLocation(ox + sx * j, oy);
-                mountain2Sprite.render(g);
-            }
+            mountain2Strip.render(g, ox, oy);
         }
 
         @Override
@@ -34,7 +34,7 @@ import com.b3dgs.lionheart.constant.Folder;
 /**
  * Swamp background implementation.
  */
-final class Swamp extends BackgroundAbstract
+final class Swamp extends BackgroundAbstract implements BackgroundDisposable
 {
     private static final int HEIGHT_MAX = 338;
     private static final int HEIGHT_TOTAL = 82;
@@ -103,6 +103,12 @@ final class Swamp extends BackgroundAbstract
         parallax.setScreenSize(width, height);
     }
 
+    @Override
+    public void dispose()
+    {
+        backdrop.dispose();
+    }
+
     /**
      * Backdrop represents the back background plus top background elements.
      */
@@ -112,8 +118,8 @@ final class Swamp extends BackgroundAbstract
         private final BackgroundElement mountain;
         private final BackgroundElementRastered moon;
         private final Sprite mountainSprite;
+        private final BackgroundStrip mountainStrip;
         private final int moonOffset;
-        private int w;
 
         /**
          * Constructor.
@@ -135,7 +141,7 @@ final class Swamp extends BackgroundAbstract
                                                  Medias.create(path, "palette.png"),
                                                  Medias.create(path, "raster.png"));
             mountainSprite = (Sprite) mountain.getRenderable();
-            w = (int) Math.ceil(screenWidth / (double) mountain.getRenderable().getWidth()) + 1;
+            mountainStrip = new BackgroundStrip(mountain, screenWidth);
         }
 
         /**
@@ -146,7 +152,16 @@ final class Swamp extends BackgroundAbstract
         private void setScreenWidth(int width)
         {
             backdrop.setScreenWidth(width);
-            w = (int) Math.ceil(width / (double) mountain.getRenderable().getWidth()) + 1;
+            mountainStrip.setScreenWidth(width);
+        }
+
+        /**
+         * Release composed strips.
+         */
+        private void dispose()
+        {
+            backdrop.dispose();
+            mountainStrip.dispose();
         }
 
         /**
@@ -171,12 +186,7 @@ final class Swamp extends BackgroundAbstract
         {
             final int oy = (int) (mountain.getOffsetY() + mountain.getMainY());
             final int ox = (int) (-mountain.getOffsetX() + mountain.getMainX());
-            final int sx = mountainSprite.getWidth();
-            for (int j = 0; j < w; j++)
-            {
-                mountainSprite.setLocation(ox + sx * j, oy);
-                mountainSprite.render(g);
-            }
+            mountainStrip.render(g, ox, oy);
         }
 
         @Override
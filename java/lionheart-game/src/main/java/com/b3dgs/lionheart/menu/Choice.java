@@ -39,12 +39,12 @@ final class Choice implements Renderable
     private final int y;
     /** Next menu pointer. */
     private final MenuType next;
-    /** Text reference. */
-    private final SpriteFont text;
-    /** Choice name. */
-    private final String name;
-    /** Text align. */
-    private final Align align;
+    /** Hit area left. */
+    private final int x1;
+    /** Hit area right. */
+    private final int x2;
+    /** Render horizontal offset. */
+    private final int offsetX;
     /** Current text. */
     private ImageBuffer current;
     /** Buffer. */
@@ -82,13 +82,29 @@ final class Choice implements Renderable
     {
         super();
 
-        this.text = text;
-        this.name = name;
         this.x = x;
         this.y = y;
-        this.align = align;
         this.next = next;
 
+        if (Align.LEFT == align)
+        {
+            x1 = x;
+            x2 = x + 200;
+            offsetX = Math.max(0, text.getTextWidth(name) - MAX_WIDTH);
+        }
+        else if (Align.RIGHT == align)
+        {
+            x1 = x - 200;
+            x2 = x;
+            offsetX = text.getTextWidth(name);
+        }
+        else
+        {
+            x1 = x - 100;
+            x2 = x + 100;
+            offsetX = Align.CENTER == align ? text.getTextWidth(name) / 2 : 0;
+        }
+
         buffer = Graphics.createImageBuffer(text.getTextWidth(name),
                                             text.getTextHeight(name) + 4,
                                             ColorRgba.TRANSPARENT);
@@ -144,25 +160,6 @@ final class Choice implements Renderable
      */
     public boolean isOver(Cursor cursor)
     {
-        final int x1;
-        final int x2;
-
-        if (Align.LEFT == align)
-        {
-            x1 = x;
-            x2 = x + 200;
-        }
-        else if (Align.RIGHT == align)
-        {
-            x1 = x - 200;
-            x2 = x;
-        }
-        else
-        {
-            x1 = x - 100;
-            x2 = x + 100;
-        }
-
         return UtilMath.isBetween(cursor.getScreenX(), x1, x2)
                && UtilMath.isBetween(cursor.getScreenY(), y + 10.0, y + 22.0);
     }
@@ -180,19 +177,6 @@ final class Choice implements Renderable
     @Override
     public void render(Graphic g)
     {
-        int offsetX = 0;
-        if (Align.LEFT == align)
-        {
-            offsetX = Math.max(0, text.getTextWidth(name) - MAX_WIDTH);
-        }
-        else if (Align.CENTER == align)
-        {
-            offsetX = text.getTextWidth(name) / 2;
-        }
-        else if (Align.RIGHT == align)
-        {
-            offsetX = text.getTextWidth(name);
-        }
         g.drawImage(current, x - offsetX, y);
     }
 }
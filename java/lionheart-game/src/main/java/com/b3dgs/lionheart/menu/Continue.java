@@ -32,12 +32,12 @@ import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.Cursor;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.drawable.SpriteAnimated;
 import com.b3dgs.lionengine.graphic.drawable.SpriteFont;
+import com.b3dgs.lionengine.graphic.engine.FilterNone;
 import com.b3dgs.lionengine.graphic.engine.Sequence;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionDelegate;
 import com.b3dgs.lionengine.helper.DeviceControllerConfig;
@@ -46,6 +46,7 @@ import com.b3dgs.lionengine.io.DevicePointer;
 import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.DeviceMapping;
+import com.b3dgs.lionheart.FilterFade;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.InitConfig;
 import com.b3dgs.lionheart.Scene;
@@ -81,18 +82,18 @@ public class Continue extends Sequence
     private static final int VALDYN_FRAME_OFFSET_X = -8;
     private static final double VALDYN_OFFSET_Y = 242.0;
 
-    private final SpriteFont textWhite = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "fontmenu.png"),
-                                                                 Medias.create(Folder.SPRITE, "fontmenu.xml"),
-                                                                 26,
-                                                                 30);
-    private final SpriteFont textDark = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "fontmenu_dark.png"),
-                                                                Medias.create(Folder.SPRITE, "fontmenu.xml"),
-                                                                26,
-                                                                30);
-    private final SpriteFont textBlue = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "fontmenu_blue.png"),
-                                                                Medias.create(Folder.SPRITE, "fontmenu.xml"),
-                                                                26,
-                                                                30);
+    private final SpriteFont textWhite = Menu.loadFont(Menu.FONT_WHITE,
+                                                       Menu.FONT_DATA,
+                                                       Menu.FONT_WIDTH,
+                                                       Menu.FONT_HEIGHT);
+    private final SpriteFont textDark = Menu.loadFont(Menu.FONT_DARK,
+                                                      Menu.FONT_DATA,
+                                                      Menu.FONT_WIDTH,
+                                                      Menu.FONT_HEIGHT);
+    private final SpriteFont textBlue = Menu.loadFont(Menu.FONT_BLUE,
+                                                      Menu.FONT_DATA,
+                                                      Menu.FONT_WIDTH,
+                                                      Menu.FONT_HEIGHT);
     private final List<String> continues = Util.readLines(Medias.create(Folder.TEXT,
                                                                         Settings.getInstance().getLang(),
                                                                         Folder.MENU,
@@ -111,6 +112,7 @@ public class Continue extends Sequence
 
     private final DeviceController device;
     private final AppInfo info;
+    private final FilterFade fade;
     private final Tick tick = new Tick();
     private final Tick tickMouse = new Tick();
 
@@ -170,15 +172,8 @@ public class Continue extends Sequence
                                                                        .getDevice());
         cursor.setSync(pointer);
         info = new AppInfo(this::getFps, services);
-
-        textWhite.load();
-        textWhite.prepare();
-
-        textDark.load();
-        textDark.prepare();
-
-        textBlue.load();
-        textBlue.prepare();
+        fade = new FilterFade(FilterNone.INSTANCE);
+        setFilter(fade);
 
         mainY = (getHeight() + MAIN_Y_OFFSET) / 2;
 
@@ -426,13 +421,7 @@ public class Continue extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     /**
@@ -499,10 +488,15 @@ public class Continue extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
         back.dispose();
         valdyn.dispose();
         continues.clear();
 
+        Menu.releaseFont(Menu.FONT_WHITE);
+        Menu.releaseFont(Menu.FONT_DARK);
+        Menu.releaseFont(Menu.FONT_BLUE);
+
         if (!hasNextSequence)
         {
             Engine.terminate();
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +62,9 @@ import com.b3dgs.lionheart.AppInfo;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.DeviceMapping;
 import com.b3dgs.lionheart.Difficulty;
+import com.b3dgs.lionheart.FilterFade;
+import com.b3dgs.lionheart.FontRegistry;
+import com.b3dgs.lionheart.FramePacing;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.GameType;
 import com.b3dgs.lionheart.InitConfig;
@@ -82,6 +86,20 @@ import com.b3dgs.lionheart.intro.Intro;
 // CHECKSTYLE IGNORE LINE: DataAbstractionCoupling|FanOutComplexity
 public class Menu extends Sequence
 {
+    /** White menu font. */
+    static final String FONT_WHITE = "fontmenu.png";
+    /** Dark menu font. */
+    static final String FONT_DARK = "fontmenu_dark.png";
+    /** Blue menu font. */
+    static final String FONT_BLUE = "fontmenu_blue.png";
+    /** Menu font data. */
+    static final String FONT_DATA = "fontmenu.xml";
+    /** Menu font letter width. */
+    static final int FONT_WIDTH = 26;
+    /** Menu font letter height. */
+    static final int FONT_HEIGHT = 30;
+
+    private static final String FONT_TIP = "fonttip.png";
     private static final int MOUSE_HIDE_DELAY_MS = 1000;
 
     private static final int MIN_HEIGHT = 360;
@@ -94,11 +112,15 @@ public class Menu extends Sequence
     private static final int MENU_MAIN_IMAGE_OFFSET_Y = 32;
     private static final int OPTIONS_TITLE_OFFSET_Y = 96;
     private static final int OPTIONS_TEXT_OFFSET_X = 12;
+    /** Page state values. */
+    private static final int PAGE_STATE = 10;
+    /** Idle frame throttle delay. */
+    private static final long IDLE_NANO = 33_000_000L;
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger(Menu.class);
 
     /**
-     * Load front.
+     * Acquire shared font, must be released with {@link #releaseFont(String)}.
      * 
      * @param media The font sprite media.
      * @param data The font data media.
@@ -106,9 +128,20 @@ public class Menu extends Sequence
      * @param lh The font image letter height.
      * @return The loaded font.
      */
-    private static SpriteFont loadFont(String media, String data, int lw, int lh)
+    static SpriteFont loadFont(String media, String data, int lw, int lh)
     {
-        return Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, media), Medias.create(Folder.SPRITE, data), lw, lh);
+        return FontRegistry.getInstance()
+                           .acquire(Medias.create(Folder.SPRITE, media), Medias.create(Folder.SPRITE, data), lw, lh);
+    }
+
+    /**
+     * Release shared font.
+     * 
+     * @param media The font sprite media.
+     */
+    static void releaseFont(String media)
+    {
+        FontRegistry.getInstance().release(Medias.create(Folder.SPRITE, media));
     }
 
     /**
@@ -196,10 +229,10 @@ public class Menu extends Sequence
         return 0;
     }
 
-    private final SpriteFont textWhite = loadFont("fontmenu.png", "fontmenu.xml", 26, 30);
-    private final SpriteFont textDark = loadFont("fontmenu_dark.png", "fontmenu.xml", 26, 30);
-    private final SpriteFont textBlue = loadFont("fontmenu_blue.png", "fontmenu.xml", 26, 30);
-    private final SpriteFont font = loadFont("fonttip.png", "fontdata.xml", 12, 12);
+    private final SpriteFont textWhite = loadFont(FONT_WHITE, FONT_DATA, FONT_WIDTH, FONT_HEIGHT);
+    private final SpriteFont textDark = loadFont(FONT_DARK, FONT_DATA, FONT_WIDTH, FONT_HEIGHT);
+    private final SpriteFont textBlue = loadFont(FONT_BLUE, FONT_DATA, FONT_WIDTH, FONT_HEIGHT);
+    private final SpriteFont font = loadFont(FONT_TIP, "fontdata.xml", 12, 12);
 
     private final Settings settings = Settings.getInstance();
 
@@ -232,8 +265,16 @@ public class Menu extends Sequence
     private final Sprite[] menus = new Sprite[3];
     /** List of menu data with their content. */
     private final Data[] menusData = new Data[menus.length];
+    /** Composed static menu layers (background and titles), created on first display. */
+    private final ImageBuffer[] backgrounds = new ImageBuffer[menus.length];
+    /** Composed page state. */
+    private final int[] pageState = new int[PAGE_STATE];
+    /** Current page state. */
+    private final int[] pageCurrent = new int[PAGE_STATE];
     /** Application info. */
     private final AppInfo info;
+    /** Frame fade compositor. */
+    private final FilterFade fade;
     /** Horizontal factor. */
     private final double factorH = getWidth() / 640.0;
     /** Main Y. */
@@ -275,7 +316,10 @@ public class Menu extends Sequence
     private Audio audio;
     private boolean movedHorizontal;
     private boolean movedVertical;
+    private boolean infoShown;
     private int totalStages;
+    /** Composed current page, redrawn only when its state changes. */
+    private ImageBuffer page;
 
     /**
      * Constructor.
@@ -347,13 +391,6 @@ public class Menu extends Sequence
 
         info = new AppInfo(this::getFps, services);
 
-        textWhite.load();
-        textWhite.prepare();
-        textDark.load();
-        textDark.prepare();
-        textBlue.load();
-        textBlue.prepare();
-
         mainY = (getHeight() - MIN_HEIGHT) / 2;
 
         menusData[0] = createLauncher();
@@ -396,7 +433,7 @@ public class Menu extends Sequence
                                      + music1.size()];
         createCacheText();
 
-        Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context).get2x(), 2);
+        fade = Util.setFilter(this, context, Util.getResolution(Constant.RESOLUTION, context).get2x(), 2);
     }
 
     /**
@@ -461,8 +498,7 @@ public class Menu extends Sequence
     {
         final int x = (int) Math.round(CENTER_X * factorH);
         final Choice[] choices;
-        if (config.getStages().isPresent()
-            && Medias.create(Folder.STAGE, Folder.STORY, config.getStages().get(), Constant.FILE_PROGRESS).exists())
+        if (Util.hasProgress(config))
         {
             choice = 2;
             choices = new Choice[]
@@ -1007,39 +1043,149 @@ public class Menu extends Sequence
     }
 
     /**
-     * Render the menus.
+     * Render the menus. Current page is composed once and only recomposed when its state changes.
      * 
      * @param g The graphic output.
+     * @param menuId The menu id.
+     * @param changed <code>true</code> if page state changed, <code>false</code> else.
+     */
+    private void renderMenus(Graphic g, int menuId, boolean changed)
+    {
+        if (menuId > -1)
+        {
+            if (changed)
+            {
+                composePage(menuId);
+            }
+            g.drawImage(page, 0, 0);
+        }
+    }
+
+    /**
+     * Check if current frame is idle: page unchanged, no transition, no cursor movement, no info shown or hidden.
+     * 
+     * @param menuId The menu id.
+     * @param changed <code>true</code> if page state changed, <code>false</code> else.
+     * @return <code>true</code> if loop can be throttled, <code>false</code> else.
+     */
+    private boolean isIdle(int menuId, boolean changed)
+    {
+        final boolean shown = info.isShown();
+        final boolean idle = menuId > -1
+                             && !changed
+                             && transition == TransitionType.NONE
+                             && Double.compare(cursor.getMoveX(), 0.0) == 0
+                             && Double.compare(cursor.getMoveY(), 0.0) == 0
+                             && !shown
+                             && !infoShown;
+        infoShown = shown;
+        return idle;
+    }
+
+    /**
+     * Check if page state changed since last composition, and store current state.
+     * 
+     * @param menuId The menu id.
+     * @return <code>true</code> if changed, <code>false</code> else.
      */
-    private void renderMenus(Graphic g)
+    private boolean isPageChanged(int menuId)
     {
+        pageCurrent[0] = menuId;
+        pageCurrent[1] = choice;
+        pageCurrent[2] = game;
+        pageCurrent[3] = stage;
+        pageCurrent[4] = players;
+        pageCurrent[5] = difficulty;
+        pageCurrent[6] = controller;
+        pageCurrent[7] = controls.get(Integer.valueOf(controller)).intValue();
+        pageCurrent[8] = joystick;
+        pageCurrent[9] = music;
+
+        if (page != null && Arrays.equals(pageState, pageCurrent))
+        {
+            return false;
+        }
+        System.arraycopy(pageCurrent, 0, pageState, 0, PAGE_STATE);
+        return true;
+    }
+
+    /**
+     * Compose current page from its static layer and current choices.
+     * 
+     * @param menuId The menu id.
+     */
+    private void composePage(int menuId)
+    {
+        if (page == null)
+        {
+            page = Graphics.createImageBuffer(getWidth(), getHeight(), ColorRgba.TRANSPARENT);
+            page.prepare();
+        }
+        if (backgrounds[menuId] == null)
+        {
+            backgrounds[menuId] = composeBackground(menuId);
+        }
+
+        final Graphic g = page.createGraphic();
+        g.clear(0, 0, getWidth(), getHeight());
+        g.drawImage(backgrounds[menuId], 0, 0);
         switch (type)
         {
             case LAUNCHER:
                 renderLauncher(g);
                 break;
             case MAIN:
-                menus[1].render(g);
                 menusData[1].render(g, choice);
                 break;
             case OPTIONS:
                 renderOptions(g);
                 break;
-            case LAUNCHER_PLAY, LAUNCHER_EXIT, NEW, CONTINUE, INTRO:
-                break;
             default:
                 throw new LionEngineException(type);
         }
+        g.dispose();
     }
 
     /**
-     * Render the launcher menu.
+     * Compose static menu layer.
+     * 
+     * @param menuId The menu id.
+     * @return The composed layer.
+     */
+    private ImageBuffer composeBackground(int menuId)
+    {
+        final ImageBuffer buffer = Graphics.createImageBuffer(getWidth(), getHeight(), ColorRgba.TRANSPARENT);
+        buffer.prepare();
+
+        final Graphic g = buffer.createGraphic();
+        menus[menuId].render(g);
+
+        final int x = (int) Math.round(CENTER_X * factorH);
+        if (menuId == 0)
+        {
+            textBlue.draw(g, x, mainY + LAUNCHER_TITLE_OFFSET_Y, Align.CENTER, menu0.get(0));
+            textDark.draw(g, x, mainY + LAUNCHER_TITLE_OFFSET_Y + 22, Align.CENTER, menu0.get(1));
+        }
+        else if (menuId == 2)
+        {
+            textWhite.draw(g,
+                           x,
+                           mainY + OPTIONS_TITLE_OFFSET_Y,
+                           Align.CENTER,
+                           menu1.get(menusData[2].choiceMax == 4 ? 1 : 2).toUpperCase(Locale.ENGLISH));
+        }
+        g.dispose();
+
+        return buffer;
+    }
+
+    /**
+     * Render the launcher menu choices.
      * 
      * @param g The graphic output.
      */
     private void renderLauncher(Graphic g)
     {
-        menus[0].render(g);
         if (GameType.is(game, GameType.SPEEDRUN, GameType.BATTLE, GameType.VERSUS))
         {
             menusData[0].render(g, choice, 2);
@@ -1049,18 +1195,6 @@ public class Menu extends Sequence
             menusData[0].render(g, choice, 3);
         }
 
-        textBlue.draw(g,
-                      (int) Math.round(CENTER_X * factorH),
-                      mainY + LAUNCHER_TITLE_OFFSET_Y,
-                      Align.CENTER,
-                      menu0.get(0));
-
-        textDark.draw(g,
-                      (int) Math.round(CENTER_X * factorH),
-                      mainY + LAUNCHER_TITLE_OFFSET_Y + 22,
-                      Align.CENTER,
-                      menu0.get(1));
-
         drawLauncherText(g, 0, 0, game);
         drawLauncherText(g, 1, game0.size() + players0.size() + getGameStagesCount(), stage);
         if (GameType.is(game, GameType.SPEEDRUN, GameType.BATTLE, GameType.VERSUS))
@@ -1138,21 +1272,14 @@ public class Menu extends Sequence
     }
 
     /**
-     * Render the options menu.
+     * Render the options menu choices.
      * 
      * @param g The graphic output.
      */
     private void renderOptions(Graphic g)
     {
-        menus[2].render(g);
         menusData[2].render(g, choice);
 
-        textWhite.draw(g,
-                       (int) Math.round(Menu.CENTER_X * factorH),
-                       mainY + OPTIONS_TITLE_OFFSET_Y,
-                       Align.CENTER,
-                       menu1.get(menusData[2].choiceMax == 4 ? 1 : 2).toUpperCase(Locale.ENGLISH));
-
         drawOptionText(g, 0, 0, difficulty);
         drawOptionText(g, 1, difficulty1.size(), joystick);
         drawOptionText(g, 2, difficulty1.size() + joystick1.size(), music);
@@ -1193,13 +1320,7 @@ public class Menu extends Sequence
      */
     private void renderFade(Graphic g)
     {
-        final int a = getAlpha();
-        if (a > 0)
-        {
-            g.setColor(Constant.ALPHAS_BLACK[a]);
-            g.drawRect(0, 0, getWidth(), getHeight(), true);
-            g.setColor(ColorRgba.BLACK);
-        }
+        fade.apply(getAlpha());
     }
 
     @Override
@@ -1217,9 +1338,6 @@ public class Menu extends Sequence
         menus[0].setLocation(x, mainY + LAUNCHER_IMAGE_OFFSET_Y);
         menus[1].setLocation(x, mainY + MENU_MAIN_IMAGE_OFFSET_Y);
         menus[2].setLocation(x, mainY);
-
-        font.load();
-        font.prepare();
     }
 
     @Override
@@ -1249,12 +1367,20 @@ public class Menu extends Sequence
     @Override
     public void render(Graphic g)
     {
+        final int menuId = getMenuId();
+        final boolean changed = menuId > -1 && isPageChanged(menuId);
         g.clear(0, 0, getWidth(), getHeight());
 
-        renderMenus(g);
+        renderMenus(g, menuId, changed);
         renderTransition(g);
 
         info.render(g);
+
+        if (isIdle(menuId, changed))
+        {
+            LockSupport.parkNanos(this, IDLE_NANO);
+            FramePacing.getInstance().skip();
+        }
     }
 
     @Override
@@ -1262,6 +1388,7 @@ public class Menu extends Sequence
     {
         super.onTerminated(hasNextSequence);
 
+        info.dispose();
         device.removeListener(listener);
         stopAudio();
 
@@ -1281,10 +1408,10 @@ public class Menu extends Sequence
         joystick1.clear();
         music1.clear();
 
-        textWhite.dispose();
-        textDark.dispose();
-        textBlue.dispose();
-        font.dispose();
+        releaseFont(FONT_WHITE);
+        releaseFont(FONT_DARK);
+        releaseFont(FONT_BLUE);
+        releaseFont(FONT_TIP);
 
         for (int i = 0; i < menus.length; i++)
         {
@@ -1294,6 +1421,17 @@ public class Menu extends Sequence
         {
             bufferText[i].dispose();
         }
+        for (int i = 0; i < backgrounds.length; i++)
+        {
+            if (backgrounds[i] != null)
+            {
+                backgrounds[i].dispose();
+            }
+        }
+        if (page != null)
+        {
+            page.dispose();
+        }
 
         if (!hasNextSequence)
         {
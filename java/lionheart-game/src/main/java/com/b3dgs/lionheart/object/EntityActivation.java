@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.object;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.b3dgs.lionengine.Viewer;
+import com.b3dgs.lionengine.game.feature.Transformable;
+
+/**
+ * Stage wide spatial hash over entity locations.
+ * <p>
+ * Once per frame, cells around cameras (plus margin) are scanned and their entities stamped awake in bulk. Sleeping
+ * entities are not rehashed as they do not move, except the ones always updated. A full rehash is performed
+ * periodically to catch external teleports, skipping fixed entries (static entities) which never move.
+ * </p>
+ * <p>
+ * Each entry stores its index in every list it belongs to, so removal is a constant time swap with the last element.
+ * </p>
+ */
+public final class EntityActivation
+{
+    /** Cell size in pixel. */
+    private static final int CELL = 128;
+    /** Minimum margin around cameras. */
+    private static final int MARGIN = 64;
+    /** Full rehash period in frames. */
+    private static final int REHASH_FRAMES = 30;
+    /** Cell list index slot. */
+    private static final int SLOT_CELL = 0;
+    /** Registered list index slot. */
+    private static final int SLOT_ENTRIES = 1;
+    /** Awake list index slot. */
+    private static final int SLOT_AWAKE = 2;
+    /** Always updated list index slot. */
+    private static final int SLOT_ALWAYS = 3;
+    /** Number of index slots. */
+    private static final int SLOTS = 4;
+
+    /**
+     * Get cell key.
+     * 
+     * @param cx The horizontal cell.
+     * @param cy The vertical cell.
+     * @return The cell key.
+     */
+    private static long key(int cx, int cy)
+    {
+        return (long) cx << Integer.SIZE | cy & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Get cell index.
+     * 
+     * @param value The location value.
+     * @return The cell index.
+     */
+    private static int cell(double value)
+    {
+        return (int) Math.floor(value / CELL);
+    }
+
+    /**
+     * Append entry to list and store its index.
+     * 
+     * @param list The target list.
+     * @param entry The entry to append.
+     * @param slot The index slot.
+     */
+    private static void append(List<Entry> list, Entry entry, int slot)
+    {
+        entry.index[slot] = list.size();
+        list.add(entry);
+    }
+
+    /**
+     * Remove entry from list by swapping with last element. Nothing is done if entry is not at its stored index (awake
+     * list is cleared each frame without resetting indexes).
+     * 
+     * @param list The target list.
+     * @param entry The entry to remove.
+     * @param slot The index slot.
+     */
+    private static void swapRemove(List<Entry> list, Entry entry, int slot)
+    {
+        final int i = entry.index[slot];
+        if (i < list.size() && list.get(i) == entry)
+        {
+            final Entry last = list.remove(list.size() - 1);
+            if (last != entry)
+            {
+                list.set(i, last);
+                last.index[slot] = i;
+            }
+        }
+    }
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Entry> awake = new ArrayList<>();
+    private final List<Entry> always = new ArrayList<>();
+    private Viewer[] cameras = new Viewer[0];
+    private int radius;
+    private int frame;
+
+    /**
+     * Create activation.
+     */
+    public EntityActivation()
+    {
+        super();
+    }
+
+    /**
+     * Set the cameras to activate around (union of all split cameras).
+     * 
+     * @param cameras The cameras reference.
+     */
+    public void setCameras(Viewer... cameras)
+    {
+        this.cameras = cameras.clone();
+    }
+
+    /**
+     * Create an entry for entity. Entry is not registered until {@link Entry#add()}.
+     * 
+     * @param transformable The entity transformable.
+     * @param alwaysUpdate <code>true</code> if entity is updated even when sleeping, <code>false</code> else.
+     * @return The created entry.
+     */
+    public Entry create(Transformable transformable, boolean alwaysUpdate)
+    {
+        return new Entry(transformable, alwaysUpdate);
+    }
+
+    /**
+     * Compute active set. Must be called once per frame before entities update.
+     */
+    public void update()
+    {
+        frame++;
+
+        Entry entry;
+        while ((entry = pending.poll()) != null)
+        {
+            if (entry.added && !entry.hashed)
+            {
+                insert(entry);
+            }
+        }
+
+        if (frame % REHASH_FRAMES == 0)
+        {
+            rehash(entries);
+        }
+        else
+        {
+            rehash(awake);
+            rehash(always);
+        }
+
+        awake.clear();
+        final int margin = MARGIN + CELL + radius;
+        for (final Viewer camera : cameras)
+        {
+            final int minX = cell(camera.getX() - margin);
+            final int maxX = cell(camera.getX() + camera.getWidth() + margin);
+            final int minY = cell(camera.getY() - margin);
+            final int maxY = cell(camera.getY() + camera.getHeight() + margin);
+
+            for (int cx = minX; cx <= maxX; cx++)
+            {
+                for (int cy = minY; cy <= maxY; cy++)
+                {
+                    final List<Entry> list = cells.get(Long.valueOf(key(cx, cy)));
+                    if (list != null)
+                    {
+                        stamp(list);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of awake entities for current frame.
+     * 
+     * @return The awake entities.
+     */
+    public int getAwake()
+    {
+        return awake.size();
+    }
+
+    /**
+     * Get the number of registered entities.
+     * 
+     * @return The registered entities.
+     */
+    public int getRegistered()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Stamp cell entities as awake for current frame.
+     * 
+     * @param list The cell entities.
+     */
+    private void stamp(List<Entry> list)
+    {
+        final int n = list.size();
+        for (int i = 0; i < n; i++)
+        {
+            final Entry entry = list.get(i);
+            if (entry.stamp != frame)
+            {
+                entry.stamp = frame;
+                append(awake, entry, SLOT_AWAKE);
+            }
+        }
+    }
+
+    /**
+     * Update cell of moved entries.
+     * 
+     * @param list The entries to check.
+     */
+    private void rehash(List<Entry> list)
+    {
+        final int n = list.size();
+        for (int i = 0; i < n; i++)
+        {
+            final Entry entry = list.get(i);
+            if (entry.hashed && !entry.fixed)
+            {
+                final int cx = cell(entry.transformable.getX());
+                final int cy = cell(entry.transformable.getY());
+                if (cx != entry.cx || cy != entry.cy)
+                {
+                    swapRemove(cells.get(Long.valueOf(key(entry.cx, entry.cy))), entry, SLOT_CELL);
+                    entry.cx = cx;
+                    entry.cy = cy;
+                    append(cells.computeIfAbsent(Long.valueOf(key(cx, cy)), k -> new ArrayList<>()), entry, SLOT_CELL);
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert entry in its cell.
+     * 
+     * @param entry The entry to insert.
+     */
+    private void insert(Entry entry)
+    {
+        entry.cx = cell(entry.transformable.getX());
+        entry.cy = cell(entry.transformable.getY());
+        entry.hashed = true;
+        append(cells.computeIfAbsent(Long.valueOf(key(entry.cx, entry.cy)), k -> new ArrayList<>()), entry, SLOT_CELL);
+        append(entries, entry, SLOT_ENTRIES);
+        if (entry.alwaysUpdate)
+        {
+            append(always, entry, SLOT_ALWAYS);
+        }
+        radius = Math.max(radius, Math.max(entry.transformable.getWidth(), entry.transformable.getHeight() * 2));
+    }
+
+    /**
+     * Remove entry from its cell.
+     * 
+     * @param entry The entry to remove.
+     */
+    private void erase(Entry entry)
+    {
+        swapRemove(cells.get(Long.valueOf(key(entry.cx, entry.cy))), entry, SLOT_CELL);
+        swapRemove(entries, entry, SLOT_ENTRIES);
+        swapRemove(awake, entry, SLOT_AWAKE);
+        if (entry.alwaysUpdate)
+        {
+            swapRemove(always, entry, SLOT_ALWAYS);
+        }
+        entry.hashed = false;
+    }
+
+    /**
+     * Entity activation entry.
+     */
+    public final class Entry
+    {
+        private final Transformable transformable;
+        private final boolean alwaysUpdate;
+        private final int[] index = new int[SLOTS];
+        private volatile boolean added;
+        private boolean fixed;
+        private boolean hashed;
+        private int stamp;
+        private int cx;
+        private int cy;
+
+        /**
+         * Create entry.
+         * 
+         * @param transformable The entity transformable.
+         * @param alwaysUpdate The always update flag.
+         */
+        Entry(Transformable transformable, boolean alwaysUpdate)
+        {
+            super();
+
+            this.transformable = transformable;
+            this.alwaysUpdate = alwaysUpdate;
+        }
+
+        /**
+         * Register entry. Can be called from any thread, entry is awake until next activation update.
+         */
+        public void add()
+        {
+            stamp = frame;
+            added = true;
+            pending.offer(this);
+        }
+
+        /**
+         * Unregister entry. Must be called from update thread.
+         */
+        public void remove()
+        {
+            added = false;
+            if (hashed)
+            {
+                erase(this);
+            }
+        }
+
+        /**
+         * Set fixed flag. Fixed entries are never rehashed.
+         * 
+         * @param fixed <code>true</code> if entity never moves, <code>false</code> else.
+         */
+        public void setFixed(boolean fixed)
+        {
+            this.fixed = fixed;
+        }
+
+        /**
+         * Check if entity is awake for current frame.
+         * 
+         * @return <code>true</code> if awake, <code>false</code> if sleeping.
+         */
+        public boolean isAwake()
+        {
+            return stamp == frame;
+        }
+    }
+}
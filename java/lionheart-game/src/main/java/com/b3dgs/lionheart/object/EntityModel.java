@@ -73,11 +73,14 @@ import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.EntityConfig;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.GameType;
+import com.b3dgs.lionheart.Profiler;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.object.feature.BossDragonflyHead;
 import com.b3dgs.lionheart.object.feature.BulletBounceOnGround;
 import com.b3dgs.lionheart.object.feature.Floater;
 import com.b3dgs.lionheart.object.feature.Guard;
 import com.b3dgs.lionheart.object.feature.Patrol;
+import com.b3dgs.lionheart.object.feature.Takeable;
 import com.b3dgs.lionheart.object.feature.Trackable;
 import com.b3dgs.lionheart.object.state.StateFall;
 import com.b3dgs.lionheart.object.state.StateHurt;
@@ -99,6 +102,7 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
                                RoutineUpdate, Recyclable, Syncable, Snapshotable
 {
     private static final String NODE_ALWAYS_UPDATE = "alwaysUpdate";
+    private static final String NODE_STATIC = "static";
     private static final int PREFIX = State.class.getSimpleName().length();
 
     private static final double DEFAULT_MOVEMENT_VELOCITY = 0.12;
@@ -117,6 +121,7 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
         return state.getSimpleName().substring(PREFIX).toLowerCase(Locale.ENGLISH);
     }
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, EntityModel.class);
     private final MapTile map = services.get(MapTile.class);
     private final CheckpointHandler checkpoint = services.getOptional(CheckpointHandler.class).orElse(null);
     // private final ClassLoader loader = services.getOptional(ClassLoader.class).orElse(getClass().getClassLoader());
@@ -138,6 +143,8 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
     private final Origin origin = OriginConfig.imports(setup);
     private final Boolean mirror = new ModelConfig(setup.getRoot()).getMirror().orElse(Boolean.FALSE);
     private final AtomicBoolean collideSword = new AtomicBoolean();
+    private final boolean alwaysUpdate = Boolean.parseBoolean(setup.getTextDefault("false", NODE_ALWAYS_UPDATE));
+    private final EntityActivation.Entry activation;
     private final int frames;
 
     private Camera camera = services.get(Camera.class);
@@ -147,6 +154,8 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
     private NetworkedDevice networkedDevice;
     private DeviceController deviceNetwork;
     private boolean ignoreGlue;
+    private boolean staticDeclared;
+    private boolean staticEntity;
 
     /**
      * Create feature.
@@ -195,6 +204,24 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
         collidable.setCollisionVisibility(Constant.DEBUG_COLLISIONS);
 
         state.addListener(this::syncState);
+
+        activation = services.getOptional(EntityActivation.class)
+                             .map(a -> a.create(transformable, alwaysUpdate))
+                             .orElse(null);
+        if (activation != null)
+        {
+            identifiable.addListener(id -> activation.remove());
+        }
+    }
+
+    /**
+     * Check if entity is awake from stage activation.
+     * 
+     * @return <code>true</code> if awake or no activation, <code>false</code> if sleeping.
+     */
+    private boolean isAwake()
+    {
+        return activation == null || activation.isAwake();
     }
 
     @Override
@@ -239,6 +266,7 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
             // data.putFloat((float) jump.getDirectionVertical());
             // data.put(UtilConversion.fromUnsignedByte(str.length()));
             data.put(buffer);
+            Events.sent(this, getSyncId(), data);
             networkable.send(data);
         }
     }
@@ -253,10 +281,12 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
             final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES + 1);
             data.putInt(getSyncId());
             data.put(UtilConversion.fromUnsignedByte(TYPE_CONTROL));
+            Events.sent(this, getSyncId(), data);
             networkable.send(data);
         }
         else if (networkable.isClient())
         {
+            promote();
             setInput(services.get(DeviceController.class));
             networkedDevice.set(services.get(DeviceController.class));
 
@@ -285,6 +315,7 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
                 final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES + 1);
                 data.putInt(getSyncId());
                 data.put(UtilConversion.fromUnsignedByte(TYPE_STOP));
+                Events.sent(this, getSyncId(), data);
                 networkable.send(data);
             }
         }
@@ -365,13 +396,61 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
         mirrorable.update(extrp);
     }
 
+    /**
+     * Check if static entity has been touched by a force, and promote it to full update if so.
+     * 
+     * @return <code>true</code> if still static, <code>false</code> if promoted.
+     */
+    private boolean isStill()
+    {
+        if (Double.compare(movement.getDirectionHorizontal(), 0.0) != 0
+            || Double.compare(movement.getDirectionVertical(), 0.0) != 0
+            || Double.compare(jump.getDirectionHorizontal(), 0.0) != 0
+            || Double.compare(jump.getDirectionVertical(), 0.0) != 0)
+        {
+            promote();
+        }
+        return staticEntity;
+    }
+
+    /**
+     * Promote static entity to full update (physics, mirror and map bounds) until recycled.
+     */
+    public void promote()
+    {
+        if (staticEntity)
+        {
+            staticEntity = false;
+            if (activation != null)
+            {
+                activation.setFixed(false);
+            }
+        }
+    }
+
+    /**
+     * Check if entity is static (no physics update).
+     * 
+     * @return <code>true</code> if static, <code>false</code> else.
+     */
+    public boolean isStatic()
+    {
+        return staticEntity;
+    }
+
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (deviceNetwork != null)
         {
             deviceNetwork.update(extrp);
         }
+        if (staticEntity && isStill())
+        {
+            probeUpdate.end(profiled);
+            return;
+        }
 
         jump.update(extrp);
         movement.update(extrp);
@@ -385,6 +464,7 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
         {
             identifiable.destroy();
         }
+        probeUpdate.end(profiled);
     }
 
     /**
@@ -395,6 +475,7 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
         final double vy = UtilMath.clamp(Math.abs(body.getDirectionVertical() * 0.65),
                                          Constant.JUMP_MIN,
                                          Constant.JUMP_HIT);
+        promote();
         jump.setDirection(new Force(0, vy));
         jump.setDirectionMaximum(new Force(0, vy));
 
@@ -611,11 +692,15 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
         {
             networkedDevice = getFeature(NetworkedDevice.class);
         }
+
+        final boolean inferred = !hasGravity && hasFeature(Takeable.class) && !hasFeature(NetworkedDevice.class);
+        staticDeclared = Boolean.parseBoolean(setup.getTextDefault(String.valueOf(inferred), NODE_STATIC));
     }
 
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         final ByteBuffer buffer = packet.buffer();
 
         final int type = packet.readByteUnsigned();
@@ -652,15 +737,25 @@ public final class EntityModel extends EntityModelHelper implements XmlLoader, X
     @Override
     public void recycle()
     {
+        staticEntity = staticDeclared;
+        if (activation != null)
+        {
+            activation.setFixed(staticEntity);
+        }
         if (services.getOptional(Trackable.class).isPresent())
         {
+            if (activation != null)
+            {
+                activation.add();
+            }
             if (game.getType().is(GameType.STORY, GameType.TRAINING))
             {
-                final boolean alwaysUpdate = Boolean.parseBoolean(setup.getTextDefault("false", NODE_ALWAYS_UPDATE));
                 checker.setCheckerUpdate(() -> alwaysUpdate
-                                               || camera.isViewable(transformable, 0, transformable.getHeight()));
+                                               || isAwake()
+                                                  && camera.isViewable(transformable, 0, transformable.getHeight()));
             }
-            checker.setCheckerRender(() -> camera.isViewable(transformable, 0, transformable.getHeight() * 2));
+            checker.setCheckerRender(() -> isAwake()
+                                           && camera.isViewable(transformable, 0, transformable.getHeight() * 2));
         }
 
         movement.setVelocity(DEFAULT_MOVEMENT_VELOCITY);
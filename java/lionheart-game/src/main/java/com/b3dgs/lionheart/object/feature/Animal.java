@@ -41,6 +41,7 @@ import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidable;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -60,6 +61,7 @@ public final class Animal extends FeatureModel
     private static final double SPEED_BOAT = 0.6;
     private static final int CAMERA_MAP_LIMIT_MARGIN_WIDTH = 8;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Animal.class);
     private final Camera camera = services.get(Camera.class);
     private final MapTile map = services.get(MapTile.class);
     private final CameraTracker tracker = services.getOptional(CameraTracker.class).orElse(null);
@@ -185,6 +187,7 @@ public final class Animal extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (on)
         {
             double speed;
@@ -257,6 +260,7 @@ public final class Animal extends FeatureModel
         }
 
         transformable.setLocationX(target.getX());
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionengine.io.DeviceControllerVoid;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -53,6 +54,7 @@ public final class Bird extends FeatureModel implements RoutineUpdate, Collidabl
 {
     private static final int IDLE_TIME_MS = 3000;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Bird.class);
     private final Tick tick = new Tick();
 
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
@@ -99,6 +101,7 @@ public final class Bird extends FeatureModel implements RoutineUpdate, Collidabl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (hit && !hurtable.isHurting())
@@ -114,6 +117,7 @@ public final class Bird extends FeatureModel implements RoutineUpdate, Collidabl
             glue.recycle();
             tick.stop();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
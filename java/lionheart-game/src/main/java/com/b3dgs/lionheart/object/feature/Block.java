@@ -17,14 +17,12 @@
 package com.b3dgs.lionheart.object.feature;
 
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
 import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
@@ -36,6 +34,8 @@ import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.Sfx;
+import com.b3dgs.lionheart.SpawnHandle;
+import com.b3dgs.lionheart.SpawnHandles;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.constant.Folder;
@@ -75,7 +75,7 @@ public final class Block extends FeatureModel implements CollidableListener, Rec
     {
         super(services, setup);
 
-        final Spawner spawner = services.get(Spawner.class);
+        final SpawnHandle explode = SpawnHandles.from(services).get(Folder.EFFECT, "ancienttown", "ExplodeBlock.xml");
 
         take = (c, with, by) ->
         {
@@ -86,9 +86,7 @@ public final class Block extends FeatureModel implements CollidableListener, Rec
                 {
                     map.removeTile(tile.getInTileX(), tile.getInTileY());
 
-                    spawner.spawn(Medias.create(Folder.EFFECT, "ancienttown", "ExplodeBlock.xml"),
-                                  tile.getX(),
-                                  tile.getY());
+                    explode.spawn(tile.getX(), tile.getY());
                     Sfx.MONSTER_HURT.play();
                 }
                 identifiable.destroy();
@@ -28,6 +28,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Bomb feature implementation.
@@ -43,6 +44,7 @@ public final class Bomb extends FeatureModel implements RoutineUpdate, Collidabl
     private static final String COLLISION_NAME = "trigger";
     private static final String COLLISION_NAME_DRAGON = "dragonfly";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Bomb.class);
     private final Tick tick = new Tick();
 
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
@@ -69,6 +71,7 @@ public final class Bomb extends FeatureModel implements RoutineUpdate, Collidabl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (tick.elapsedTime(source.getRate(), TRIGGER_DELAY_MS))
@@ -81,6 +84,7 @@ public final class Bomb extends FeatureModel implements RoutineUpdate, Collidabl
             }
             tick.stop();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
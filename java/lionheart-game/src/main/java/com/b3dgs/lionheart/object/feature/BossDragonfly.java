@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.LoadNextStage;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.MusicPlayer;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Folder;
 import com.b3dgs.lionheart.object.EntityModel;
 
@@ -55,6 +56,7 @@ public final class BossDragonfly extends FeatureModel implements RoutineUpdate,
     private static final double SPEED_LEAVE = -2.0;
     private static final int EXPLODE_DELAY_MS = 160;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossDragonfly.class);
     private final Tick tick = new Tick();
 
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
@@ -235,7 +237,9 @@ public final class BossDragonfly extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -40,6 +40,7 @@ import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 
 /**
@@ -60,6 +61,7 @@ public final class BossDragonflyHead extends FeatureModel implements RoutineUpda
     private static final int FIRED_DELAY_MS = 1000;
     private static final double TRACK_SPEED = 1.2;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossDragonflyHead.class);
     private final Transformable[] limbs = new Transformable[6];
     private final Tick tick = new Tick();
     private final Force force = new Force();
@@ -302,9 +304,11 @@ public final class BossDragonflyHead extends FeatureModel implements RoutineUpda
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
         computeForce();
         updateLimbs(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
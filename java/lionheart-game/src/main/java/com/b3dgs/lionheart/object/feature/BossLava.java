@@ -35,14 +35,16 @@ import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.LoadNextStage;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.MusicPlayer;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
+import com.b3dgs.lionheart.SpawnHandle;
+import com.b3dgs.lionheart.SpawnHandles;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.landscape.Landscape;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -488,13 +490,15 @@ public final class BossLava extends FeatureModel implements RoutineUpdate, Recyc
         {4, -31, -21, 5, 14, 32, 54, -35, -29, 3, 17, 33, 54}
     };
     // @formatter:on
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossLava.class);
+    private final SpawnHandle[] limbsHandle = new SpawnHandle[LIMBS.length];
     private final Transformable[] limbs = new Transformable[LIMBS.length];
     private final Animatable[] limbsAnim = new Animatable[LIMBS.length];
     private final Animator animator = new AnimatorModel();
     private final Tick tick = new Tick();
 
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
-    private final Spawner spawner = services.get(Spawner.class);
+    private final SpawnHandles handles = SpawnHandles.from(services);
     private final MusicPlayer music = services.get(MusicPlayer.class);
     private final LoadNextStage stage = services.get(LoadNextStage.class);
     private final Landscape landscape = services.get(Landscape.class);
@@ -549,18 +553,23 @@ public final class BossLava extends FeatureModel implements RoutineUpdate, Recyc
         preparejump = config.getAnimation("preparejump");
         jump = config.getAnimation(Anim.JUMP);
         land = config.getAnimation(Anim.LAND);
+
+        final String parent = setup.getMedia().getParentPath();
+        for (int i = 0; i < LIMBS.length; i++)
+        {
+            limbsHandle[i] = handles.get(Medias.create(parent, LIMBS[i] + Factory.FILE_DATA_DOT_EXTENSION));
+        }
     }
 
     /**
      * Create limb.
      * 
-     * @param limb The limb name.
+     * @param index The limb index.
      * @return The created limb.
      */
-    private Featurable create(String limb)
+    private Featurable create(int index)
     {
-        return spawner.spawn(Medias.create(setup.getMedia().getParentPath(), limb + Factory.FILE_DATA_DOT_EXTENSION),
-                             transformable);
+        return limbsHandle[index].spawn(transformable);
     }
 
     /**
@@ -586,7 +595,7 @@ public final class BossLava extends FeatureModel implements RoutineUpdate, Recyc
         {
             for (int i = 0; i < LIMBS.length; i++)
             {
-                final Featurable featurable = create(LIMBS[i]);
+                final Featurable featurable = create(i);
                 limbs[i] = featurable.getFeature(Transformable.class);
                 limbsAnim[i] = featurable.getFeature(Animatable.class);
             }
@@ -803,6 +812,7 @@ public final class BossLava extends FeatureModel implements RoutineUpdate, Recyc
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         phase.update(extrp);
 
         if (stats != null)
@@ -822,6 +832,7 @@ public final class BossLava extends FeatureModel implements RoutineUpdate, Recyc
                 stats = null;
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
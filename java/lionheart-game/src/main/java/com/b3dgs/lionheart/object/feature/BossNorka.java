@@ -21,7 +21,6 @@ import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Animator;
 import com.b3dgs.lionengine.AnimatorModel;
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Tick;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.UtilMath;
@@ -29,7 +28,6 @@ import com.b3dgs.lionengine.UtilRandom;
 import com.b3dgs.lionengine.game.AnimationConfig;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.Animatable;
-import com.b3dgs.lionengine.game.feature.Factory;
 import com.b3dgs.lionengine.game.feature.Featurable;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
 import com.b3dgs.lionengine.game.feature.FeatureModel;
@@ -38,7 +36,6 @@ import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
@@ -49,7 +46,10 @@ import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.GameConfig;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.MusicPlayer;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.ScreenShaker;
+import com.b3dgs.lionheart.SpawnHandle;
+import com.b3dgs.lionheart.SpawnHandles;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.Folder;
 import com.b3dgs.lionheart.extro.Extro;
@@ -84,8 +84,8 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
     // @formatter:on
     private static final String[] LIMBS =
     {
-        "NorkaHead", "NorkaBowl", "NorkaBowl", "NorkaBowl", "NorkaLeg", "NorkaBowl", "NorkaBowl", "NorkaBowl",
-        "NorkaLeg"
+        "NorkaHead.xml", "NorkaBowl.xml", "NorkaBowl.xml", "NorkaBowl.xml", "NorkaLeg.xml", "NorkaBowl.xml",
+        "NorkaBowl.xml", "NorkaBowl.xml", "NorkaLeg.xml"
     };
 
     // @formatter:on
@@ -484,8 +484,9 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
     };
     // @formatter:on
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossNorka.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
-    private final Spawner spawner = services.get(Spawner.class);
+    private final SpawnHandles handles = SpawnHandles.from(services);
     private final MusicPlayer music = services.get(MusicPlayer.class);
     private final Sequencer sequencer = services.get(Sequencer.class);
     private final ScreenShaker shaker = services.get(ScreenShaker.class);
@@ -496,6 +497,7 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
     private final Body body;
     private final Launcher launcher;
 
+    private final SpawnHandle[] limbsHandle = new SpawnHandle[LIMBS.length];
     private final Transformable[] limbs = new Transformable[LIMBS.length];
     private final Animatable[] limbsAnim = new Animatable[LIMBS.length];
     private final Animator animator = new AnimatorModel();
@@ -548,7 +550,8 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
 
         for (int i = 0; i < LIMBS.length; i++)
         {
-            final Featurable featurable = create(LIMBS[i]);
+            limbsHandle[i] = handles.get(Folder.BOSS, "norka", LIMBS[i]);
+            final Featurable featurable = create(i);
             limbs[i] = featurable.getFeature(Transformable.class);
             limbsAnim[i] = featurable.getFeature(Animatable.class);
         }
@@ -582,13 +585,12 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
     /**
      * Create limb.
      * 
-     * @param limb The limb name.
+     * @param index The limb index.
      * @return The created limb.
      */
-    private Featurable create(String limb)
+    private Featurable create(int index)
     {
-        return spawner.spawn(Medias.create(Folder.BOSS, "norka", limb + Factory.FILE_DATA_DOT_EXTENSION),
-                             transformable);
+        return limbsHandle[index].spawn(transformable);
     }
 
     /**
@@ -882,6 +884,7 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         phase.update(extrp);
         if (stats != null)
         {
@@ -899,6 +902,7 @@ public final class BossNorka extends FeatureModel implements RoutineUpdate, Recy
                 tick.restart();
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 
@@ -68,6 +69,7 @@ public final class BossNorka1 extends FeatureModel implements RoutineUpdate, Rec
         112, 208, 320
     };
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossNorka1.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.get(Trackable.class);
 
@@ -367,6 +369,7 @@ public final class BossNorka1 extends FeatureModel implements RoutineUpdate, Rec
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (!hurtable.isHurting())
         {
             current.update(extrp);
@@ -377,6 +380,7 @@ public final class BossNorka1 extends FeatureModel implements RoutineUpdate, Rec
             tick.restart();
             tick.set(MOVE_BACK_DELAY_MS);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -36,6 +36,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.ScreenShaker;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
@@ -61,6 +62,7 @@ public final class BossNorka2 extends FeatureModel implements RoutineUpdate, Rec
     private static final double MOVE_Y_SPEED = 4.5;
     private static final int MOVE_DOWN_Y = 80;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossNorka2.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.get(Trackable.class);
     private final ScreenShaker shaker = services.get(ScreenShaker.class);
@@ -325,7 +327,9 @@ public final class BossNorka2 extends FeatureModel implements RoutineUpdate, Rec
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
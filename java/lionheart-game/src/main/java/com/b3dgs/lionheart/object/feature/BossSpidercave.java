@@ -39,6 +39,7 @@ import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -63,6 +64,7 @@ public final class BossSpidercave extends FeatureModel implements RoutineUpdate,
     private static final int HEAD_OPENED_DELAY_MS = 1250;
     private static final int HEAD_ATTACK_OFFSET_Y = 12;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSpidercave.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.getOptional(Trackable.class).orElse(null);
     private final Spawner spawner = services.get(Spawner.class);
@@ -277,6 +279,7 @@ public final class BossSpidercave extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         current.update(extrp);
 
@@ -288,6 +291,7 @@ public final class BossSpidercave extends FeatureModel implements RoutineUpdate,
             body.setGravity(0.0);
             body.setGravityMax(0.0);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionResult;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidable;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
 
@@ -50,6 +51,7 @@ public final class BossSpidercaveBowl extends FeatureModel implements RoutineUpd
 {
     private static final String ANIM_HATCH = "hatch";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSpidercaveBowl.class);
     private final Animatable animatable;
     private final TileCollidable tileCollidable;
     private final Identifiable identifiable;
@@ -98,6 +100,7 @@ public final class BossSpidercaveBowl extends FeatureModel implements RoutineUpd
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (falling)
         {
             launchable.getDirection().setVelocity(0.04);
@@ -107,6 +110,7 @@ public final class BossSpidercaveBowl extends FeatureModel implements RoutineUpd
         {
             identifiable.destroy();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
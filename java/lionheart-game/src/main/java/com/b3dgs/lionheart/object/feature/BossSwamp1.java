@@ -40,6 +40,7 @@ import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -63,6 +64,7 @@ public final class BossSwamp1 extends FeatureModel implements RoutineUpdate, Rec
     private static final double MOVE_X = 1.1;
     private static final int BOWL_MARGIN = 48;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSwamp1.class);
     private final Trackable target = services.get(Trackable.class);
     private final Spawner spawner = services.get(Spawner.class);
 
@@ -258,6 +260,7 @@ public final class BossSwamp1 extends FeatureModel implements RoutineUpdate, Rec
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (hit == 2)
         {
             moveY = 3.0;
@@ -284,6 +287,7 @@ public final class BossSwamp1 extends FeatureModel implements RoutineUpdate, Rec
         rasterable.setAnimOffset(UtilMath.clamp(getFrameOffset(), 0, 2) * 2);
 
         transformable.moveLocation(extrp, moveX, moveY);
+        probeUpdate.end(profiled);
     }
 
     @Override
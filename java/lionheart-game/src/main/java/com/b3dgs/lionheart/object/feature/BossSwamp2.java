@@ -54,6 +54,7 @@ import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.LoadNextStage;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.MusicPlayer;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.ScreenShaker;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
@@ -95,6 +96,8 @@ public final class BossSwamp2 extends FeatureModel implements RoutineUpdate, Rou
     private static final double MOVE_DEAD_Y = -0.6;
     private static final Animation FLY_ANIMATION = new Animation(Animation.DEFAULT_NAME, 1, 2, 0.48, false, true);
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSwamp2.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, BossSwamp2.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.get(Trackable.class);
     private final Spawner spawner = services.get(Spawner.class);
@@ -533,6 +536,7 @@ public final class BossSwamp2 extends FeatureModel implements RoutineUpdate, Rou
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         flyAnim.update(extrp);
 
         if (step == 0)
@@ -581,11 +585,13 @@ public final class BossSwamp2 extends FeatureModel implements RoutineUpdate, Rou
         neck.setFrameOffset(getFrameOffset());
 
         updateFlickerHurt(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         fly.setLocation(camera.getViewpointX(transformable.getX() - 7),
                         camera.getViewpointY(transformable.getY() + 189));
         fly.setFrame(flyAnim.getFrame() + UtilMath.clamp(getFrameOffset(), 0, 2) * flyAnim.getFrames());
@@ -598,6 +604,7 @@ public final class BossSwamp2 extends FeatureModel implements RoutineUpdate, Rou
             shade.render(g);
         }
         fly.render(g);
+        probeRender.end(profiled);
     }
 
     @Override
@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 
@@ -47,6 +48,7 @@ public final class BossSwampBowl extends FeatureModel implements RoutineUpdate,
 {
     private static final int HIT_DELAY_MS = 30;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSwampBowl.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Animatable animatable;
@@ -124,6 +126,7 @@ public final class BossSwampBowl extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         effect = UtilMath.wrapDouble(effect + 0.1 * extrp, 0, Constant.ANGLE_MAX);
 
         tick.update(extrp);
@@ -133,6 +136,7 @@ public final class BossSwampBowl extends FeatureModel implements RoutineUpdate,
             animatable.setFrame(frame);
             tick.restart();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -42,6 +42,7 @@ import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionResult;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidable;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
@@ -60,6 +61,7 @@ public final class BossSwampEgg extends FeatureModel implements RoutineUpdate, T
     private static final String ANIM_HATCH = "hatch";
     private static final double FALL_VELOCITY = 0.12;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSwampEgg.class);
     private final Spawner spawner = services.get(Spawner.class);
 
     private final Animatable animatable;
@@ -138,6 +140,7 @@ public final class BossSwampEgg extends FeatureModel implements RoutineUpdate, T
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (falling)
         {
             if (force.getDirectionVertical() > 0)
@@ -162,6 +165,7 @@ public final class BossSwampEgg extends FeatureModel implements RoutineUpdate, T
 
             identifiable.destroy();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
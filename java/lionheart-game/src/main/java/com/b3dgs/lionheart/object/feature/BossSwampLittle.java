@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionCategory;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionResult;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
 
@@ -49,6 +50,7 @@ public final class BossSwampLittle extends FeatureModel implements RoutineUpdate
 {
     private static final double SPEED_X = 1.2;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSwampLittle.class);
     private final Trackable target = services.get(Trackable.class);
 
     private final Transformable transformable;
@@ -92,6 +94,7 @@ public final class BossSwampLittle extends FeatureModel implements RoutineUpdate
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (init)
         {
             sh = transformable.getX() > target.getX() ? -SPEED_X : SPEED_X;
@@ -102,6 +105,7 @@ public final class BossSwampLittle extends FeatureModel implements RoutineUpdate
             init = false;
         }
         transformable.moveLocationX(extrp, sh);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -36,6 +36,7 @@ import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Boss Swamp 1 bowl feature implementation.
@@ -50,6 +51,7 @@ public final class BossSwampNeck extends FeatureModel implements RoutineUpdate,
     private static final int OFFSET_Y = 87;
     private static final int HIT_DELAY_MS = 30;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossSwampNeck.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Transformable transformable;
@@ -137,6 +139,7 @@ public final class BossSwampNeck extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (collidable.isEnabled())
         {
             tick.update(extrp);
@@ -157,6 +160,7 @@ public final class BossSwampNeck extends FeatureModel implements RoutineUpdate,
         {
             rasterable.setVisibility(false);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
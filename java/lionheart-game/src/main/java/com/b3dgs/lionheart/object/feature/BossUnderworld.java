@@ -39,6 +39,7 @@ import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.Music;
 import com.b3dgs.lionheart.MusicPlayer;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.ScreenShaker;
 import com.b3dgs.lionheart.Settings;
@@ -71,6 +72,7 @@ public final class BossUnderworld extends FeatureModel implements RoutineUpdate,
     private static final double EFFECT_SPEED = 4.0;
     private static final double EFFECT_AMPLITUDE = 4.0;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossUnderworld.class);
     private final Trackable target = services.get(Trackable.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final MusicPlayer music = services.get(MusicPlayer.class);
@@ -247,9 +249,11 @@ public final class BossUnderworld extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
 
         updateMirror();
+        probeUpdate.end(profiled);
     }
 
     @Override
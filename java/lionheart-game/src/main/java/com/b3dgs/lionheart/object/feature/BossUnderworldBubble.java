@@ -34,6 +34,7 @@ import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.ScreenShaker;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
@@ -52,6 +53,7 @@ public final class BossUnderworldBubble extends FeatureModel implements RoutineU
     private static final double ROTATE_MARGIN_MAX = 50;
     private static final double BULLET_SPEED = 2.5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BossUnderworldBubble.class);
     private final Trackable target = services.get(Trackable.class);
     private final ScreenShaker shaker = services.get(ScreenShaker.class);
 
@@ -173,7 +175,9 @@ public final class BossUnderworldBubble extends FeatureModel implements RoutineU
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -52,6 +52,7 @@ import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.EntityConfig;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
@@ -97,6 +98,8 @@ public final class BulletBounceOnGround extends FeatureModel implements XmlLoade
         return sideX;
     }
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BulletBounceOnGround.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, BulletBounceOnGround.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -305,18 +308,22 @@ public final class BulletBounceOnGround extends FeatureModel implements XmlLoade
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         this.extrp = extrp;
         tick.update(extrp);
         rasterable.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         if (rasterable.getRasterIndex(0) > 0)
         {
             rasterable.render(g);
         }
+        probeRender.end(profiled);
     }
 
     @Override
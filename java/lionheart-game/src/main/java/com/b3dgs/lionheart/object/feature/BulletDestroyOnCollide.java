@@ -28,6 +28,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.CollisionName;
 
 /**
@@ -36,6 +37,7 @@ import com.b3dgs.lionheart.constant.CollisionName;
 @FeatureInterface
 public final class BulletDestroyOnCollide extends FeatureModel implements RoutineUpdate, CollidableListener
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, BulletDestroyOnCollide.class);
     private final Viewer viewer = services.get(Viewer.class);
 
     private final Transformable transformable;
@@ -64,10 +66,12 @@ public final class BulletDestroyOnCollide extends FeatureModel implements Routin
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (!viewer.isViewable(transformable, -16, 0))
         {
             identifiable.destroy();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -34,6 +34,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.state.StateDecay;
 
@@ -50,6 +51,7 @@ public final class CanonAirship extends FeatureModel implements RoutineUpdate, R
     private static final long FIRE_DELAY_MS = 5000L;
     private static final double FIRE_SPEED = 1.5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, CanonAirship.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.get(Trackable.class);
 
@@ -152,7 +154,9 @@ public final class CanonAirship extends FeatureModel implements RoutineUpdate, R
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
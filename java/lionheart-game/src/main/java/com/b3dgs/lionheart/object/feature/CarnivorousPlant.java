@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.object.state.StateBitten;
@@ -50,6 +51,7 @@ public final class CarnivorousPlant extends FeatureModel implements RoutineUpdat
 {
     private static final int BITE_DELAY_MS = 1500;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, CarnivorousPlant.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Animatable animatable;
@@ -78,6 +80,7 @@ public final class CarnivorousPlant extends FeatureModel implements RoutineUpdat
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         if (animatable.getAnimState() == AnimState.FINISHED && tick.elapsedTime(source.getRate(), BITE_DELAY_MS))
         {
@@ -87,6 +90,7 @@ public final class CarnivorousPlant extends FeatureModel implements RoutineUpdat
             }
             tick.restart();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
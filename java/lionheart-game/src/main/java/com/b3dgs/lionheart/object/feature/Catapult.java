@@ -39,6 +39,7 @@ import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.launchable.Launchable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.XmlLoader;
 import com.b3dgs.lionheart.object.XmlSaver;
@@ -53,6 +54,7 @@ import com.b3dgs.lionheart.object.XmlSaver;
 public final class Catapult extends FeatureModel
                             implements XmlLoader, XmlSaver, RoutineUpdate, CollidableListener, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Catapult.class);
     private final Animatable animatable;
     private final Launcher launcher;
 
@@ -135,7 +137,9 @@ public final class Catapult extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.networkable.Networkable;
 import com.b3dgs.lionengine.game.feature.networkable.Syncable;
 import com.b3dgs.lionengine.network.Packet;
 import com.b3dgs.lionheart.ChatHandler;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.object.EntityModel;
 
 /**
@@ -72,6 +73,7 @@ public class Chat extends FeatureModel implements Syncable
         buffer.putInt(getSyncId());
         buffer.put(UtilConversion.fromUnsignedByte(length));
         buffer.put(nameBuffer);
+        Events.sent(this, getSyncId(), buffer);
         networkable.send(buffer);
     }
 
@@ -100,6 +102,7 @@ public class Chat extends FeatureModel implements Syncable
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         chat.add(clients.get(packet.getClientSourceId()) + Constant.DOUBLE_DOT + packet.readString());
     }
 }
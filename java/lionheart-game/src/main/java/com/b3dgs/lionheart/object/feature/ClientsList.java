@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.networkable.Networkable;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.Text;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Clients list display.
@@ -41,6 +42,7 @@ public class ClientsList extends FeatureModel implements RoutineRender
 {
     private static final Text TEXT = Graphics.createText(9);
 
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, ClientsList.class);
     private final Camera camera = services.get(Camera.class);
     private final Map<Integer, String> clients = services.getOptional(ConcurrentHashMap.class).orElse(null);
 
@@ -67,6 +69,7 @@ public class ClientsList extends FeatureModel implements RoutineRender
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         if (networkable.isServer())
         {
             final String name = clients.get(networkable.getClientId());
@@ -81,5 +84,6 @@ public class ClientsList extends FeatureModel implements RoutineRender
                           name);
             }
         }
+        probeRender.end(profiled);
     }
 }
@@ -43,6 +43,7 @@ import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.Sfx;
@@ -66,6 +67,7 @@ public final class Dragon extends FeatureModel implements RoutineUpdate, Recycla
     private static final long TONGUE_RETRACT_DELAY_MS = 40L;
     private static final int THROW_DISTANCE = 160;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Dragon.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final MapTile map = services.get(MapTile.class);
     private final Viewer viewer = services.get(Viewer.class);
@@ -277,6 +279,7 @@ public final class Dragon extends FeatureModel implements RoutineUpdate, Recycla
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         current.update(extrp);
 
@@ -284,6 +287,7 @@ public final class Dragon extends FeatureModel implements RoutineUpdate, Recycla
         {
             recycle();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.XmlLoader;
@@ -57,6 +58,7 @@ public final class Dragon1 extends FeatureModel
     private static final int FIRED_DELAY_MS = 800;
     private static final int HEIGHT_LIMIT = 400;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Dragon1.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Animatable animatable;
@@ -186,8 +188,10 @@ public final class Dragon1 extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         transformable.moveLocationX(extrp, SPEED_X);
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -30,6 +30,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 
 /**
@@ -44,6 +45,7 @@ public final class Dragon3 extends FeatureModel implements RoutineUpdate, Recycl
 {
     private static final int FIRED_DELAY_MS = 1300;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Dragon3.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Animatable animatable;
@@ -91,7 +93,9 @@ public final class Dragon3 extends FeatureModel implements RoutineUpdate, Recycl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -22,6 +22,7 @@ import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Dragon4 feature implementation.
@@ -32,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 @FeatureInterface
 public final class Dragon4 extends FeatureModel implements RoutineUpdate
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Dragon4.class);
     private final Shooter shooter;
     private final Patrol patrol;
 
@@ -55,6 +57,8 @@ public final class Dragon4 extends FeatureModel implements RoutineUpdate
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         shooter.setEnabled(Double.compare(patrol.getSh(), 0.25) == 0 && patrol.getSv() < 0.1);
+        probeUpdate.end(profiled);
     }
 }
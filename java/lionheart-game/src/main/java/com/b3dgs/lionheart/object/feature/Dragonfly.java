@@ -38,6 +38,7 @@ import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidable;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.object.state.StateIdleDragon;
 import com.b3dgs.lionheart.object.state.attack.StateAttackDragon;
@@ -56,6 +57,7 @@ public final class Dragonfly extends FeatureModel implements RoutineUpdate, Coll
     private static final int OFFSET_Y = -50;
     private static final double SPEED = 0.5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Dragonfly.class);
     private final Trackable target = services.get(Trackable.class);
     private final Stats playerStats = target.getFeature(Stats.class);
     private final Rasterable playerSprite = target.getFeature(Rasterable.class);
@@ -219,6 +221,7 @@ public final class Dragonfly extends FeatureModel implements RoutineUpdate, Coll
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updateRespawn();
 
         if (on)
@@ -265,6 +268,7 @@ public final class Dragonfly extends FeatureModel implements RoutineUpdate, Coll
         transformable.setLocationX(target.getX() + OFFSET_X);
 
         updateFireOrientation();
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionheart.CheatsProvider;
 import com.b3dgs.lionheart.MapTileWater;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.object.state.StateDrowned;
 
 /**
@@ -43,6 +44,7 @@ public final class Drownable extends FeatureModel implements RoutineUpdate, Recy
 {
     private static final int DROWN_OFFSET_Y = 4;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Drownable.class);
     private final MapTileWater water = services.get(MapTileWater.class);
     private final CheatsProvider cheats = services.get(CheatsProvider.class);
 
@@ -85,7 +87,9 @@ public final class Drownable extends FeatureModel implements RoutineUpdate, Recy
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         check.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
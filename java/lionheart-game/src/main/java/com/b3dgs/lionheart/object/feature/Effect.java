@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.object.state.StateIdle;
 
@@ -49,6 +50,7 @@ public final class Effect extends FeatureModel implements RoutineUpdate, Recycla
     private static final String ATT_COUNT = "count";
     private static final int DELAY_MS = 150;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Effect.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -97,6 +99,7 @@ public final class Effect extends FeatureModel implements RoutineUpdate, Recycla
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         if (current < count && tick.elapsedTime(source.getRate(), DELAY_MS))
         {
@@ -107,6 +110,7 @@ public final class Effect extends FeatureModel implements RoutineUpdate, Recycla
             current++;
             tick.restart();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
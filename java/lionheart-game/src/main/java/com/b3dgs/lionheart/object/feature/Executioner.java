@@ -39,6 +39,7 @@ import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.Folder;
@@ -63,6 +64,7 @@ public final class Executioner extends FeatureModel implements RoutineUpdate, Re
     private static final int ATTACK1_DISTANCE_MIN = 80;
     private static final int DEFENSE_DISTANCE = 64;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Executioner.class);
     private final Trackable target = services.get(Trackable.class);
     private final Spawner spawner = services.get(Spawner.class);
 
@@ -144,6 +146,7 @@ public final class Executioner extends FeatureModel implements RoutineUpdate, Re
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (first)
         {
             final Transformable t = wall.getFeature(Transformable.class);
@@ -180,6 +183,7 @@ public final class Executioner extends FeatureModel implements RoutineUpdate, Re
                 hurtable.kill(true);
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
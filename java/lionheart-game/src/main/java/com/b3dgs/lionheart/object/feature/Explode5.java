@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Explode5 feature implementation.
@@ -51,6 +52,7 @@ public final class Explode5 extends FeatureModel implements RoutineUpdate, Recyc
     //  @formatter:on
     private static final String EXPLODE_FILE = "Explode.xml";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Explode5.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Spawner spawner = services.get(Spawner.class);
 
@@ -81,6 +83,7 @@ public final class Explode5 extends FeatureModel implements RoutineUpdate, Recyc
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         if (phase == 0)
         {
@@ -100,6 +103,7 @@ public final class Explode5 extends FeatureModel implements RoutineUpdate, Recyc
         {
             identifiable.destroy();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -25,6 +25,7 @@ import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Effect liana on destroy feature implementation.
@@ -37,6 +38,7 @@ public final class ExplodeLiana extends FeatureModel implements RoutineUpdate, R
 {
     private static final double INIT_Y = 1.5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, ExplodeLiana.class);
     private final Transformable transformable;
 
     private int side;
@@ -60,8 +62,10 @@ public final class ExplodeLiana extends FeatureModel implements RoutineUpdate, R
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         transformable.moveLocation(extrp, speed * side, -Math.abs(speed) * 4.0 + INIT_Y);
         speed += 0.09 * extrp;
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -27,6 +27,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionheart.MapTileWater;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Fish feature implementation.
@@ -37,6 +38,7 @@ import com.b3dgs.lionheart.MapTileWater;
 @FeatureInterface
 public final class Fish extends FeatureModel implements RoutineUpdate, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Fish.class);
     private final MapTileWater water = services.get(MapTileWater.class);
 
     private final Transformable transformable;
@@ -72,6 +74,7 @@ public final class Fish extends FeatureModel implements RoutineUpdate, Recyclabl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (first)
         {
             startY = transformable.getY();
@@ -88,6 +91,7 @@ public final class Fish extends FeatureModel implements RoutineUpdate, Recyclabl
             rasterable.setVisibility(false);
             collidable.setEnabled(false);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
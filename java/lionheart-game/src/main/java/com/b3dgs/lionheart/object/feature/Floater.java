@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.geom.Geom;
 import com.b3dgs.lionheart.MapTileWater;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.feature.Glue.GlueListener;
@@ -53,6 +54,7 @@ public final class Floater extends FeatureModel implements RoutineUpdate, Collid
     private static final String ATT_WATER_LEVEL = "waterLevel";
     private static final String ATT_HIT = "hit";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Floater.class);
     private final MapTileWater water = services.get(MapTileWater.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -125,6 +127,7 @@ public final class Floater extends FeatureModel implements RoutineUpdate, Collid
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (origin == null)
         {
             origin = Geom.createLocalizable(transformable.getX(), transformable.getY());
@@ -163,6 +166,7 @@ public final class Floater extends FeatureModel implements RoutineUpdate, Collid
             body.resetGravity();
             recycle();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -40,6 +40,7 @@ import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.Sfx;
@@ -60,6 +61,7 @@ public final class Flower extends FeatureModel implements RoutineUpdate, Collida
     private static final int FIRE_DELAY_MS = 3300;
     private static final double FIRE_SPEED = 0.6;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Flower.class);
     private final Tick tick = new Tick();
     private final Force direction = new Force();
     private final int halfFrames;
@@ -194,7 +196,9 @@ public final class Flower extends FeatureModel implements RoutineUpdate, Collida
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
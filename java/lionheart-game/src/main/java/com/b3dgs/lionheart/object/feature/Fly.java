@@ -30,6 +30,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.CollisionName;
 
 /**
@@ -43,6 +44,7 @@ public final class Fly extends FeatureModel implements RoutineUpdate, Collidable
 {
     private static final double SPEED = 1.3;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Fly.class);
     private final Trackable target = services.getOptional(Trackable.class).orElse(null);
 
     private final Transformable transformable;
@@ -72,6 +74,7 @@ public final class Fly extends FeatureModel implements RoutineUpdate, Collidable
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (target != null)
         {
             final double dh = target.getX() - transformable.getOldX();
@@ -99,6 +102,7 @@ public final class Fly extends FeatureModel implements RoutineUpdate, Collidable
         }
         direction.update(extrp);
         transformable.moveLocation(extrp, direction);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 
@@ -48,6 +49,7 @@ public final class Frog extends FeatureModel implements RoutineUpdate, Recyclabl
     private static final int AWAIT_DELAY_MS = 1000;
     private static final double SPEED = 3.5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Frog.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -99,6 +101,7 @@ public final class Frog extends FeatureModel implements RoutineUpdate, Recyclabl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (phase == 0 && transformable.getX() > viewer.getX())
@@ -135,6 +138,7 @@ public final class Frog extends FeatureModel implements RoutineUpdate, Recyclabl
                 identifiable.destroy();
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -22,7 +22,6 @@ import java.util.List;
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.AttributesReader;
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Tick;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.Viewer;
@@ -37,12 +36,14 @@ import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.rasterable.RasterableModel;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.Sfx;
+import com.b3dgs.lionheart.SpawnHandle;
+import com.b3dgs.lionheart.SpawnHandles;
 import com.b3dgs.lionheart.WorldType;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.Folder;
@@ -65,8 +66,10 @@ public final class Geyzer extends FeatureModel
     private static final double SPEED = 3.0;
     private static final String BOTTOM_FILE = "GeyzerBottom.xml";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Geyzer.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
-    private final Spawner spawner = services.get(Spawner.class);
+    private final SpawnHandle bottomHandle = SpawnHandles.from(services)
+                                                         .get(Folder.LIMB, WorldType.LAVA.getFolder(), BOTTOM_FILE);
     private final Viewer viewer = services.get(Viewer.class);
 
     private final Transformable transformable;
@@ -217,14 +220,11 @@ public final class Geyzer extends FeatureModel
         {
             transformable.moveLocationY(1.0, 8);
 
+            final Animation idle = AnimationConfig.imports(new Configurer(bottomHandle.getMedia()))
+                                                  .getAnimation(Anim.IDLE);
             for (int i = 0; i <= Math.ceil(config.getHeight() / (double) transformable.getHeight()); i++)
             {
-                final Featurable featurable = spawner.spawn(Medias.create(Folder.LIMB,
-                                                                          WorldType.LAVA.getFolder(),
-                                                                          BOTTOM_FILE),
-                                                            transformable);
-                final Animation idle = AnimationConfig.imports(new Configurer(featurable.getMedia()))
-                                                      .getAnimation(Anim.IDLE);
+                final Featurable featurable = bottomHandle.spawn(transformable);
                 featurable.ifIs(Animatable.class, a -> a.play(idle));
                 bottom.add(featurable.getFeature(Transformable.class));
                 y = transformable.getY();
@@ -242,6 +242,7 @@ public final class Geyzer extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
 
         for (int i = 1; i < bottom.size(); i++)
@@ -249,6 +250,7 @@ public final class Geyzer extends FeatureModel
             bottom.get(i).teleportY(y + getCurrent() - transformable.getHeight() * i);
             bottom.get(i).getFeature(RasterableModel.class).setVisibility(bottom.get(i).getY() > 24);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -28,6 +28,7 @@ import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.rasterable.SetupSurfaceRastered;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -41,6 +42,7 @@ import com.b3dgs.lionheart.object.EntityModel;
 @FeatureInterface
 public final class GeyzerPlatform extends FeatureModel implements RoutineUpdate, CollidableListener
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, GeyzerPlatform.class);
     private final Viewer viewer = services.get(Viewer.class);
 
     private final Transformable transformable;
@@ -78,6 +80,7 @@ public final class GeyzerPlatform extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (!played && !collide && transformable.getY() > transformable.getOldY())
         {
             if (viewer.isViewable(transformable, 0, 0))
@@ -87,6 +90,7 @@ public final class GeyzerPlatform extends FeatureModel implements RoutineUpdate,
             played = true;
         }
         collide = false;
+        probeUpdate.end(profiled);
     }
 
     @Override
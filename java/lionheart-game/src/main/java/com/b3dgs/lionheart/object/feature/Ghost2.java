@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.rasterable.SetupSurfaceRastered;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Ghost2 feature implementation.
@@ -42,6 +43,7 @@ public final class Ghost2 extends FeatureModel implements RoutineUpdate, Recycla
     private static final int TRACK_DELAY_MS = 1500;
     private static final double SPEED = 1.45;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Ghost2.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.get(Trackable.class);
 
@@ -109,6 +111,7 @@ public final class Ghost2 extends FeatureModel implements RoutineUpdate, Recycla
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
 
         if (first)
@@ -141,6 +144,7 @@ public final class Ghost2 extends FeatureModel implements RoutineUpdate, Recycla
             idle = UtilMath.wrapDouble(idle + 0.15 * extrp, 0, 360);
             transformable.teleportY(startY + Math.sin(idle) * 2.0);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
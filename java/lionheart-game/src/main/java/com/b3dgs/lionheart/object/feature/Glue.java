@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -47,6 +48,7 @@ public final class Glue extends FeatureModel implements RoutineUpdate, Collidabl
     private static final String NODE = "glue";
     private static final String ATT_FORCE = "force";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Glue.class);
     private final Transformable transformable;
     private final Collidable collidable;
 
@@ -151,6 +153,7 @@ public final class Glue extends FeatureModel implements RoutineUpdate, Collidabl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (!first)
         {
             if (transformX != null)
@@ -180,6 +183,7 @@ public final class Glue extends FeatureModel implements RoutineUpdate, Collidabl
 
         collide = false;
         other = null;
+        probeUpdate.end(profiled);
     }
 
     @Override
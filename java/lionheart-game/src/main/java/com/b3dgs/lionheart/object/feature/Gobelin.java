@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.Sfx;
@@ -50,6 +51,7 @@ public final class Gobelin extends FeatureModel implements RoutineUpdate, Recycl
 {
     private static final int MOVE_UP_DELAY_MS = 800;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Gobelin.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final MapTile map = services.get(MapTile.class);
 
@@ -95,6 +97,7 @@ public final class Gobelin extends FeatureModel implements RoutineUpdate, Recycl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (phase == 0 && animatable.is(AnimState.FINISHED))
@@ -117,6 +120,7 @@ public final class Gobelin extends FeatureModel implements RoutineUpdate, Recycl
             phase = 0;
             tick.restart();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -30,6 +30,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 
 /**
@@ -43,6 +44,7 @@ public final class GobelinAirship extends FeatureModel implements RoutineUpdate,
 {
     private static final int ATTACK_DELAY_MS = 1300;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, GobelinAirship.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Animatable animatable;
@@ -78,6 +80,7 @@ public final class GobelinAirship extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (phase == 0 && tick.elapsedTime(source.getRate(), ATTACK_DELAY_MS))
@@ -92,6 +95,7 @@ public final class GobelinAirship extends FeatureModel implements RoutineUpdate,
             tick.restart();
             phase = 0;
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
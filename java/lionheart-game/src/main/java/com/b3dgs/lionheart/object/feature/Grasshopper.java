@@ -34,6 +34,7 @@ import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.io.DeviceControllerVoid;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.constant.CollisionName;
@@ -51,6 +52,7 @@ import com.b3dgs.lionheart.object.state.StateJump;
 @FeatureInterface
 public final class Grasshopper extends FeatureModel implements RoutineUpdate, CollidableListener
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Grasshopper.class);
     private final MapTile map = services.get(MapTile.class);
     private final Camera camera = services.get(Camera.class);
     private final Trackable target = services.getOptional(Trackable.class).orElse(null);
@@ -109,6 +111,7 @@ public final class Grasshopper extends FeatureModel implements RoutineUpdate, Co
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (target != null && camera.isViewable(transformable, 64, 16))
         {
             if (target.getX() - transformable.getX() > 100)
@@ -135,6 +138,7 @@ public final class Grasshopper extends FeatureModel implements RoutineUpdate, Co
                 launcher.fire();
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
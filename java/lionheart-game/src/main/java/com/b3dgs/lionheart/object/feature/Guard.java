@@ -27,6 +27,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.rasterable.SetupSurfaceRastered;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.object.EntityModel;
 
 /**
@@ -45,6 +46,7 @@ public final class Guard extends FeatureModel implements RoutineUpdate, Recyclab
     /** Min move. */
     private static final int MOVE_MIN = 32;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Guard.class);
     private final Trackable target = services.get(Trackable.class);
 
     private final Mirrorable mirrorable;
@@ -108,6 +110,7 @@ public final class Guard extends FeatureModel implements RoutineUpdate, Recyclab
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (!started)
         {
             started = true;
@@ -121,6 +124,7 @@ public final class Guard extends FeatureModel implements RoutineUpdate, Recyclab
         {
             transformable.teleportX(startX - MOVE_MIN);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 
 /**
@@ -42,6 +43,7 @@ public final class Head extends FeatureModel implements RoutineUpdate, Recyclabl
 {
     private static final int FIRE_DELAY_MS = 3000;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Head.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Animatable animatable;
@@ -77,6 +79,7 @@ public final class Head extends FeatureModel implements RoutineUpdate, Recyclabl
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (phase == 0 && tick.elapsedTime(source.getRate(), FIRE_DELAY_MS))
@@ -90,6 +93,7 @@ public final class Head extends FeatureModel implements RoutineUpdate, Recyclabl
             tick.restart();
             phase = 0;
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
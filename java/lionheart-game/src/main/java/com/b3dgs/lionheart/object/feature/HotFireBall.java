@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.launchable.Launchable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.XmlLoader;
@@ -50,6 +51,7 @@ public final class HotFireBall extends FeatureModel
 {
     private static final int BALL_DELAY_MS = 130;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, HotFireBall.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -126,6 +128,7 @@ public final class HotFireBall extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         series.update(extrp);
 
@@ -146,6 +149,7 @@ public final class HotFireBall extends FeatureModel
             launcher.fire();
             series.restart();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
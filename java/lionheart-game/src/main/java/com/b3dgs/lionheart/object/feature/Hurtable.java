@@ -66,9 +66,11 @@ import com.b3dgs.lionengine.network.Packet;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.LoadNextStage;
 import com.b3dgs.lionheart.MapTileWater;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.SetupEntity;
 import com.b3dgs.lionheart.object.state.StateDie;
@@ -98,6 +100,8 @@ public final class Hurtable extends FeatureModel implements RoutineUpdate, Routi
     private static final int HURT_FLICKER_SWITCH_DELAY_MS = 130;
     private static final int SPIKE_DAMAGES = 1;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Hurtable.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, Hurtable.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Spawner spawner = services.get(Spawner.class);
     private final Viewer viewer = services.get(Viewer.class);
@@ -623,6 +627,7 @@ public final class Hurtable extends FeatureModel implements RoutineUpdate, Routi
             final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1);
             buffer.putInt(getSyncId());
             buffer.put(UtilConversion.fromUnsignedByte(UtilConversion.boolToInt(force)));
+            Events.sent(this, getSyncId(), buffer);
             networkable.send(buffer);
         }
     }
@@ -630,6 +635,7 @@ public final class Hurtable extends FeatureModel implements RoutineUpdate, Routi
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         recover.update(extrp);
         flicker.update(extrp);
 
@@ -641,22 +647,26 @@ public final class Hurtable extends FeatureModel implements RoutineUpdate, Routi
         {
             kill(true);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         if (shading)
         {
             shade.setMirror(mirrorable.getMirror());
             shade.setLocation(viewer, transformable);
             shade.render(g);
         }
+        probeRender.end(profiled);
     }
 
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         kill(packet.readBool());
     }
 
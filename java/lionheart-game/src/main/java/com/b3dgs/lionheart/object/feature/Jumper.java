@@ -36,6 +36,7 @@ import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroupModel;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionengine.io.DeviceController;
 import com.b3dgs.lionengine.io.DeviceControllerVoid;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -56,6 +57,7 @@ public final class Jumper extends FeatureModel implements XmlLoader, XmlSaver, E
 {
     private static final String ATT_OFFSET = "offset";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Jumper.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Transformable transformable;
@@ -192,6 +194,7 @@ public final class Jumper extends FeatureModel implements XmlLoader, XmlSaver, E
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         jumpStop.update(extrp);
 
         if (!jump
@@ -208,5 +211,6 @@ public final class Jumper extends FeatureModel implements XmlLoader, XmlSaver, E
         {
             jumpPress = false;
         }
+        probeUpdate.end(profiled);
     }
 }
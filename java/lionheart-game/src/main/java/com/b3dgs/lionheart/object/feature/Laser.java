@@ -17,7 +17,6 @@
 package com.b3dgs.lionheart.object.feature;
 
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Tick;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
@@ -27,9 +26,11 @@ import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
+import com.b3dgs.lionheart.SpawnHandle;
+import com.b3dgs.lionheart.SpawnHandles;
 import com.b3dgs.lionheart.WorldType;
 import com.b3dgs.lionheart.constant.Folder;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -49,8 +50,10 @@ public final class Laser extends FeatureModel implements RoutineUpdate, Recyclab
     private static final int SMOKE_OFFSET_Y = -4;
     private static final String SMOKE_FILE = "Smoke.xml";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Laser.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
-    private final Spawner spawner = services.get(Spawner.class);
+    private final SpawnHandle smoke = SpawnHandles.from(services)
+                                                  .get(Folder.EFFECT, WorldType.AIRSHIP.getFolder(), SMOKE_FILE);
 
     private final Transformable transformable;
     private final Identifiable identifiable;
@@ -107,12 +110,10 @@ public final class Laser extends FeatureModel implements RoutineUpdate, Recyclab
         }
         else if (effect.elapsedTime(source.getRate(), EFFECT_DELAY_MS))
         {
-            spawner.spawn(Medias.create(Folder.EFFECT, WorldType.AIRSHIP.getFolder(), SMOKE_FILE),
-                          transformable.getX(),
-                          transformable.getY() + SMOKE_OFFSET_Y)
-                   .getFeature(EntityModel.class)
-                   .getMovement()
-                   .setDirection(VX, VY);
+            smoke.spawn(transformable.getX(), transformable.getY() + SMOKE_OFFSET_Y)
+                 .getFeature(EntityModel.class)
+                 .getMovement()
+                 .setDirection(VX, VY);
             effect.restart();
         }
     }
@@ -120,7 +121,9 @@ public final class Laser extends FeatureModel implements RoutineUpdate, Recyclab
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
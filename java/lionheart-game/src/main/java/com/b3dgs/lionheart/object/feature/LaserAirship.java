@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.WorldType;
 import com.b3dgs.lionheart.constant.Folder;
@@ -58,6 +59,7 @@ public final class LaserAirship extends FeatureModel
     private static final int DOT_HIDE = -100;
     private static final String LASER_DOT_FILE = "LaserDot.xml";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, LaserAirship.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Spawner spawner = services.get(Spawner.class);
 
@@ -218,7 +220,9 @@ public final class LaserAirship extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         current.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -20,14 +20,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
 import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
@@ -40,6 +38,8 @@ import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollision;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.Sfx;
+import com.b3dgs.lionheart.SpawnHandle;
+import com.b3dgs.lionheart.SpawnHandles;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
 import com.b3dgs.lionheart.constant.Folder;
@@ -147,7 +147,7 @@ public final class Liana extends FeatureModel implements CollidableListener, Rec
 
         collidable.setCollisionVisibility(Constant.DEBUG_COLLISIONS);
 
-        final Spawner spawner = services.get(Spawner.class);
+        final SpawnHandle explode = SpawnHandles.from(services).get(Folder.EFFECT, "swamp", "ExplodeLiana.xml");
 
         take = (c, with, by) ->
         {
@@ -298,7 +298,7 @@ public final class Liana extends FeatureModel implements CollidableListener, Rec
                         mapCollision.updateCollisions(tile);
                     }
 
-                    spawner.spawn(Medias.create(Folder.EFFECT, "swamp", "ExplodeLiana.xml"), tile.getX(), tile.getY());
+                    explode.spawn(tile.getX(), tile.getY());
                     Sfx.MONSTER_HURT.play();
                 }
                 identifiable.destroy();
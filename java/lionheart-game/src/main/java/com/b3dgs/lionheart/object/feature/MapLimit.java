@@ -26,6 +26,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.networkable.Networkable;
 import com.b3dgs.lionengine.game.feature.rasterable.SetupSurfaceRastered;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.object.EntityModel;
 
 /**
@@ -37,6 +38,7 @@ import com.b3dgs.lionheart.object.EntityModel;
 @FeatureInterface
 public final class MapLimit extends FeatureModel implements RoutineUpdate
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, MapLimit.class);
     private final MapTile map = services.get(MapTile.class);
 
     private final Transformable transformable;
@@ -69,6 +71,7 @@ public final class MapLimit extends FeatureModel implements RoutineUpdate
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         final Camera camera = model.getCamera();
         final double min = 2.0;
         final double max = map.getWidth() - (double) map.getTileWidth();
@@ -88,5 +91,6 @@ public final class MapLimit extends FeatureModel implements RoutineUpdate
             transformable.teleportX(camera.getX());
             model.getMovement().zero();
         }
+        probeUpdate.end(profiled);
     }
 }
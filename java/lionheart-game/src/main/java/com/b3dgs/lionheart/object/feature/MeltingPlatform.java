@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
@@ -50,6 +51,7 @@ import com.b3dgs.lionheart.object.EntityModel;
 @FeatureInterface
 public final class MeltingPlatform extends FeatureModel implements RoutineUpdate, Recyclable, CollidableListener
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, MeltingPlatform.class);
     private final Viewer viewer = services.get(Viewer.class);
 
     private final Animatable animatable;
@@ -102,10 +104,12 @@ public final class MeltingPlatform extends FeatureModel implements RoutineUpdate
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (!collidable.isEnabled() && !viewer.isViewable(transformable, viewer.getWidth() / 2, viewer.getHeight() / 2))
         {
             recycle();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -35,6 +35,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.WorldType;
@@ -54,6 +55,7 @@ public final class Norka extends FeatureModel implements RoutineUpdate, Recyclab
     private static final int SPAWN_PILLAR_DELAY_MS = 1250;
     private static final int SPAWN_FLYER_DELAY_MS = 1500;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Norka.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Spawner spawner = services.get(Spawner.class);
     private final Trackable target = services.get(Trackable.class);
@@ -193,12 +195,14 @@ public final class Norka extends FeatureModel implements RoutineUpdate, Recyclab
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         phase.update(extrp);
 
         if (target.getY() < water.getTotalHeight() - 4 && !playerHurtable.isHurtingBody())
         {
             playerHurtable.hurtDamages();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.launchable.Launchable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Effect feature implementation.
@@ -40,6 +41,7 @@ import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 @FeatureInterface
 public final class NorkaPlatform extends FeatureModel implements RoutineUpdate, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, NorkaPlatform.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Transformable transformable;
@@ -99,6 +101,7 @@ public final class NorkaPlatform extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (first)
@@ -124,6 +127,7 @@ public final class NorkaPlatform extends FeatureModel implements RoutineUpdate,
         {
             hurtable.kill(true);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.RoutineUpdate;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Spawner;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 
 /**
@@ -43,6 +44,7 @@ import com.b3dgs.lionheart.constant.Anim;
 @FeatureInterface
 public final class NorkaTransform extends FeatureModel implements RoutineUpdate, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, NorkaTransform.class);
     private final Spawner spawner = services.get(Spawner.class);
 
     private final Animatable animatable;
@@ -120,7 +122,9 @@ public final class NorkaTransform extends FeatureModel implements RoutineUpdate,
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         phase.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 
 /**
@@ -43,6 +44,7 @@ import com.b3dgs.lionheart.constant.Anim;
 @FeatureInterface
 public final class NorkaWalk extends FeatureModel implements RoutineUpdate, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, NorkaWalk.class);
     private final Spawner spawner = services.get(Spawner.class);
 
     private final Transformable transformable;
@@ -113,7 +115,9 @@ public final class NorkaWalk extends FeatureModel implements RoutineUpdate, Recy
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         phase.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -53,8 +53,10 @@ import com.b3dgs.lionengine.io.DeviceControllerVoid;
 import com.b3dgs.lionengine.io.FileReading;
 import com.b3dgs.lionengine.io.FileWriting;
 import com.b3dgs.lionengine.network.Packet;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.constant.CollisionName;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.Snapshotable;
 import com.b3dgs.lionheart.object.XmlLoader;
@@ -74,6 +76,7 @@ import com.b3dgs.lionheart.object.state.StateTurn;
 public final class Patrol extends FeatureModel implements XmlLoader, RoutineUpdate, TileCollidableListener,
                           CollidableListener, Syncable, Snapshotable, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Patrol.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.getOptional(Trackable.class).orElse(null);
 
@@ -474,6 +477,7 @@ public final class Patrol extends FeatureModel implements XmlLoader, RoutineUpda
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
         if (tick.elapsedTime(source.getRate(), delay))
         {
@@ -517,6 +521,7 @@ public final class Patrol extends FeatureModel implements XmlLoader, RoutineUpda
         {
             sync();
         }
+        probeUpdate.end(profiled);
     }
 
     private void sync()
@@ -536,6 +541,7 @@ public final class Patrol extends FeatureModel implements XmlLoader, RoutineUpda
             buffer.putFloat((float) startY);
             buffer.putFloat((float) transformable.getX());
             buffer.putFloat((float) transformable.getY());
+            Events.sent(this, getSyncId(), buffer);
             networkable.send(buffer);
             tickSync.restart();
         }
@@ -578,6 +584,7 @@ public final class Patrol extends FeatureModel implements XmlLoader, RoutineUpda
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         currentIndex = packet.readByteUnsigned();
         sh = packet.readFloat();
         sv = packet.readFloat();
@@ -33,6 +33,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.object.XmlLoader;
 import com.b3dgs.lionheart.object.XmlSaver;
 
@@ -50,6 +51,7 @@ public final class Pillar extends FeatureModel implements XmlLoader, XmlSaver, R
     private static final int MIN_Y = -6;
     private static final int MAX_Y = 80;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Pillar.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final Transformable transformable;
@@ -184,8 +186,10 @@ public final class Pillar extends FeatureModel implements XmlLoader, XmlSaver, R
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
         transformable.setLocationY(y);
+        probeUpdate.end(profiled);
     }
 
     @Override
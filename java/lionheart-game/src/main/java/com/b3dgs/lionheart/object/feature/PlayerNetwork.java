@@ -26,12 +26,14 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import com.b3dgs.lionengine.Align;
 import com.b3dgs.lionengine.Constant;
+import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Tick;
 import com.b3dgs.lionengine.Timing;
 import com.b3dgs.lionengine.UtilConversion;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
 import com.b3dgs.lionengine.game.feature.FeatureModel;
+import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.RoutineRender;
 import com.b3dgs.lionengine.game.feature.RoutineUpdate;
@@ -53,7 +55,10 @@ import com.b3dgs.lionengine.network.Packet;
 import com.b3dgs.lionheart.Checkpoint;
 import com.b3dgs.lionheart.CheckpointHandler;
 import com.b3dgs.lionheart.CheckpointListener;
+import com.b3dgs.lionheart.FontRegistry;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Folder;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.landscape.ForegroundWater;
 import com.b3dgs.lionheart.object.EntityModel;
 
@@ -78,6 +83,8 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
 
     private static final String IMG_NUMBERS = "numbers.png";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, PlayerNetwork.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, PlayerNetwork.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final DeviceController device = services.get(DeviceController.class);
     private final CheckpointHandler checkpoint = services.get(CheckpointHandler.class);
@@ -87,10 +94,8 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
 
     private final ImageBuffer number = Graphics.getImageBuffer(Medias.create(Folder.SPRITE, IMG_NUMBERS));
     private final SpriteDigit numberTime = Drawable.loadSpriteDigit(number, 8, 16, 8);
-    private final SpriteFont font = Drawable.loadSpriteFont(Medias.create(Folder.SPRITE, "font.png"),
-                                                            Medias.create(Folder.SPRITE, "fontdata.xml"),
-                                                            12,
-                                                            12);
+    private final Media fontMedia = Medias.create(Folder.SPRITE, "font.png");
+    private SpriteFont font = acquireFont();
 
     private final Tick time = new Tick();
     private final Timing timeSync = new Timing();
@@ -108,19 +113,22 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
      * @param services The services reference.
      * @param setup The setup reference.
      * @param networkable The networkable feature.
+     * @param identifiable The identifiable feature.
      */
-    public PlayerNetwork(Services services, Setup setup, Networkable networkable)
+    public PlayerNetwork(Services services, Setup setup, Networkable networkable, Identifiable identifiable)
     {
         super(services, setup);
 
         this.networkable = networkable;
+        identifiable.addListener(id ->
+        {
+            FontRegistry.getInstance().release(fontMedia);
+            font = null;
+        });
 
         number.prepare();
         numberTime.prepare();
 
-        font.load();
-        font.prepare();
-
         checkpoint.addListener(new CheckpointListener()
         {
             @Override
@@ -143,6 +151,16 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
         });
     }
 
+    /**
+     * Acquire shared font, released on destroy.
+     * 
+     * @return The shared font.
+     */
+    private SpriteFont acquireFont()
+    {
+        return FontRegistry.getInstance().acquire(fontMedia, Medias.create(Folder.SPRITE, "fontdata.xml"), 12, 12);
+    }
+
     /**
      * Set associated player model.
      * 
@@ -163,6 +181,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
         final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1);
         buffer.putInt(getSyncId());
         buffer.put(UtilConversion.fromUnsignedByte(TYPE_READY));
+        Events.sent(this, getSyncId(), buffer);
         networkable.send(buffer);
     }
 
@@ -176,6 +195,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
         final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1);
         buffer.putInt(getSyncId());
         buffer.put(UtilConversion.fromUnsignedByte(TYPE_STARTED));
+        Events.sent(this, getSyncId(), buffer);
         networkable.send(buffer);
 
         time.restart();
@@ -188,6 +208,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
         buffer.putInt(getSyncId());
         buffer.put(UtilConversion.fromUnsignedByte(TYPE_TIME));
         buffer.putInt((int) time.elapsed());
+        Events.sent(this, getSyncId(), buffer);
         networkable.send(buffer);
     }
 
@@ -203,6 +224,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
             buffer.put(UtilConversion.fromUnsignedByte(TYPE_REACH));
             buffer.putInt(id.intValue());
             buffer.putInt(reachTime.get(id).intValue());
+            Events.sent(this, getSyncId(), buffer);
             networkable.send(buffer);
         }
     }
@@ -216,6 +238,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
             buffer.putInt(getSyncId());
             buffer.put(UtilConversion.fromUnsignedByte(TYPE_WATER));
             buffer.putDouble(water.getHeight());
+            Events.sent(this, getSyncId(), buffer);
             networkable.send(buffer);
         }
     }
@@ -248,6 +271,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (networkable.isServer())
         {
             time.update(extrp);
@@ -279,11 +303,13 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
                 setReady();
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         if (reachTime.containsKey(networkable.getClientId()))
         {
             int i = 0;
@@ -303,6 +329,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
         {
             numberTime.render(g);
         }
+        probeRender.end(profiled);
     }
 
     @Override
@@ -317,6 +344,7 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         final int type = packet.readByteUnsigned();
         if (type == TYPE_READY)
         {
@@ -366,5 +394,9 @@ public class PlayerNetwork extends FeatureModel implements RoutineUpdate, Routin
         time.stop();
         timeSync.stop();
         timeWater.restart();
+        if (font == null)
+        {
+            font = acquireFont();
+        }
     }
 }
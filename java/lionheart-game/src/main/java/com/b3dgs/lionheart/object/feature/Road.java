@@ -34,6 +34,7 @@ import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Folder;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.XmlLoader;
@@ -46,6 +47,8 @@ import com.b3dgs.lionheart.object.XmlSaver;
 public final class Road extends FeatureModel
                         implements XmlLoader, XmlSaver, Editable<RoadConfig>, RoutineUpdate, RoutineRender
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Road.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, Road.class);
     private final Camera camera = services.get(Camera.class);
     private final BackgroundElement road;
 
@@ -100,13 +103,16 @@ public final class Road extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         road.setOffsetX(UtilMath.wrapDouble(road.getOffsetX() - 3 * extrp, 0.0, road.getRenderable().getWidth()));
         road.setOffsetY(-176.0 - camera.getHeight() + Constant.RESOLUTION.getHeight());
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         if (camera.getX() > config.getStart())
         {
             final Sprite sprite0 = (Sprite) road.getRenderable();
@@ -122,5 +128,6 @@ public final class Road extends FeatureModel
                 }
             }
         }
+        probeRender.end(profiled);
     }
 }
@@ -39,6 +39,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.CollisionName;
@@ -58,6 +59,7 @@ import com.b3dgs.lionheart.object.state.StateCrouch;
 public final class Rotating extends FeatureModel
                             implements XmlLoader, XmlSaver, Editable<RotatingConfig>, RoutineUpdate, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Rotating.class);
     private final Spawner spawner = services.get(Spawner.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -185,6 +187,7 @@ public final class Rotating extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         for (int i = 0; i < count; i++)
         {
             rings.get(i)
@@ -250,6 +253,7 @@ public final class Rotating extends FeatureModel
             }
         }
         collide = false;
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -28,6 +28,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.XmlLoader;
 import com.b3dgs.lionheart.object.XmlSaver;
@@ -47,6 +48,7 @@ public final class Sheet extends FeatureModel
     private static final double CURVE_SPEED = 8.0;
     private static final int HIDE_RANGE = 48;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Sheet.class);
     private final Transformable transformable;
 
     private Trackable target;
@@ -110,6 +112,7 @@ public final class Sheet extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (start)
         {
             if (!done)
@@ -138,6 +141,7 @@ public final class Sheet extends FeatureModel
             ifIs(Rasterable.class, r -> r.setVisibility(true));
             target = null;
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -39,6 +39,7 @@ import com.b3dgs.lionengine.game.feature.launchable.Launcher;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.RasterType;
 import com.b3dgs.lionheart.Settings;
 import com.b3dgs.lionheart.constant.Anim;
@@ -56,6 +57,7 @@ import com.b3dgs.lionheart.object.XmlSaver;
 public final class Shooter extends FeatureModel
                            implements XmlLoader, XmlSaver, Editable<ShooterConfig>, RoutineUpdate, Recyclable
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Shooter.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Trackable target = services.getOptional(Trackable.class).orElse(null);
     private final Camera camera = services.get(Camera.class);
@@ -268,10 +270,12 @@ public final class Shooter extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (camera.isViewable(transformable, 0, 0) && stats.getHealth() > 0)
         {
             updater.update(extrp);
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
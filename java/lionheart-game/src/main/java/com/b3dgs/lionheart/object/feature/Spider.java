@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.io.DeviceControllerVoid;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -58,6 +59,7 @@ public final class Spider extends FeatureModel
     private static final int FALL_DISTANCE = 16;
     private static final double TRACK_SPEED = 0.5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Spider.class);
     private final Trackable target = services.getOptional(Trackable.class).orElse(null);
 
     private final Transformable transformable;
@@ -187,6 +189,7 @@ public final class Spider extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         if (target != null)
         {
             if (distance < 0
@@ -228,6 +231,7 @@ public final class Spider extends FeatureModel
                 }
             }
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -39,8 +39,10 @@ import com.b3dgs.lionengine.game.feature.networkable.Networkable;
 import com.b3dgs.lionengine.game.feature.networkable.Syncable;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionengine.network.Packet;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.object.Editable;
 import com.b3dgs.lionheart.object.XmlLoader;
 import com.b3dgs.lionheart.object.XmlSaver;
@@ -59,6 +61,7 @@ public final class Spike extends FeatureModel
     private static final int PHASE2_DELAY_MS = 500;
     private static final int PHASE3_DELAY_MS = 100;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Spike.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Viewer viewer = services.get(Viewer.class);
 
@@ -208,6 +211,7 @@ public final class Spike extends FeatureModel
         {
             final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES);
             data.putInt(getSyncId());
+            Events.sent(this, getSyncId(), data);
             networkable.send(data);
         }
     }
@@ -258,12 +262,15 @@ public final class Spike extends FeatureModel
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         tick.restart();
         animatable.play(rise);
         updater = this::updateAttackPrepared;
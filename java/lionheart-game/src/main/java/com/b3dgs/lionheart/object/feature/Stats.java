@@ -40,6 +40,7 @@ import com.b3dgs.lionengine.network.Packet;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.InitConfig;
 import com.b3dgs.lionheart.Sfx;
+import com.b3dgs.lionheart.event.Events;
 import com.b3dgs.lionheart.object.Snapshotable;
 
 /**
@@ -367,6 +368,7 @@ public final class Stats extends FeatureModel implements Syncable, Snapshotable,
             data.put(UtilConversion.fromUnsignedByte(config.getLife()));
             data.put(UtilConversion.fromUnsignedByte(config.getSword()));
             data.put(UtilConversion.fromUnsignedByte(UtilConversion.boolToInt(config.isAmulet())));
+            Events.sent(this, getSyncId(), data);
             networkable.send(data);
         }
     }
@@ -379,6 +381,7 @@ public final class Stats extends FeatureModel implements Syncable, Snapshotable,
             data.putInt(getSyncId());
             data.put(UtilConversion.fromUnsignedByte(1));
             data.put(UtilConversion.fromUnsignedByte(damages));
+            Events.sent(this, getSyncId(), data);
             networkable.send(data);
         }
     }
@@ -414,6 +417,7 @@ public final class Stats extends FeatureModel implements Syncable, Snapshotable,
     @Override
     public void onReceived(Packet packet)
     {
+        Events.received(this, getSyncId(), packet.buffer());
         final int type = packet.readByteUnsigned();
         if (type == 0)
         {
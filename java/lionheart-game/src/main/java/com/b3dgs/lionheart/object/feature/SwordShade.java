@@ -34,6 +34,7 @@ import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.SpriteAnimated;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -50,6 +51,8 @@ public final class SwordShade extends FeatureModel implements RoutineUpdate, Rou
     private static final int SHADE_FH = 10;
     private static final int SHADE_FV = 5;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, SwordShade.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, SwordShade.class);
     private final Mirrorable mirrorable;
     private final Transformable transformable;
 
@@ -118,17 +121,21 @@ public final class SwordShade extends FeatureModel implements RoutineUpdate, Rou
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         shade.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         if (AnimState.PLAYING == shade.getAnimState())
         {
             shade.setMirror(mirrorable.getMirror());
             shade.setLocation(viewer, transformable);
             shade.render(g);
         }
+        probeRender.end(profiled);
     }
 }
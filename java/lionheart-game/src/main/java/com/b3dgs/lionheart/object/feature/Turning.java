@@ -32,6 +32,7 @@ import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.object.state.StateTurn;
 
@@ -59,6 +60,7 @@ public class Turning extends FeatureModel implements RoutineUpdate, Recyclable
     /** Total number of shakes in shaking state. */
     private static final int SHAKE_MAX_COUNT = 3;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Turning.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
     private final Camera camera = services.get(Camera.class);
 
@@ -192,7 +194,9 @@ public class Turning extends FeatureModel implements RoutineUpdate, Recyclable
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         check.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
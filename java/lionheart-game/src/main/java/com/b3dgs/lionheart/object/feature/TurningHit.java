@@ -28,6 +28,7 @@ import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.constant.Anim;
 import com.b3dgs.lionheart.object.state.StateIdle;
 
@@ -44,6 +45,7 @@ import com.b3dgs.lionheart.object.state.StateIdle;
 @FeatureInterface
 public final class TurningHit extends Turning implements CollidableListener
 {
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, TurningHit.class);
     private final Animatable animatable;
     private final StateHandler stateHandler;
 
@@ -81,6 +83,7 @@ public final class TurningHit extends Turning implements CollidableListener
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         super.update(extrp);
 
         if (stopped && animatable.getFrameAnim() == idle.getFirst())
@@ -90,6 +93,7 @@ public final class TurningHit extends Turning implements CollidableListener
             stateHandler.changeState(StateIdle.class);
             stopped = false;
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
@@ -26,6 +26,7 @@ import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionheart.Profiler;
 import com.b3dgs.lionheart.object.state.StateJumpSpider;
 
 /**
@@ -39,6 +40,7 @@ public final class Turtle extends FeatureModel implements RoutineUpdate, Recycla
 {
     private static final int IDLE_TIME_MS = 3000;
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Turtle.class);
     private final SourceResolutionProvider source = services.get(SourceResolutionProvider.class);
 
     private final StateHandler stateHandler;
@@ -66,6 +68,7 @@ public final class Turtle extends FeatureModel implements RoutineUpdate, Recycla
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         tick.update(extrp);
 
         if (tick.elapsedTime(source.getRate(), IDLE_TIME_MS))
@@ -74,6 +77,7 @@ public final class Turtle extends FeatureModel implements RoutineUpdate, Recycla
             floater.stop();
             tick.restart();
         }
+        probeUpdate.end(profiled);
     }
 
     @Override
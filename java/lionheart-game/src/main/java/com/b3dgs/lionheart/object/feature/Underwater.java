@@ -42,6 +42,7 @@ import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.RenderableVoid;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.MapTileWater;
+import com.b3dgs.lionheart.Profiler;
 
 /**
  * Floater feature implementation.
@@ -54,6 +55,8 @@ public final class Underwater extends FeatureModel implements RoutineUpdate, Rou
 {
     private static final String NODE = "underwater";
 
+    private final Profiler.Probe probeUpdate = Profiler.probeUpdate(services, Underwater.class);
+    private final Profiler.Probe probeRender = Profiler.probeRender(services, Underwater.class);
     private final MapTileWater water = services.get(MapTileWater.class);
 
     private final Transformable transformable;
@@ -188,13 +191,17 @@ public final class Underwater extends FeatureModel implements RoutineUpdate, Rou
     @Override
     public void update(double extrp)
     {
+        final long profiled = probeUpdate.begin();
         updater.update(extrp);
+        probeUpdate.end(profiled);
     }
 
     @Override
     public void render(Graphic g)
     {
+        final long profiled = probeRender.begin();
         renderer.render(g);
+        probeRender.end(profiled);
     }
 
     @Override
@@ -21,9 +21,9 @@ import java.util.Optional;
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Mirror;
-import com.b3dgs.lionengine.game.Configurer;
 import com.b3dgs.lionengine.geom.Coord;
 import com.b3dgs.lionengine.graphic.engine.Sequencer;
+import com.b3dgs.lionheart.AssetCache;
 import com.b3dgs.lionheart.CheatsProvider;
 import com.b3dgs.lionheart.CheckpointHandler;
 import com.b3dgs.lionheart.Difficulty;
@@ -116,7 +116,7 @@ public final class StateRespawn extends State
             }
             landscape.reset();
 
-            final StageConfig config = StageConfig.imports(new Configurer(game.getInit().getStage()));
+            final StageConfig config = AssetCache.getInstance().getStage(game.getInit().getStage());
             if (config.isReload()
                 && Double.compare(transformable.getX(), config.getReloadMinX()) >= 0
                 && Double.compare(transformable.getX(), config.getReloadMaxX()) <= 0)
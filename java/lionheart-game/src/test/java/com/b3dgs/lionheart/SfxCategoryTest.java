@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.b3dgs.lionengine.UtilTests;
+import com.b3dgs.lionengine.audio.AudioFactory;
+import com.b3dgs.lionengine.audio.AudioVoidFormat;
+
+/**
+ * Test {@link SfxCategory}.
+ */
+final class SfxCategoryTest
+{
+    /**
+     * Init engine.
+     */
+    @BeforeAll
+    static void prepare()
+    {
+        AudioFactory.addFormat(new AudioVoidFormat(Arrays.asList("wav")));
+    }
+
+    /**
+     * Test the enum.
+     * 
+     * @throws Exception If error.
+     */
+    @Test
+    void testEnum() throws Exception
+    {
+        UtilTests.testEnum(SfxCategory.class);
+    }
+
+    /**
+     * Test category from sfx.
+     */
+    @Test
+    void testFrom()
+    {
+        assertEquals(SfxCategory.MENU, SfxCategory.from(Sfx.MENU_SELECT));
+        assertEquals(SfxCategory.VALDYN, SfxCategory.from(Sfx.VALDYN_HURT));
+        assertEquals(SfxCategory.EFFECT, SfxCategory.from(Sfx.EFFECT_EXPLODE2));
+        assertEquals(SfxCategory.PROJECTILE, SfxCategory.from(Sfx.PROJECTILE_FLY));
+        assertEquals(SfxCategory.BOSS, SfxCategory.from(Sfx.BOSS1_HURT));
+        assertEquals(SfxCategory.BOSS, SfxCategory.from(Sfx.BOSS_NORKA_FIRE));
+
+        for (final Sfx sfx : Sfx.values())
+        {
+            assertEquals(SfxCategory.from(sfx), sfx.getCategory());
+        }
+    }
+
+    /**
+     * Test ducking.
+     */
+    @Test
+    void testDucking()
+    {
+        assertTrue(SfxCategory.BOSS.isDucking());
+        assertFalse(SfxCategory.MONSTER.isDucking());
+        assertEquals(3, SfxCategory.PROJECTILE.getVoices());
+    }
+}
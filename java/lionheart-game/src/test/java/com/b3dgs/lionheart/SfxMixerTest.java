@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.b3dgs.lionengine.audio.AudioFactory;
+import com.b3dgs.lionengine.audio.AudioVoidFormat;
+
+/**
+ * Test {@link SfxMixer}.
+ */
+final class SfxMixerTest
+{
+    private static final int VOLUME = 80;
+
+    /**
+     * Init engine.
+     */
+    @BeforeAll
+    static void prepare()
+    {
+        AudioFactory.addFormat(new AudioVoidFormat(Arrays.asList("wav")));
+    }
+
+    private final List<Sfx> played = new ArrayList<>();
+    private final List<Integer> volumes = new ArrayList<>();
+    private boolean busy;
+    private SfxMixer mixer;
+
+    /**
+     * Create mixer without thread.
+     */
+    @BeforeEach
+    void create()
+    {
+        mixer = new SfxMixer(Sfx.values().length, () -> VOLUME, (sfx, volume) ->
+        {
+            if (busy)
+            {
+                return false;
+            }
+            played.add(sfx);
+            volumes.add(Integer.valueOf(volume));
+            return true;
+        });
+    }
+
+    /**
+     * Test identical requests of the same frame are played once.
+     */
+    @Test
+    void testDedupe()
+    {
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.submit(Sfx.MONSTER_LAND);
+        mixer.mix(System.nanoTime());
+
+        assertEquals(Arrays.asList(Sfx.MONSTER_HURT, Sfx.MONSTER_LAND), played);
+
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.mix(System.nanoTime());
+
+        assertEquals(Arrays.asList(Sfx.MONSTER_HURT, Sfx.MONSTER_LAND, Sfx.MONSTER_HURT), played);
+    }
+
+    /**
+     * Test concurrent voices are limited per category.
+     */
+    @Test
+    void testVoices()
+    {
+        final long now = System.nanoTime();
+        mixer.submit(Sfx.PROJECTILE_FLOWER);
+        mixer.submit(Sfx.PROJECTILE_FLY);
+        mixer.submit(Sfx.PROJECTILE_BULLET2);
+        mixer.submit(Sfx.PROJECTILE_ROCK);
+        mixer.submit(Sfx.MENU_SELECT);
+        mixer.mix(now);
+
+        assertEquals(Arrays.asList(Sfx.PROJECTILE_FLOWER, Sfx.PROJECTILE_FLY, Sfx.PROJECTILE_BULLET2, Sfx.MENU_SELECT),
+                     played);
+
+        mixer.submit(Sfx.PROJECTILE_ROCK);
+        mixer.mix(now + SfxMixer.VOICE_NANO / 2L);
+
+        assertEquals(4, played.size());
+
+        mixer.submit(Sfx.PROJECTILE_ROCK);
+        mixer.mix(now + SfxMixer.VOICE_NANO);
+
+        assertEquals(Sfx.PROJECTILE_ROCK, played.get(played.size() - 1));
+    }
+
+    /**
+     * Test busy sound is retried on next frame.
+     */
+    @Test
+    void testRetry()
+    {
+        busy = true;
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.mix(System.nanoTime());
+
+        assertEquals(0, played.size());
+
+        busy = false;
+        mixer.mix(System.nanoTime());
+
+        assertEquals(Arrays.asList(Sfx.MONSTER_HURT), played);
+    }
+
+    /**
+     * Test ducking lowers other categories volume until delay elapsed.
+     */
+    @Test
+    void testDucking()
+    {
+        final long now = System.nanoTime();
+        mixer.submit(Sfx.BOSS1_HURT);
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.mix(now);
+
+        assertEquals(Arrays.asList(Integer.valueOf(VOLUME), Integer.valueOf(VOLUME / 2)), volumes);
+
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.mix(now + TimeUnit.MILLISECONDS.toNanos(100L));
+
+        assertEquals(Integer.valueOf(VOLUME / 2), volumes.get(2));
+
+        mixer.submit(Sfx.MONSTER_HURT);
+        mixer.mix(now + TimeUnit.SECONDS.toNanos(1L));
+
+        assertEquals(Integer.valueOf(VOLUME), volumes.get(3));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.b3dgs.lionheart.constant.Folder;
+
+/**
+ * Test {@link TextBundle}.
+ */
+final class TextBundleTest
+{
+    /** Texts folder in assets sources, from module folder. */
+    private static final Path TEXTS = Paths.get("..",
+                                                "..",
+                                                "assets",
+                                                "src",
+                                                "main",
+                                                "resources",
+                                                "com",
+                                                "b3dgs",
+                                                "lionheart",
+                                                Folder.TEXT);
+
+    /**
+     * Test compile and load.
+     * 
+     * @param folder The language folder.
+     * @throws IOException If error.
+     */
+    @Test
+    void testCompile(@TempDir Path folder) throws IOException
+    {
+        Files.createDirectory(folder.resolve("menu"));
+        Files.write(folder.resolve("hud.txt"), "Pause\r\nExit\r\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(folder.resolve("menu").resolve("main.txt"),
+                    "Démarrer\n\nOptions".getBytes(StandardCharsets.UTF_8));
+        Files.write(folder.resolve("empty.txt"), new byte[0]);
+        Files.write(folder.resolve("ignored.xml"), "<xml/>".getBytes(StandardCharsets.UTF_8));
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TextBundle.compile(folder.toFile(), output);
+        final TextBundle bundle = TextBundle.load(new ByteArrayInputStream(output.toByteArray()));
+
+        assertEquals(Arrays.asList("Pause", "Exit"), bundle.get("hud.txt", null));
+        assertEquals(Arrays.asList("Démarrer", "", "Options"), bundle.get("menu/main.txt", null));
+        assertEquals(Collections.emptyList(), bundle.get("empty.txt", null));
+    }
+
+    /**
+     * Test committed bundles are up to date with text files. Run <code>Tools.generateTextBundles()</code> if failing.
+     * 
+     * @throws IOException If error.
+     */
+    @Test
+    void testCommittedBundles() throws IOException
+    {
+        for (final String lang : Files.readAllLines(TEXTS.resolve("langs.txt"), StandardCharsets.UTF_8))
+        {
+            if (!lang.isEmpty())
+            {
+                final Path folder = TEXTS.resolve(lang);
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                TextBundle.compile(folder.toFile(), output);
+
+                assertArrayEquals(Files.readAllBytes(folder.resolve(TextBundle.FILENAME)),
+                                  output.toByteArray(),
+                                  lang);
+            }
+        }
+    }
+
+    /**
+     * Test load invalid bundle.
+     */
+    @Test
+    void testLoadInvalid()
+    {
+        assertThrows(IOException.class, () -> TextBundle.load(new ByteArrayInputStream(new byte[8])));
+    }
+}
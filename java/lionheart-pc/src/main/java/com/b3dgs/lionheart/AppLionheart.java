@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import com.b3dgs.lionengine.Check;
 import com.b3dgs.lionengine.Config;
+import com.b3dgs.lionengine.Engine;
 import com.b3dgs.lionengine.InputDevice;
 import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.Media;
@@ -40,6 +41,7 @@ import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Resolution;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.audio.AudioFactory;
+import com.b3dgs.lionengine.audio.AudioVoidFormat;
 import com.b3dgs.lionengine.audio.sc68.Sc68Format;
 import com.b3dgs.lionengine.audio.wav.WavFormat;
 import com.b3dgs.lionengine.awt.graphic.ImageLoadStrategy;
@@ -61,6 +63,9 @@ final class AppLionheart
     private static final String ARG_PLAYERS = "-players";
     private static final String ARG_HEALTH = "-health";
     private static final String ARG_LIFE = "-life";
+    private static final String ARG_SIMULATE = "-simulate";
+    private static final String ARG_INPUT = "-input";
+    private static final int SIMULATE_FRAMES = 10_000;
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger(AppLionheart.class);
 
@@ -77,6 +82,8 @@ final class AppLionheart
      * speedrun=[1], battle=[1], versus=[1]}</li>
      * <li>-difficulty [<code>beginner, normal, hard, lionhard</code>]</li>
      * <li>-player {story=[1], training=[1], speedrun=[1, 2, 3, 4], battle=[1, 2, 3, 4], versus=[2, 3, 4]}</li>
+     * <li>-simulate <code>[frames]</code> (headless, no window nor audio)</li>
+     * <li>-input <code>[string]</code> (simulation recorded input)</li>
      * </ul>
      * <p>
      * Examples:
@@ -87,6 +94,7 @@ final class AppLionheart
      * <li>speedrun: -game speedrun -stage 1 -players 2</li>
      * <li>battle: -game battle -stage 1 -players 3</li>
      * <li>versus: -game versus -stage 1 -players 4</li>
+     * <li>simulation: -game training -stage original-3 -simulate 20000 -input input.txt</li>
      * </ul>
      * 
      * @param args The arguments.
@@ -103,6 +111,10 @@ final class AppLionheart
         {
             run(new GameConfig().with(!Settings.getInstance().getGameplayTwoButtons()), new Gamepad(), false);
         }
+        else if (params.contains(ARG_SIMULATE))
+        {
+            simulate(params, loadConfig(params));
+        }
         else
         {
             final GameConfig config = loadConfig(params);
@@ -149,6 +161,40 @@ final class AppLionheart
         Loader.start(configure(settings, devices, icons), sequence, args);
     }
 
+    /**
+     * Run headless simulation and log update throughput.
+     * 
+     * @param params The parameters.
+     * @param config The game config.
+     */
+    private static void simulate(List<String> params, GameConfig config)
+    {
+        if (config.getInit() == null || config.getInit().getStage() == null)
+        {
+            LOGGER.error("simulate error: no stage");
+            return;
+        }
+
+        AudioFactory.addFormat(new AudioVoidFormat(Arrays.asList("wav", "sc68")));
+        Util.init(Tools::generateWorldRaster);
+
+        final int frames = getParam(params,
+                                    ARG_SIMULATE,
+                                    Integer.valueOf(SIMULATE_FRAMES),
+                                    Integer::parseInt,
+                                    0).intValue();
+        final SimulationInput input = getParam(params,
+                                               ARG_INPUT,
+                                               new SimulationInput(),
+                                               f -> SimulationInput.load(Medias.get(new File(f))),
+                                               0);
+
+        final double fps = new Simulation(config, input).run(frames);
+        LOGGER.info("Simulated {} frames at {} fps", Integer.valueOf(frames), Long.valueOf((long) fps));
+
+        Engine.terminate();
+    }
+
     /**
      * Get converted parameter value.
      * 
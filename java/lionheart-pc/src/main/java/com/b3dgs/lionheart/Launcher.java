@@ -33,10 +33,8 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.net.InetAddress;
 import java.net.URI;
@@ -1258,95 +1256,73 @@ final class Launcher
 
     private static void save()
     {
-        try (FileWriter output = getSettingsWriter())
-        {
-            writeFormatted(output, "# undefined = system language");
-            writeFormatted(output, Settings.LANG, LANG.get());
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# undefined = desktop resolution");
-            writeFormatted(output, Settings.RESOLUTION_WIDTH, WIDTH.get());
-            writeFormatted(output, Settings.RESOLUTION_HEIGHT, HEIGHT.get());
-            writeFormatted(output, Settings.RESOLUTION_RATE, RATE.get());
-            writeFormatted(output, Settings.RESOLUTION_WINDOWED, WINDOWED.get());
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# NONE, BLUR, HQ2X, HQ3X, SCANLINE, CRT");
-            writeFormatted(output, Settings.FILTER, FILTER.get().name());
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# [0 - 100]");
-            writeFormatted(output, Settings.VOLUME, com.b3dgs.lionengine.Constant.HUNDRED);
-            writeFormatted(output, Settings.VOLUME_MUSIC, MUSIC.get());
-            writeFormatted(output, Settings.VOLUME_SFX, SFX.get());
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# ORIGINAL, ALTERNATIVE");
-            writeFormatted(output, Settings.GAMEPLAY, GAMEPLAY.get().name());
-            writeFormatted(output, Settings.GAMEPLAY_TWOBUTTONS, GAMEPLAY_TWOBUTTONS.get());
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# NONE, DIRECT, CACHE");
-            writeFormatted(output, Settings.RASTER_TYPE, RASTER.get().name());
-            output.write(System.lineSeparator());
-            writeFormatted(output, Settings.HUD_VISIBLE, HUD.get());
-            writeFormatted(output, Settings.HUD_SWORD, HUD_SWORD.get());
-            output.write(System.lineSeparator());
-            writeFormatted(output, Settings.FLICKER_BACKGROUND, FLICKER_BACKGROUND.get());
-            writeFormatted(output, Settings.FLICKER_FOREGROUND, FLICKER_FOREGROUND.get());
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# [0.8 - 1.3]");
-            writeFormatted(output, Settings.ZOOM, ZOOM.get() / 100.0);
-            output.write(System.lineSeparator());
-            writeFormatted(output, "# 0 = FAST_LOADING, 1 = FAST_RENDERING, 2 = LOW_MEMORY");
-            writeFormatted(output, Settings.FLAG_STRATEGY, FLAG_STRATEGY.get());
-            writeFormatted(output, Settings.FLAG_PARALLEL, FLAG_PARALLEL.get());
-            writeFormatted(output, Settings.FLAG_VSYNC, FLAG_VSYNC.get());
-            writeFormatted(output, Settings.FLAG_DEBUG, false);
-
-            output.flush();
-        }
-        catch (final IOException exception)
-        {
-            LOGGER.error("save error", exception);
-        }
-        Settings.load();
-    }
-
-    private static FileWriter getSettingsWriter() throws IOException
-    {
-        final File file = new File(Medias.getResourcesDirectory(), Settings.FILENAME);
-        if (file.isFile() && file.getParentFile().isDirectory() && file.createNewFile())
-        {
-            return new FileWriter(file);
-        }
-        try (OutputStream output = Medias.create(Settings.FILENAME).getOutputStream())
-        {
-            output.close();
-        }
-        return new FileWriter(Medias.create(Settings.FILENAME).getFile());
+        final StringWriter output = new StringWriter();
+        writeFormatted(output, "# undefined = system language");
+        writeFormatted(output, Settings.LANG, LANG.get());
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# undefined = desktop resolution");
+        writeFormatted(output, Settings.RESOLUTION_WIDTH, WIDTH.get());
+        writeFormatted(output, Settings.RESOLUTION_HEIGHT, HEIGHT.get());
+        writeFormatted(output, Settings.RESOLUTION_RATE, RATE.get());
+        writeFormatted(output, Settings.RESOLUTION_WINDOWED, WINDOWED.get());
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# NONE, BLUR, HQ2X, HQ3X, SCANLINE, CRT");
+        writeFormatted(output, Settings.FILTER, FILTER.get().name());
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# [0 - 100]");
+        writeFormatted(output, Settings.VOLUME, com.b3dgs.lionengine.Constant.HUNDRED);
+        writeFormatted(output, Settings.VOLUME_MUSIC, MUSIC.get());
+        writeFormatted(output, Settings.VOLUME_SFX, SFX.get());
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# ORIGINAL, ALTERNATIVE");
+        writeFormatted(output, Settings.GAMEPLAY, GAMEPLAY.get().name());
+        writeFormatted(output, Settings.GAMEPLAY_TWOBUTTONS, GAMEPLAY_TWOBUTTONS.get());
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# NONE, DIRECT, CACHE");
+        writeFormatted(output, Settings.RASTER_TYPE, RASTER.get().name());
+        output.write(System.lineSeparator());
+        writeFormatted(output, Settings.HUD_VISIBLE, HUD.get());
+        writeFormatted(output, Settings.HUD_SWORD, HUD_SWORD.get());
+        output.write(System.lineSeparator());
+        writeFormatted(output, Settings.FLICKER_BACKGROUND, FLICKER_BACKGROUND.get());
+        writeFormatted(output, Settings.FLICKER_FOREGROUND, FLICKER_FOREGROUND.get());
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# [0.8 - 1.3]");
+        writeFormatted(output, Settings.ZOOM, ZOOM.get() / 100.0);
+        output.write(System.lineSeparator());
+        writeFormatted(output, "# 0 = FAST_LOADING, 1 = FAST_RENDERING, 2 = LOW_MEMORY");
+        writeFormatted(output, Settings.FLAG_STRATEGY, FLAG_STRATEGY.get());
+        writeFormatted(output, Settings.FLAG_PARALLEL, FLAG_PARALLEL.get());
+        writeFormatted(output, Settings.FLAG_VSYNC, FLAG_VSYNC.get());
+        writeFormatted(output, Settings.FLAG_DEBUG, false);
+        Settings.save(output.toString());
     }
 
-    private static void writeFormatted(FileWriter output, String data) throws IOException
+    private static void writeFormatted(StringWriter output, String data)
     {
         output.write(data);
         output.write(System.lineSeparator());
     }
 
-    private static void writeFormatted(FileWriter output, String data, String value) throws IOException
+    private static void writeFormatted(StringWriter output, String data, String value)
     {
         output.write(data + SETTINGS_SEPARATOR + value);
         output.write(System.lineSeparator());
     }
 
-    private static void writeFormatted(FileWriter output, String data, int value) throws IOException
+    private static void writeFormatted(StringWriter output, String data, int value)
     {
         output.write(data + SETTINGS_SEPARATOR + value);
         output.write(System.lineSeparator());
     }
 
-    private static void writeFormatted(FileWriter output, String data, double value) throws IOException
+    private static void writeFormatted(StringWriter output, String data, double value)
     {
         output.write(data + SETTINGS_SEPARATOR + value);
         output.write(System.lineSeparator());
     }
 
-    private static void writeFormatted(FileWriter output, String data, boolean value) throws IOException
+    private static void writeFormatted(StringWriter output, String data, boolean value)
     {
         output.write(data + SETTINGS_SEPARATOR + value);
         output.write(System.lineSeparator());
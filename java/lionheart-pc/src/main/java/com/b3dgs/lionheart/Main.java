@@ -17,6 +17,7 @@
 package com.b3dgs.lionheart;
 
 import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+import com.b3dgs.lionheart.event.JfrRecorder;
 
 /**
  * Main entry.
@@ -39,6 +40,7 @@ public final class Main
     {
         Tools.initLog();
         Tools.disableAutoScale();
+        JfrRecorder.register();
 
         EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, Main.class);
 
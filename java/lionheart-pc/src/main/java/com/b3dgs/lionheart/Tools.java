@@ -256,6 +256,25 @@ public final class Tools
         }
     }
 
+    /**
+     * Generate text bundle of each language, from resources directory text files.
+     */
+    public static void generateTextBundles()
+    {
+        for (final String lang : Util.readLines(Medias.create(Folder.TEXT, "langs.txt")))
+        {
+            final File folder = Medias.create(Folder.TEXT, lang).getFile();
+            try
+            {
+                TextBundle.compile(folder);
+            }
+            catch (final IOException exception)
+            {
+                LOGGER.error("generateTextBundles error: " + folder, exception);
+            }
+        }
+    }
+
     /**
      * Check for void tiles.
      * 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flight recorder events recorder. Events are committed only when a recording enables them.
+ */
+public final class JfrRecorder implements EventRecorder
+{
+    /** Flight recorder event class. */
+    private static final String JFR_EVENT = "jdk.jfr.Event";
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrRecorder.class);
+
+    /**
+     * Register flight recorder events if runtime provides them (may be missing from custom runtime images).
+     */
+    public static void register()
+    {
+        try
+        {
+            Class.forName(JFR_EVENT);
+            Events.setRecorder(new JfrRecorder());
+        }
+        catch (final ClassNotFoundException | LinkageError exception)
+        {
+            LOGGER.info("Flight recorder not available: {}", exception.getMessage());
+        }
+    }
+
+    /**
+     * Create recorder.
+     */
+    private JfrRecorder()
+    {
+        super();
+    }
+
+    @Override
+    public Timing stageLoad(String phase, String stage)
+    {
+        return StageLoadEvent.start(phase, stage);
+    }
+
+    @Override
+    public Timing spawnWave(int index, int delay)
+    {
+        return SpawnWaveEvent.start(index, delay);
+    }
+
+    @Override
+    public Timing musicLoad(String media)
+    {
+        return MusicLoadEvent.start(media);
+    }
+
+    @Override
+    public void transition(String kind, String target)
+    {
+        TransitionEvent.emit(kind, target);
+    }
+
+    @Override
+    public void sync(boolean send, Object feature, int id, int bytes)
+    {
+        SyncEvent.emit(send, feature, id, bytes);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import com.b3dgs.lionheart.event.EventRecorder.Timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Music load event.
+ */
+@Name("com.b3dgs.lionheart.MusicLoad")
+@Label("Music Load")
+@Category(
+{
+    "Lionheart", "Loading"
+})
+@Description("Music load and start duration")
+final class MusicLoadEvent extends jdk.jfr.Event implements Timing
+{
+    /**
+     * Create and begin event.
+     * 
+     * @param media The music path.
+     * @return The begun event.
+     */
+    static MusicLoadEvent start(String media)
+    {
+        final MusicLoadEvent event = new MusicLoadEvent();
+        event.media = media;
+        event.begin();
+        return event;
+    }
+
+    /** Music path. */
+    @Label("Media") String media;
+
+    /**
+     * Create event.
+     */
+    MusicLoadEvent()
+    {
+        super();
+    }
+
+    @Override
+    public void end(int count, String detail)
+    {
+        commit();
+    }
+}
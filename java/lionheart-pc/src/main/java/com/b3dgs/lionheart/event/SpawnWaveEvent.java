@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import com.b3dgs.lionheart.event.EventRecorder.Timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Delayed spawn wave event.
+ */
+@Name("com.b3dgs.lionheart.SpawnWave")
+@Label("Spawn Wave")
+@Category(
+{
+    "Lionheart", "Gameplay"
+})
+@Description("Delayed stage spawn wave creation")
+final class SpawnWaveEvent extends jdk.jfr.Event implements Timing
+{
+    /**
+     * Create and begin event.
+     * 
+     * @param index The wave index.
+     * @param delay The wave delay in milli.
+     * @return The begun event.
+     */
+    static SpawnWaveEvent start(int index, int delay)
+    {
+        final SpawnWaveEvent event = new SpawnWaveEvent();
+        event.index = index;
+        event.delay = delay;
+        event.begin();
+        return event;
+    }
+
+    /** Wave index. */
+    @Label("Index") int index;
+    /** Wave delay. */
+    @Label("Delay") int delay;
+    /** Spawned entities. */
+    @Label("Count") int count;
+    /** First spawned media. */
+    @Label("Media") String media;
+
+    /**
+     * Create event.
+     */
+    SpawnWaveEvent()
+    {
+        super();
+    }
+
+    @Override
+    public void end(int count, String media)
+    {
+        end();
+        if (shouldCommit())
+        {
+            this.count = count;
+            this.media = media;
+            commit();
+        }
+    }
+}
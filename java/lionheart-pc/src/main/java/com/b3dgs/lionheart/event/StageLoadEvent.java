@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import com.b3dgs.lionheart.event.EventRecorder.Timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Stage load phase event (map, rasters, entities, effect cache, sfx).
+ */
+@Name("com.b3dgs.lionheart.StageLoad")
+@Label("Stage Load")
+@Category(
+{
+    "Lionheart", "Loading"
+})
+@Description("Stage load phase duration")
+final class StageLoadEvent extends jdk.jfr.Event implements Timing
+{
+    /**
+     * Create and begin event.
+     * 
+     * @param phase The phase name.
+     * @param stage The stage path.
+     * @return The begun event.
+     */
+    static StageLoadEvent start(String phase, String stage)
+    {
+        final StageLoadEvent event = new StageLoadEvent();
+        event.phase = phase;
+        event.stage = stage;
+        event.begin();
+        return event;
+    }
+
+    /** Phase name. */
+    @Label("Phase") String phase;
+    /** Stage path. */
+    @Label("Stage") String stage;
+    /** Loaded elements count. */
+    @Label("Count") int count;
+
+    /**
+     * Create event.
+     */
+    StageLoadEvent()
+    {
+        super();
+    }
+
+    @Override
+    public void end(int count, String detail)
+    {
+        end();
+        if (shouldCommit())
+        {
+            this.count = count;
+            commit();
+        }
+    }
+}
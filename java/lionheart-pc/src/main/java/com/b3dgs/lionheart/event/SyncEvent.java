@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Syncable feature network message event.
+ */
+@Name("com.b3dgs.lionheart.Sync")
+@Label("Sync")
+@Category(
+{
+    "Lionheart", "Network"
+})
+@Description("Syncable feature message sent or received")
+final class SyncEvent extends jdk.jfr.Event
+{
+    /**
+     * Commit event.
+     * 
+     * @param send <code>true</code> if sent, <code>false</code> if received.
+     * @param feature The feature.
+     * @param id The sync id.
+     * @param bytes The message size.
+     */
+    static void emit(boolean send, Object feature, int id, int bytes)
+    {
+        final SyncEvent event = new SyncEvent();
+        if (event.shouldCommit())
+        {
+            event.send = send;
+            event.feature = feature.getClass().getSimpleName();
+            event.id = id;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    /** Sent flag. */
+    @Label("Sent") boolean send;
+    /** Feature name. */
+    @Label("Feature") String feature;
+    /** Sync id. */
+    @Label("Sync Id") int id;
+    /** Message size. */
+    @Label("Bytes") @DataAmount int bytes;
+
+    /**
+     * Create event.
+     */
+    SyncEvent()
+    {
+        super();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Checkpoint, boss and stage transition event.
+ */
+@Name("com.b3dgs.lionheart.Transition")
+@Label("Transition")
+@Category(
+{
+    "Lionheart", "Gameplay"
+})
+@Description("Checkpoint reached, boss reached or stage change")
+final class TransitionEvent extends jdk.jfr.Event
+{
+    /**
+     * Commit instant event.
+     * 
+     * @param kind The transition kind.
+     * @param target The target (checkpoint index or stage path).
+     */
+    static void emit(String kind, String target)
+    {
+        final TransitionEvent event = new TransitionEvent();
+        if (event.shouldCommit())
+        {
+            event.kind = kind;
+            event.target = target;
+            event.commit();
+        }
+    }
+
+    /** Transition kind. */
+    @Label("Kind") String kind;
+    /** Transition target. */
+    @Label("Target") String target;
+
+    /**
+     * Create event.
+     */
+    TransitionEvent()
+    {
+        super();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2013-2026 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionheart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.audio.AudioFactory;
+import com.b3dgs.lionengine.audio.AudioVoidFormat;
+import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionengine.geom.Coord;
+import com.b3dgs.lionheart.object.feature.Stats;
+import com.b3dgs.lionheart.object.feature.Trackable;
+
+/**
+ * Run stages headless with {@link Simulation}, without window nor rendering, and check the scripted player went forward
+ * without dying. Full stages sweep is tagged <code>simulation</code> and run with the <code>simulation</code>
+ * profile only.
+ */
+final class StageSimulationTest
+{
+    /** Simulated frames per stage. */
+    private static final int FRAMES = 3000;
+    /** Scripted actions period in frames. */
+    private static final int PERIOD = 60;
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(StageSimulationTest.class);
+
+    /**
+     * Init engine.
+     */
+    @BeforeAll
+    static void prepareAll()
+    {
+        EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, AppLionheart.class);
+        AudioFactory.addFormat(new AudioVoidFormat(Arrays.asList("wav", "sc68")));
+        Settings.load();
+    }
+
+    /**
+     * Simulate stage by walking right while attacking and jumping.
+     * 
+     * @param stage The stage to simulate.
+     * @param difficulty The difficulty used.
+     */
+    private static void simulate(Media stage, Difficulty difficulty)
+    {
+        final SimulationInput input = new SimulationInput();
+        input.press(0, DeviceMapping.RIGHT, FRAMES);
+        for (int frame = 0; frame < FRAMES; frame += PERIOD)
+        {
+            input.press(frame, DeviceMapping.ATTACK, 2);
+            input.press(frame + PERIOD / 2, DeviceMapping.JUMP, PERIOD / 4);
+        }
+
+        final Simulation simulation = new Simulation(new GameConfig().with(new InitConfig(stage,
+                                                                                         Constant.STATS_MAX_HEALTH,
+                                                                                         0,
+                                                                                         Constant.STATS_MAX_LIFE,
+                                                                                         1,
+                                                                                         true,
+                                                                                         1,
+                                                                                         difficulty,
+                                                                                         false,
+                                                                                         Optional.empty())),
+                                                     input);
+        simulation.start();
+        try
+        {
+            final Services services = simulation.getScene().getServices();
+            final Trackable player = services.get(Trackable.class);
+            final Stats stats = player.getFeature(Stats.class);
+            final double startX = player.getX();
+            final int life = stats.getLife();
+
+            final AtomicInteger checkpoints = new AtomicInteger();
+            services.get(CheckpointHandler.class).addListener(new CheckpointListener()
+            {
+                @Override
+                public void notifyReachCheckpoint(Transformable transformable, Checkpoint checkpoint, int index)
+                {
+                    checkpoints.incrementAndGet();
+                }
+
+                @Override
+                public void notifyReachStage(String next, Optional<Coord> spawn)
+                {
+                    // Not checked
+                }
+
+                @Override
+                public void notifyReachBoss(double x, double y)
+                {
+                    // Not checked
+                }
+            });
+
+            for (int frame = 0; frame < FRAMES; frame++)
+            {
+                simulation.step(frame);
+            }
+            LOGGER.info("{} moved from {} to {} with {} life and {} checkpoints",
+                        stage.getPath(),
+                        Long.valueOf((long) startX),
+                        Long.valueOf((long) player.getX()),
+                        Integer.valueOf(stats.getLife()),
+                        Integer.valueOf(checkpoints.get()));
+
+            assertEquals(life, stats.getLife(), "Player died on " + stage.getPath());
+            assertTrue(stats.getHealth() > 0, "No health left on " + stage.getPath());
+            assertTrue(player.getX() > startX, "No progress on " + stage.getPath());
+        }
+        finally
+        {
+            simulation.stop();
+        }
+    }
+
+    /**
+     * Test first stage.
+     */
+    @Test
+    void testFirstStage()
+    {
+        simulate(Stage.STAGE1, Difficulty.NORMAL);
+    }
+
+    /**
+     * Test all stages.
+     * 
+     * @param stage The stage value.
+     */
+    @Tag("simulation")
+    @ParameterizedTest
+    @EnumSource(Stage.class)
+    void testStage(Stage stage)
+    {
+        simulate(stage, Difficulty.NORMAL);
+    }
+
+    /**
+     * Test all hard stages.
+     * 
+     * @param stage The stage value.
+     */
+    @Tag("simulation")
+    @ParameterizedTest
+    @EnumSource(StageHard.class)
+    void testStageHard(StageHard stage)
+    {
+        simulate(stage.exists() ? stage : Stage.values()[stage.ordinal()], Difficulty.HARD);
+    }
+
+    /**
+     * Test all veteran stages.
+     * 
+     * @param stage The stage value.
+     */
+    @Tag("simulation")
+    @ParameterizedTest
+    @EnumSource(StageVeteran.class)
+    void testStageVeteran(StageVeteran stage)
+    {
+        simulate(stage, Difficulty.NORMAL);
+    }
+}